@@ -0,0 +1,20 @@
+// Add plugins
+plugins {
+    java
+    id("org.cadixdev.licenser")
+    id("me.champeau.jmh")
+}
+
+// Set properties
+base.archivesName.set("${rootProject.extra["base.id"] as String}-${rootProject.extra["benchmarks.id"] as String}")
+version = rootProject.extra["core.version"] as String
+
+// Add dependencies
+dependencies {
+    jmh(rootProject.project(":core"))
+}
+
+// Setup JMH
+jmh {
+    jmhVersion.set(rootProject.extra["jmh.version"] as String)
+}
@@ -0,0 +1,194 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.benchmark;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Dynamic;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.Encoder;
+import com.mojang.serialization.Keyable;
+import com.mojang.serialization.MapEncoder;
+import com.mojang.serialization.RecordBuilder;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A utility for generating the encoded inputs used by the benchmarks.
+ *
+ * @implNote
+ * Failing elements are encoded as an empty map, as no format represents it as
+ * a valid primitive, unlike numbers which a compressed format may read as strings.
+ */
+public final class BenchmarkData {
+
+    /**
+     * The seed used to select which elements fail.
+     */
+    private static final long SEED = 0x436F646563L;
+
+    /**
+     * Default constructor. Do not initialize.
+     */
+    private BenchmarkData() {
+        throw new AssertionError("BenchmarkData should not be initialized");
+    }
+
+    /**
+     * Selects which elements should fail to decode.
+     *
+     * @param size the number of elements
+     * @param failureRatio the ratio of elements which should fail, between
+     *                     {@code 0} and {@code 1}
+     * @return a set of the indices which should fail
+     */
+    public static BitSet failures(final int size, final double failureRatio) {
+        final BitSet failures = new BitSet(size);
+        if (failureRatio <= 0) return failures;
+        final SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < size; i++)
+            if (random.nextDouble() < failureRatio) failures.set(i);
+        return failures;
+    }
+
+    /**
+     * Returns the name of an element.
+     *
+     * @param index the index of the element
+     * @return the name of the element
+     */
+    public static String name(final int index) {
+        return "element" + index;
+    }
+
+    /**
+     * Returns the names of all elements.
+     *
+     * @param size the number of elements
+     * @return the keys of all elements
+     */
+    public static Keyable keys(final int size) {
+        return Keyable.forStrings(() -> IntStream.range(0, size).mapToObj(BenchmarkData::name));
+    }
+
+    /**
+     * Creates an encoded list of strings.
+     *
+     * @param ops the format operations to encode to
+     * @param size the number of elements
+     * @param failures the indices which should fail to decode
+     * @param <T> the type of the encoded format
+     * @return the encoded list
+     */
+    public static <T> Dynamic<T> stringList(final DynamicOps<T> ops, final int size, final BitSet failures) {
+        return new Dynamic<>(ops, ops.createList(IntStream.range(0, size)
+                .mapToObj(i -> failures.get(i) ? ops.emptyMap() : ops.createString(name(i)))));
+    }
+
+    /**
+     * Creates an encoded list of {@code int}s. Every element is unique.
+     *
+     * @param ops the format operations to encode to
+     * @param size the number of elements
+     * @param failures the indices which should fail to decode
+     * @param <T> the type of the encoded format
+     * @return the encoded list
+     */
+    public static <T> Dynamic<T> intList(final DynamicOps<T> ops, final int size, final BitSet failures) {
+        return new Dynamic<>(ops, ops.createList(IntStream.range(0, size)
+                .mapToObj(i -> failures.get(i) ? ops.emptyMap() : ops.createInt(i))));
+    }
+
+    /**
+     * Creates an encoded map of strings to {@code int}s. Every value is unique.
+     *
+     * @param ops the format operations to encode to
+     * @param size the number of entries
+     * @param failures the indices whose value should fail to decode
+     * @param <T> the type of the encoded format
+     * @return the encoded map
+     */
+    public static <T> Dynamic<T> intMap(final DynamicOps<T> ops, final int size, final BitSet failures) {
+        return new Dynamic<>(ops, ops.createMap(entries(ops, size, failures)));
+    }
+
+    /**
+     * Creates an encoded map of strings to {@code int}s using the map codec's
+     * builder, such that the map is compressed when the format supports it. Every
+     * value is unique.
+     *
+     * @param encoder the map encoder whose builder to use
+     * @param ops the format operations to encode to
+     * @param size the number of entries
+     * @param failures the indices whose value should fail to decode
+     * @param <T> the type of the encoded format
+     * @return the encoded map
+     */
+    public static <T> Dynamic<T> intMap(final MapEncoder<?> encoder, final DynamicOps<T> ops, final int size, final BitSet failures) {
+        final RecordBuilder<T> builder = encoder.compressedBuilder(ops);
+        entries(ops, size, failures).forEach(p -> builder.add(p.getFirst(), p.getSecond()));
+        return new Dynamic<>(ops, builder.build(ops.empty()).getOrThrow(false, System.err::println));
+    }
+
+    /**
+     * Creates the encoded entries of a map of strings to {@code int}s.
+     *
+     * @param ops the format operations to encode to
+     * @param size the number of entries
+     * @param failures the indices whose value should fail to decode
+     * @param <T> the type of the encoded format
+     * @return the encoded entries
+     */
+    private static <T> Stream<Pair<T, T>> entries(final DynamicOps<T> ops, final int size, final BitSet failures) {
+        return IntStream.range(0, size).mapToObj(i -> Pair.of(ops.createString(name(i)), failures.get(i) ? ops.emptyMap() : ops.createInt(i)));
+    }
+
+    /**
+     * Encodes a list of values individually.
+     *
+     * @param encoder the encoder of a value
+     * @param ops the format operations to encode to
+     * @param size the number of values
+     * @param failures the indices which should fail to decode
+     * @param value a function which creates the value at an index
+     * @param <A> the type of the value
+     * @param <T> the type of the encoded format
+     * @return the encoded values
+     */
+    public static <A, T> Inputs<T> inputs(final Encoder<A> encoder, final DynamicOps<T> ops, final int size, final BitSet failures, final IntFunction<A> value) {
+        return new Inputs<>(ops, IntStream.range(0, size).mapToObj(i -> failures.get(i) ? ops.emptyMap()
+                : encoder.encodeStart(ops, value.apply(i)).getOrThrow(false, System.err::println)).toList());
+    }
+
+    /**
+     * Encodes a value.
+     *
+     * @param encoder the encoder of the value
+     * @param ops the format operations to encode to
+     * @param value the value to encode
+     * @param <A> the type of the value
+     * @param <T> the type of the encoded format
+     * @return the encoded value
+     */
+    public static <A, T> DataResult<T> encode(final Encoder<A> encoder, final DynamicOps<T> ops, final A value) {
+        return encoder.encodeStart(ops, value);
+    }
+
+    /**
+     * A list of encoded values alongside the format operations they were encoded
+     * with.
+     *
+     * @param ops the format operations of the values
+     * @param values the encoded values
+     * @param <T> the type of the encoded format
+     */
+    public record Inputs<T>(DynamicOps<T> ops, List<T> values) {}
+}
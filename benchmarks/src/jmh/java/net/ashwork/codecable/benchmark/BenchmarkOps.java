@@ -0,0 +1,52 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.benchmark;
+
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.JsonOps;
+import net.ashwork.codecable.ops.BinaryOps;
+
+/**
+ * The format operations each benchmark is parameterized over.
+ */
+public enum BenchmarkOps {
+    /**
+     * Uncompressed JSON via {@link JsonOps#INSTANCE}.
+     */
+    JSON(JsonOps.INSTANCE),
+    /**
+     * Compressed JSON via {@link JsonOps#COMPRESSED}.
+     */
+    JSON_COMPRESSED(JsonOps.COMPRESSED),
+    /**
+     * Plain Java objects via {@link JavaObjectOps#INSTANCE}.
+     */
+    JAVA(JavaObjectOps.INSTANCE),
+    /**
+     * The binary format via {@link BinaryOps#INSTANCE}.
+     */
+    BINARY(BinaryOps.INSTANCE);
+
+    private final DynamicOps<?> ops;
+
+    /**
+     * Default constructor.
+     *
+     * @param ops the format operations
+     */
+    BenchmarkOps(final DynamicOps<?> ops) {
+        this.ops = ops;
+    }
+
+    /**
+     * Returns the format operations.
+     *
+     * @return the format operations
+     */
+    public DynamicOps<?> ops() {
+        return this.ops;
+    }
+}
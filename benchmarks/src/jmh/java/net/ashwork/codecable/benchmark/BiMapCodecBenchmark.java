@@ -0,0 +1,136 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.benchmark;
+
+import com.google.common.collect.BiMap;
+import com.google.common.collect.ImmutableBiMap;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Dynamic;
+import com.mojang.serialization.Keyable;
+import com.mojang.serialization.MapCodec;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.map.SimpleBiMapCodec;
+import net.ashwork.codecable.map.UnboundedBiMapCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks {@link UnboundedBiMapCodec} and {@link SimpleBiMapCodec} against
+ * {@link Codec#unboundedMap(Codec, Codec)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BiMapCodecBenchmark {
+
+    /**
+     * The number of entries in the bimap.
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * The ratio of entries which fail to decode.
+     */
+    @Param({"0", "0.01", "0.5"})
+    public double failureRatio;
+
+    /**
+     * The format operations to encode and decode with.
+     */
+    @Param
+    public BenchmarkOps ops;
+
+    private Codec<BiMap<String, Integer>> unbounded, simple;
+    private Codec<Map<String, Integer>> dfuUnbounded;
+    private Dynamic<?> unboundedInput, simpleInput;
+    private BiMap<String, Integer> value;
+
+    /**
+     * Creates the codecs and inputs.
+     */
+    @Setup
+    public void setup() {
+        final MapCodec<BiMap<String, Integer>> simpleBiMap = Codecable.simpleBiMap(Codec.STRING, Codec.INT, BenchmarkData.keys(this.size));
+        this.unbounded = Codecable.unboundedBiMap(Codec.STRING, Codec.INT);
+        this.simple = simpleBiMap.codec();
+        this.dfuUnbounded = Codec.unboundedMap(Codec.STRING, Codec.INT);
+
+        final BitSet failures = BenchmarkData.failures(this.size, this.failureRatio);
+        this.unboundedInput = BenchmarkData.intMap(this.ops.ops(), this.size, failures);
+        this.simpleInput = BenchmarkData.intMap(simpleBiMap, this.ops.ops(), this.size, failures);
+        this.value = IntStream.range(0, this.size).boxed().collect(ImmutableBiMap.toImmutableBiMap(BenchmarkData::name, Function.identity()));
+    }
+
+    /**
+     * Decodes the input using {@link Codecable#unboundedBiMap(Codec, Codec)}.
+     *
+     * @return the decoded bimap
+     */
+    @Benchmark
+    public DataResult<BiMap<String, Integer>> decodeUnbounded() {
+        return this.unbounded.parse(this.unboundedInput);
+    }
+
+    /**
+     * Decodes the input using {@link Codec#unboundedMap(Codec, Codec)}.
+     *
+     * @return the decoded map
+     */
+    @Benchmark
+    public DataResult<Map<String, Integer>> decodeDfuUnbounded() {
+        return this.dfuUnbounded.parse(this.unboundedInput);
+    }
+
+    /**
+     * Decodes the input using {@link Codecable#simpleBiMap(Codec, Codec, Keyable)}.
+     *
+     * @return the decoded bimap
+     */
+    @Benchmark
+    public DataResult<BiMap<String, Integer>> decodeSimple() {
+        return this.simple.parse(this.simpleInput);
+    }
+
+    /**
+     * Encodes a bimap using {@link Codecable#unboundedBiMap(Codec, Codec)}.
+     *
+     * @return the encoded bimap
+     */
+    @Benchmark
+    public DataResult<?> encodeUnbounded() {
+        return BenchmarkData.encode(this.unbounded, this.ops.ops(), this.value);
+    }
+
+    /**
+     * Encodes a bimap using {@link Codecable#simpleBiMap(Codec, Codec, Keyable)}.
+     *
+     * @return the encoded bimap
+     */
+    @Benchmark
+    public DataResult<?> encodeSimple() {
+        return BenchmarkData.encode(this.simple, this.ops.ops(), this.value);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.benchmark;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DynamicOps;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.primitive.EnumCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link EnumCodec} as created by {@link Codecable#enumOf(Class)}.
+ * Each invocation encodes or decodes {@link #size} enums individually.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EnumCodecBenchmark {
+
+    /**
+     * The number of enums to encode or decode.
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * The ratio of enums which fail to decode.
+     */
+    @Param({"0", "0.01", "0.5"})
+    public double failureRatio;
+
+    /**
+     * The format operations to encode and decode with.
+     */
+    @Param
+    public BenchmarkOps ops;
+
+    private Codec<Sample> codec;
+    private BenchmarkData.Inputs<?> inputs;
+    private Sample[] values;
+
+    /**
+     * Creates the codec and inputs.
+     */
+    @Setup
+    public void setup() {
+        this.codec = Codecable.enumOf(Sample.class);
+        final Sample[] samples = Sample.values();
+        this.values = new Sample[this.size];
+        for (int i = 0; i < this.size; i++) this.values[i] = samples[i % samples.length];
+        this.inputs = BenchmarkData.inputs(this.codec, this.ops.ops(), this.size, BenchmarkData.failures(this.size, this.failureRatio), i -> this.values[i]);
+    }
+
+    /**
+     * Decodes each input.
+     *
+     * @param blackhole a consumer of the decoded enums
+     */
+    @Benchmark
+    public void decode(final Blackhole blackhole) {
+        decode(this.codec, this.inputs, blackhole);
+    }
+
+    /**
+     * Encodes each enum.
+     *
+     * @param blackhole a consumer of the encoded enums
+     */
+    @Benchmark
+    public void encode(final Blackhole blackhole) {
+        encode(this.codec, this.ops.ops(), this.values, blackhole);
+    }
+
+    /**
+     * Decodes each input.
+     *
+     * @param codec the codec to decode with
+     * @param inputs the encoded inputs
+     * @param blackhole a consumer of the decoded values
+     * @param <A> the type of the value
+     * @param <T> the type of the encoded format
+     */
+    static <A, T> void decode(final Codec<A> codec, final BenchmarkData.Inputs<T> inputs, final Blackhole blackhole) {
+        final DynamicOps<T> ops = inputs.ops();
+        for (final T input : inputs.values()) blackhole.consume(codec.parse(ops, input));
+    }
+
+    /**
+     * Encodes each value.
+     *
+     * @param codec the codec to encode with
+     * @param ops the format operations to encode to
+     * @param values the values to encode
+     * @param blackhole a consumer of the encoded values
+     * @param <A> the type of the value
+     * @param <T> the type of the encoded format
+     */
+    static <A, T> void encode(final Codec<A> codec, final DynamicOps<T> ops, final A[] values, final Blackhole blackhole) {
+        for (final A value : values) blackhole.consume(codec.encodeStart(ops, value));
+    }
+
+    /**
+     * An enum with enough constants to be representative of a configuration
+     * option.
+     */
+    public enum Sample {
+        NORTH, NORTH_EAST, EAST, SOUTH_EAST, SOUTH, SOUTH_WEST, WEST, NORTH_WEST,
+        UP, DOWN, INSIDE, OUTSIDE, LEFT, RIGHT, FRONT, BACK
+    }
+}
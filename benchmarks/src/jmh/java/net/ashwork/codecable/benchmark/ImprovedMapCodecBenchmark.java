@@ -0,0 +1,157 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.benchmark;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Dynamic;
+import com.mojang.serialization.Keyable;
+import com.mojang.serialization.MapCodec;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.map.SimpleImprovedMapCodec;
+import net.ashwork.codecable.map.UnboundedImprovedMapCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks {@link UnboundedImprovedMapCodec} and {@link SimpleImprovedMapCodec}
+ * against {@link Codec#unboundedMap(Codec, Codec)} and
+ * {@link Codec#simpleMap(Codec, Codec, Keyable)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ImprovedMapCodecBenchmark {
+
+    /**
+     * The number of entries in the map.
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * The ratio of entries which fail to decode.
+     */
+    @Param({"0", "0.01", "0.5"})
+    public double failureRatio;
+
+    /**
+     * The format operations to encode and decode with.
+     */
+    @Param
+    public BenchmarkOps ops;
+
+    private Codec<Map<String, Integer>> unbounded, simple, dfuUnbounded, dfuSimple;
+    private Dynamic<?> unboundedInput, simpleInput;
+    private Map<String, Integer> value;
+
+    /**
+     * Creates the codecs and inputs.
+     */
+    @Setup
+    public void setup() {
+        final Keyable keys = BenchmarkData.keys(this.size);
+        final MapCodec<Map<String, Integer>> simpleMap = Codecable.improvedSimpleMap(Codec.STRING, Codec.INT, keys);
+        this.unbounded = Codecable.improvedUnboundedMap(Codec.STRING, Codec.INT);
+        this.simple = simpleMap.codec();
+        this.dfuUnbounded = Codec.unboundedMap(Codec.STRING, Codec.INT);
+        this.dfuSimple = Codec.simpleMap(Codec.STRING, Codec.INT, keys).codec();
+
+        final BitSet failures = BenchmarkData.failures(this.size, this.failureRatio);
+        this.unboundedInput = BenchmarkData.intMap(this.ops.ops(), this.size, failures);
+        this.simpleInput = BenchmarkData.intMap(simpleMap, this.ops.ops(), this.size, failures);
+        this.value = IntStream.range(0, this.size).boxed().collect(Collectors.toUnmodifiableMap(BenchmarkData::name, Function.identity()));
+    }
+
+    /**
+     * Decodes the input using {@link Codecable#improvedUnboundedMap(Codec, Codec)}.
+     *
+     * @return the decoded map
+     */
+    @Benchmark
+    public DataResult<Map<String, Integer>> decodeUnbounded() {
+        return this.unbounded.parse(this.unboundedInput);
+    }
+
+    /**
+     * Decodes the input using {@link Codec#unboundedMap(Codec, Codec)}.
+     *
+     * @return the decoded map
+     */
+    @Benchmark
+    public DataResult<Map<String, Integer>> decodeDfuUnbounded() {
+        return this.dfuUnbounded.parse(this.unboundedInput);
+    }
+
+    /**
+     * Decodes the input using {@link Codecable#improvedSimpleMap(Codec, Codec, Keyable)}.
+     *
+     * @return the decoded map
+     */
+    @Benchmark
+    public DataResult<Map<String, Integer>> decodeSimple() {
+        return this.simple.parse(this.simpleInput);
+    }
+
+    /**
+     * Decodes the input using {@link Codec#simpleMap(Codec, Codec, Keyable)}.
+     *
+     * @return the decoded map
+     */
+    @Benchmark
+    public DataResult<Map<String, Integer>> decodeDfuSimple() {
+        return this.dfuSimple.parse(this.simpleInput);
+    }
+
+    /**
+     * Encodes a map using {@link Codecable#improvedUnboundedMap(Codec, Codec)}.
+     *
+     * @return the encoded map
+     */
+    @Benchmark
+    public DataResult<?> encodeUnbounded() {
+        return BenchmarkData.encode(this.unbounded, this.ops.ops(), this.value);
+    }
+
+    /**
+     * Encodes a map using {@link Codec#unboundedMap(Codec, Codec)}.
+     *
+     * @return the encoded map
+     */
+    @Benchmark
+    public DataResult<?> encodeDfuUnbounded() {
+        return BenchmarkData.encode(this.dfuUnbounded, this.ops.ops(), this.value);
+    }
+
+    /**
+     * Encodes a map using {@link Codecable#improvedSimpleMap(Codec, Codec, Keyable)}.
+     *
+     * @return the encoded map
+     */
+    @Benchmark
+    public DataResult<?> encodeSimple() {
+        return BenchmarkData.encode(this.simple, this.ops.ops(), this.value);
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.datafixers.util.Unit;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.MapLike;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A passthrough {@link DynamicOps} which stores the data as plain Java objects.
+ * Maps are represented as {@link Map}s, lists as {@link List}s, and primitives
+ * as their boxed counterparts.
+ *
+ * @apiNote
+ * This is used as a baseline to measure the cost of a codec without the overhead
+ * of a serialized format.
+ */
+public final class JavaObjectOps implements DynamicOps<Object> {
+
+    /**
+     * The singleton instance of the operations.
+     */
+    public static final JavaObjectOps INSTANCE = new JavaObjectOps();
+
+    /**
+     * Default constructor. Use {@link #INSTANCE}.
+     */
+    private JavaObjectOps() {}
+
+    @Override
+    public Object empty() {
+        return Unit.INSTANCE;
+    }
+
+    @Override
+    public Object emptyMap() {
+        return ImmutableMap.of();
+    }
+
+    @Override
+    public Object emptyList() {
+        return ImmutableList.of();
+    }
+
+    @Override
+    public <U> U convertTo(final DynamicOps<U> outOps, final Object input) {
+        if (input == this.empty()) return outOps.empty();
+        else if (input instanceof Map) return this.convertMap(outOps, input);
+        else if (input instanceof List) return this.convertList(outOps, input);
+        else if (input instanceof String s) return outOps.createString(s);
+        else if (input instanceof Boolean b) return outOps.createBoolean(b);
+        else if (input instanceof Byte b) return outOps.createByte(b);
+        else if (input instanceof Short s) return outOps.createShort(s);
+        else if (input instanceof Integer i) return outOps.createInt(i);
+        else if (input instanceof Long l) return outOps.createLong(l);
+        else if (input instanceof Float f) return outOps.createFloat(f);
+        else if (input instanceof Double d) return outOps.createDouble(d);
+        else if (input instanceof Number n) return outOps.createNumeric(n);
+        throw new IllegalStateException("Unknown java object: " + input);
+    }
+
+    @Override
+    public DataResult<Number> getNumberValue(final Object input) {
+        if (input instanceof Number n) return DataResult.success(n);
+        else if (input instanceof Boolean b) return DataResult.success(b ? 1 : 0);
+        return DataResult.error("Not a number: " + input);
+    }
+
+    @Override
+    public Object createNumeric(final Number i) {
+        return i;
+    }
+
+    @Override
+    public DataResult<Boolean> getBooleanValue(final Object input) {
+        if (input instanceof Boolean b) return DataResult.success(b);
+        else if (input instanceof Number n) return DataResult.success(n.byteValue() != 0);
+        return DataResult.error("Not a boolean: " + input);
+    }
+
+    @Override
+    public Object createBoolean(final boolean value) {
+        return value;
+    }
+
+    @Override
+    public DataResult<String> getStringValue(final Object input) {
+        return input instanceof String s ? DataResult.success(s) : DataResult.error("Not a string: " + input);
+    }
+
+    @Override
+    public Object createString(final String value) {
+        return value;
+    }
+
+    @Override
+    public DataResult<Object> mergeToList(final Object list, final Object value) {
+        return this.mergeToList(list, List.of(value));
+    }
+
+    @Override
+    public DataResult<Object> mergeToList(final Object list, final List<Object> values) {
+        if (list == this.empty()) return DataResult.success(new ArrayList<>(values));
+        else if (list instanceof List<?> l) {
+            final List<Object> result = new ArrayList<>(l.size() + values.size());
+            result.addAll(l);
+            result.addAll(values);
+            return DataResult.success(result);
+        }
+        return DataResult.error("mergeToList called with not a list: " + list, list);
+    }
+
+    @Override
+    public DataResult<Object> mergeToMap(final Object map, final Object key, final Object value) {
+        return this.mergeToMap(map, Map.of(key, value));
+    }
+
+    @Override
+    public DataResult<Object> mergeToMap(final Object map, final Map<Object, Object> values) {
+        if (map == this.empty()) return DataResult.success(new LinkedHashMap<>(values));
+        else if (map instanceof Map<?, ?> m) {
+            final Map<Object, Object> result = new LinkedHashMap<>(m);
+            result.putAll(values);
+            return DataResult.success(result);
+        }
+        return DataResult.error("mergeToMap called with not a map: " + map, map);
+    }
+
+    @Override
+    public DataResult<Object> mergeToMap(final Object map, final MapLike<Object> values) {
+        return this.mergeToMap(map, values.entries().collect(Pair.toMap()));
+    }
+
+    @Override
+    public DataResult<Stream<Pair<Object, Object>>> getMapValues(final Object input) {
+        return input instanceof Map<?, ?> m
+                ? DataResult.success(m.entrySet().stream().map(e -> Pair.of(e.getKey(), e.getValue())))
+                : DataResult.error("Not a map: " + input);
+    }
+
+    @Override
+    public DataResult<Consumer<BiConsumer<Object, Object>>> getMapEntries(final Object input) {
+        return input instanceof Map<?, ?> m
+                ? DataResult.success(m::forEach)
+                : DataResult.error("Not a map: " + input);
+    }
+
+    @Override
+    public DataResult<MapLike<Object>> getMap(final Object input) {
+        if (!(input instanceof Map<?, ?> m)) return DataResult.error("Not a map: " + input);
+        return DataResult.success(new MapLike<>() {
+            @Override
+            public Object get(final Object key) {
+                return m.get(key);
+            }
+
+            @Override
+            public Object get(final String key) {
+                return m.get(key);
+            }
+
+            @Override
+            public Stream<Pair<Object, Object>> entries() {
+                return m.entrySet().stream().map(e -> Pair.of(e.getKey(), e.getValue()));
+            }
+
+            @Override
+            public String toString() {
+                return "MapLike[" + m + ']';
+            }
+        });
+    }
+
+    @Override
+    public Object createMap(final Stream<Pair<Object, Object>> map) {
+        final Map<Object, Object> result = new LinkedHashMap<>();
+        map.forEach(p -> result.put(p.getFirst(), p.getSecond()));
+        return result;
+    }
+
+    @Override
+    public Object createMap(final Map<Object, Object> map) {
+        return map;
+    }
+
+    @Override
+    public DataResult<Stream<Object>> getStream(final Object input) {
+        return input instanceof List<?> l
+                ? DataResult.success(l.stream().map(Object.class::cast))
+                : DataResult.error("Not a list: " + input);
+    }
+
+    @Override
+    public DataResult<Consumer<Consumer<Object>>> getList(final Object input) {
+        return input instanceof List<?> l
+                ? DataResult.success(l::forEach)
+                : DataResult.error("Not a list: " + input);
+    }
+
+    @Override
+    public Object createList(final Stream<Object> input) {
+        return input.collect(Collectors.toList());
+    }
+
+    @Override
+    public Object remove(final Object input, final String key) {
+        if (input instanceof Map<?, ?> m) {
+            final Map<Object, Object> result = new LinkedHashMap<>(m);
+            result.remove(key);
+            return result;
+        }
+        return input;
+    }
+
+    @Override
+    public String toString() {
+        return "Java";
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.benchmark;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Dynamic;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.collection.IntSetCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks {@link IntSetCodec} against a boxed set of integers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PrimitiveSetCodecBenchmark {
+
+    /**
+     * The number of elements in the set.
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * The ratio of elements which fail to decode.
+     */
+    @Param({"0", "0.01", "0.5"})
+    public double failureRatio;
+
+    /**
+     * The format operations to encode and decode with.
+     */
+    @Param
+    public BenchmarkOps ops;
+
+    private Codec<IntSet> intSet;
+    private Codec<Set<Integer>> set;
+    private Dynamic<?> input;
+    private IntSet intSetValue;
+    private Set<Integer> setValue;
+
+    /**
+     * Creates the codecs and inputs.
+     */
+    @Setup
+    public void setup() {
+        this.intSet = Codecable.intSet();
+        this.set = Codecable.set(Codec.INT);
+        this.input = BenchmarkData.intList(this.ops.ops(), this.size, BenchmarkData.failures(this.size, this.failureRatio));
+        this.intSetValue = new IntOpenHashSet(IntStream.range(0, this.size).toArray());
+        this.setValue = IntStream.range(0, this.size).boxed().collect(Collectors.toSet());
+    }
+
+    /**
+     * Decodes the input using {@link Codecable#intSet()}.
+     *
+     * @return the decoded set
+     */
+    @Benchmark
+    public DataResult<IntSet> decodeIntSet() {
+        return this.intSet.parse(this.input);
+    }
+
+    /**
+     * Decodes the input using {@link Codecable#set(Codec)}.
+     *
+     * @return the decoded set
+     */
+    @Benchmark
+    public DataResult<Set<Integer>> decodeSet() {
+        return this.set.parse(this.input);
+    }
+
+    /**
+     * Encodes a set using {@link Codecable#intSet()}.
+     *
+     * @return the encoded set
+     */
+    @Benchmark
+    public DataResult<?> encodeIntSet() {
+        return BenchmarkData.encode(this.intSet, this.ops.ops(), this.intSetValue);
+    }
+
+    /**
+     * Encodes a set using {@link Codecable#set(Codec)}.
+     *
+     * @return the encoded set
+     */
+    @Benchmark
+    public DataResult<?> encodeSet() {
+        return BenchmarkData.encode(this.set, this.ops.ops(), this.setValue);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.benchmark;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Dynamic;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.collection.SetCodec;
+import net.ashwork.codecable.util.ParallelDecode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks {@link SetCodec} against {@link Codec#list(Codec)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SetCodecBenchmark {
+
+    /**
+     * The number of elements in the set.
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * The ratio of elements which fail to decode.
+     */
+    @Param({"0", "0.01", "0.5"})
+    public double failureRatio;
+
+    /**
+     * The format operations to encode and decode with.
+     */
+    @Param
+    public BenchmarkOps ops;
+
+    private Codec<Set<String>> set, stopOnFirstFailure, parallel;
+    private Codec<List<String>> list;
+    private Dynamic<?> input;
+    private Set<String> setValue;
+    private List<String> listValue;
+
+    /**
+     * Creates the codecs and inputs.
+     */
+    @Setup
+    public void setup() {
+        this.set = Codecable.set(Codec.STRING);
+        this.stopOnFirstFailure = Codecable.set(Codec.STRING, false, true);
+        this.parallel = Codecable.set(Codec.STRING, false, false, ParallelDecode.of(1024));
+        this.list = Codec.list(Codec.STRING);
+        this.input = BenchmarkData.stringList(this.ops.ops(), this.size, BenchmarkData.failures(this.size, this.failureRatio));
+        this.listValue = IntStream.range(0, this.size).mapToObj(BenchmarkData::name).toList();
+        this.setValue = Set.copyOf(this.listValue);
+    }
+
+    /**
+     * Decodes the input using {@link Codecable#set(Codec)}.
+     *
+     * @return the decoded set
+     */
+    @Benchmark
+    public DataResult<Set<String>> decodeSet() {
+        return this.set.parse(this.input);
+    }
+
+    /**
+     * Decodes the input using {@link Codecable#set(Codec, boolean, boolean)},
+     * stopping on the first failure.
+     *
+     * @return the decoded set
+     */
+    @Benchmark
+    public DataResult<Set<String>> decodeSetStopOnFirstFailure() {
+        return this.stopOnFirstFailure.parse(this.input);
+    }
+
+    /**
+     * Decodes the input using {@link Codecable#set(Codec, boolean, boolean, ParallelDecode)},
+     * decoding large sets concurrently.
+     *
+     * @return the decoded set
+     */
+    @Benchmark
+    public DataResult<Set<String>> decodeSetParallel() {
+        return this.parallel.parse(this.input);
+    }
+
+    /**
+     * Decodes the input using {@link Codec#list(Codec)}.
+     *
+     * @return the decoded list
+     */
+    @Benchmark
+    public DataResult<List<String>> decodeList() {
+        return this.list.parse(this.input);
+    }
+
+    /**
+     * Encodes a set using {@link Codecable#set(Codec)}.
+     *
+     * @return the encoded set
+     */
+    @Benchmark
+    public DataResult<?> encodeSet() {
+        return BenchmarkData.encode(this.set, this.ops.ops(), this.setValue);
+    }
+
+    /**
+     * Encodes a list using {@link Codec#list(Codec)}.
+     *
+     * @return the encoded list
+     */
+    @Benchmark
+    public DataResult<?> encodeList() {
+        return BenchmarkData.encode(this.list, this.ops.ops(), this.listValue);
+    }
+}
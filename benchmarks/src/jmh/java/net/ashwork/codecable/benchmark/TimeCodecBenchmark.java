@@ -0,0 +1,160 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.benchmark;
+
+import com.mojang.serialization.Codec;
+import net.ashwork.codecable.Codecable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks the ISO time codecs created by
+ * {@link Codecable#temporalAccessor(DateTimeFormatter, TemporalQuery)}. Each
+ * invocation encodes or decodes {@link #size} values individually.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TimeCodecBenchmark {
+
+    /**
+     * The number of values to encode or decode.
+     */
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * The ratio of values which fail to decode.
+     */
+    @Param({"0", "0.01", "0.5"})
+    public double failureRatio;
+
+    /**
+     * The format operations to encode and decode with.
+     */
+    @Param
+    public BenchmarkOps ops;
+
+    /**
+     * The time codec to benchmark.
+     */
+    @Param
+    public TimeCodec codec;
+
+    private BenchmarkData.Inputs<?> inputs;
+    private TemporalAccessor[] values;
+
+    /**
+     * Creates the inputs.
+     */
+    @Setup
+    public void setup() {
+        final SplittableRandom random = new SplittableRandom(this.size);
+        this.values = new TemporalAccessor[this.size];
+        for (int i = 0; i < this.size; i++)
+            // Between 2000-01-01 and 2038-01-19
+            this.values[i] = this.codec.value(Instant.ofEpochSecond(random.nextLong(946_684_800L, Integer.MAX_VALUE), random.nextInt(1_000_000_000)));
+        this.inputs = BenchmarkData.inputs(this.codec.codec(), this.ops.ops(), this.size, BenchmarkData.failures(this.size, this.failureRatio), i -> this.values[i]);
+    }
+
+    /**
+     * Decodes each input.
+     *
+     * @param blackhole a consumer of the decoded values
+     */
+    @Benchmark
+    public void decode(final Blackhole blackhole) {
+        EnumCodecBenchmark.decode(this.codec.codec(), this.inputs, blackhole);
+    }
+
+    /**
+     * Encodes each value.
+     *
+     * @param blackhole a consumer of the encoded values
+     */
+    @Benchmark
+    public void encode(final Blackhole blackhole) {
+        EnumCodecBenchmark.encode(this.codec.codec(), this.ops.ops(), this.values, blackhole);
+    }
+
+    /**
+     * The ISO time codecs within {@link Codecable}.
+     */
+    public enum TimeCodec {
+        INSTANT(Codecable.INSTANT, Function.identity()),
+        LOCAL_DATE(Codecable.LOCAL_DATE, i -> LocalDate.ofInstant(i, ZoneOffset.UTC)),
+        LOCAL_TIME(Codecable.LOCAL_TIME, i -> LocalTime.ofInstant(i, ZoneOffset.UTC)),
+        LOCAL_DATE_TIME(Codecable.LOCAL_DATE_TIME, i -> LocalDateTime.ofInstant(i, ZoneOffset.UTC)),
+        OFFSET_TIME(Codecable.OFFSET_TIME, i -> OffsetTime.ofInstant(i, ZoneOffset.ofHours(2))),
+        OFFSET_DATE_TIME(Codecable.OFFSET_DATE_TIME, i -> OffsetDateTime.ofInstant(i, ZoneOffset.ofHours(2))),
+        ZONED_DATE_TIME(Codecable.ZONED_DATE_TIME, i -> ZonedDateTime.ofInstant(i, ZoneOffset.UTC));
+
+        private final Codec<TemporalAccessor> codec;
+        private final Function<Instant, ? extends TemporalAccessor> value;
+
+        /**
+         * Default constructor.
+         *
+         * @param codec the time codec
+         * @param value a function which creates a value of the codec's type from
+         *              an instant
+         * @param <T> the type of the temporal accessor
+         */
+        @SuppressWarnings("unchecked")
+        <T extends TemporalAccessor> TimeCodec(final Codec<T> codec, final Function<Instant, T> value) {
+            // Values are only ever created by the function of the same codec
+            this.codec = (Codec<TemporalAccessor>) codec;
+            this.value = value;
+        }
+
+        /**
+         * Returns the time codec.
+         *
+         * @return the time codec
+         */
+        public Codec<TemporalAccessor> codec() {
+            return this.codec;
+        }
+
+        /**
+         * Creates a value of the codec's type.
+         *
+         * @param instant the instant the value represents
+         * @return a value of the codec's type
+         */
+        public TemporalAccessor value(final Instant instant) {
+            return this.value.apply(instant);
+        }
+    }
+}
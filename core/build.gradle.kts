@@ -11,4 +11,5 @@ version = rootProject.extra["core.version"] as String
 // Add dependencies
 dependencies {
     api(group = "com.mojang", name = "datafixerupper", version = rootProject.extra["dfu.version"] as String)
+    api(group = "it.unimi.dsi", name = "fastutil", version = rootProject.extra["fastutil.version"] as String)
 }
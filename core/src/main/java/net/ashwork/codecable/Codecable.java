@@ -12,15 +12,28 @@ import com.mojang.serialization.Keyable;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.SimpleMapCodec;
 import com.mojang.serialization.codecs.UnboundedMapCodec;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.ashwork.codecable.collection.EnumSetCodec;
+import net.ashwork.codecable.collection.IntSetCodec;
+import net.ashwork.codecable.collection.LongSetCodec;
 import net.ashwork.codecable.collection.SetCodec;
-import net.ashwork.codecable.function.DataResultFunction;
 import net.ashwork.codecable.function.ThrowingFunction;
+import net.ashwork.codecable.map.EnumMapCodec;
 import net.ashwork.codecable.map.SimpleBiMapCodec;
 import net.ashwork.codecable.map.SimpleImprovedMapCodec;
 import net.ashwork.codecable.map.UnboundedBiMapCodec;
+import net.ashwork.codecable.map.UnboundedIntImprovedMapCodec;
 import net.ashwork.codecable.map.UnboundedImprovedMapCodec;
+import net.ashwork.codecable.primitive.CachingCodec;
+import net.ashwork.codecable.primitive.EncodeCachingCodec;
 import net.ashwork.codecable.primitive.EnumCodec;
+import net.ashwork.codecable.primitive.EnumLookup;
+import net.ashwork.codecable.primitive.TemporalCodec;
+import net.ashwork.codecable.primitive.TemporalEpoch;
 import net.ashwork.codecable.primitive.WrapperCodec;
+import net.ashwork.codecable.util.ParallelDecode;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -38,8 +51,8 @@ import java.time.chrono.ThaiBuddhistDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQuery;
-import java.util.Arrays;
-import java.util.Locale;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -66,6 +79,66 @@ public interface Codecable<A> extends Codec<A> {
         return new WrapperCodec<>(codec);
     }
 
+    /**
+     * Wraps a codec to memoize its decode and encode results, evicting the least
+     * recently used results once {@code maxSize} are cached. Decoded inputs are
+     * compared by equality.
+     *
+     * @apiNote
+     * Cached results are shared between callers, so they should not be modified.
+     *
+     * @param codec the codec delegate to wrap
+     * @param maxSize the maximum number of decode results and encode results
+     *                cached
+     * @param <A> the type of the object
+     * @return a caching codec
+     *
+     * @see CachingCodec
+     */
+    static <A> CachingCodec<A> cached(final Codec<A> codec, final int maxSize) {
+        return cached(codec, maxSize, false);
+    }
+
+    /**
+     * Wraps a codec to memoize its decode and encode results, evicting the least
+     * recently used results once {@code maxSize} are cached.
+     *
+     * @apiNote
+     * Cached results are shared between callers, so they should not be modified.
+     *
+     * @param codec the codec delegate to wrap
+     * @param maxSize the maximum number of decode results and encode results
+     *                cached
+     * @param identityInputs if {@code true}, decoded inputs are compared by
+     *                       identity, which should only be used when the inputs
+     *                       are canonicalized
+     * @param <A> the type of the object
+     * @return a caching codec
+     *
+     * @see CachingCodec
+     */
+    static <A> CachingCodec<A> cached(final Codec<A> codec, final int maxSize, final boolean identityInputs) {
+        return new CachingCodec<>(codec, maxSize, identityInputs);
+    }
+
+    /**
+     * Wraps a codec of immutable values to cache the encoded data of each value
+     * by identity, per ops. Values are held weakly, so a cached result is dropped
+     * once its value is no longer used.
+     *
+     * @apiNote
+     * Cached results are shared between callers, so they should not be modified.
+     *
+     * @param codec the codec delegate to wrap
+     * @param <A> the type of the object
+     * @return an encode caching codec
+     *
+     * @see EncodeCachingCodec
+     */
+    static <A> EncodeCachingCodec<A> encodeCached(final Codec<A> codec) {
+        return new EncodeCachingCodec<>(codec);
+    }
+
     /**
      * Creates a key-compressible map {@link MapCodec}. When an error is found, the
      * map will continue reading the data and supply the result in the partial
@@ -154,6 +227,58 @@ public interface Codecable<A> extends Codec<A> {
         return new UnboundedImprovedMapCodec<>(keyCodec, valueCodec, stopOnFirstFailure);
     }
 
+    /**
+     * Creates a map codec which decodes its entries concurrently once there are
+     * enough of them.
+     *
+     * @apiNote
+     * This is an improved form of {@link UnboundedMapCodec} which makes maps more
+     * resistant to errored entries as the user specifies. The decoded map and any
+     * errors are the same as if the map was decoded sequentially.
+     *
+     * @param keyCodec a codec for the keys of the map
+     * @param valueCodec a codec for the values of the map
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           map as soon as an error is found. The map will
+     *                           appear in the partial when the codec errors
+     * @param parallel the configuration for decoding large maps concurrently
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return a map codec
+     *
+     * @see Codec#unboundedMap(Codec, Codec)
+     */
+    static <K, V> Codecable<Map<K, V>> improvedUnboundedMap(final Codec<K> keyCodec, final Codec<V> valueCodec, final boolean stopOnFirstFailure, final ParallelDecode parallel) {
+        return new UnboundedImprovedMapCodec<>(keyCodec, valueCodec, stopOnFirstFailure, parallel);
+    }
+
+    /**
+     * Creates a map codec with {@code int} keys. When an error is found, the map
+     * will continue reading the data and supply the result in the partial stored
+     * within the errored {@link DataResult}.
+     *
+     * @param valueCodec a codec for the values of the map
+     * @param <V> the type of the value
+     * @return a map codec with {@code int} keys
+     */
+    static <V> Codecable<Int2ObjectMap<V>> improvedUnboundedIntMap(final Codec<V> valueCodec) {
+        return improvedUnboundedIntMap(valueCodec, false);
+    }
+
+    /**
+     * Creates a map codec with {@code int} keys.
+     *
+     * @param valueCodec a codec for the values of the map
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           map as soon as an error is found. The map will
+     *                           appear in the partial when the codec errors
+     * @param <V> the type of the value
+     * @return a map codec with {@code int} keys
+     */
+    static <V> Codecable<Int2ObjectMap<V>> improvedUnboundedIntMap(final Codec<V> valueCodec, final boolean stopOnFirstFailure) {
+        return new UnboundedIntImprovedMapCodec<>(valueCodec, stopOnFirstFailure);
+    }
+
     /**
      * Creates a key-compressible bimap {@link MapCodec}. When an error is found,
      * the bimap will continue reading the data and supply the result in the partial
@@ -259,6 +384,27 @@ public interface Codecable<A> extends Codec<A> {
         return new UnboundedBiMapCodec<>(keyCodec, valueCodec, failOnDuplicate, stopOnFirstFailure);
     }
 
+    /**
+     * Creates a bimap codec which decodes its entries concurrently once there are
+     * enough of them. The decoded bimap and any errors are the same as if the
+     * bimap was decoded sequentially.
+     *
+     * @param keyCodec a codec for the keys of the bimap
+     * @param valueCodec a codec for the values of the bimap
+     * @param failOnDuplicate if {@code true}, any duplicate values will return an
+     *                        errored {@link DataResult}
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           bimap as soon as an error is found. The bimap will
+     *                           appear in the partial when the codec errors
+     * @param parallel the configuration for decoding large bimaps concurrently
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     * @return a bimap codec
+     */
+    static <K, V> Codecable<BiMap<K, V>> unboundedBiMap(final Codec<K> keyCodec, final Codec<V> valueCodec, final boolean failOnDuplicate, final boolean stopOnFirstFailure, final ParallelDecode parallel) {
+        return new UnboundedBiMapCodec<>(keyCodec, valueCodec, failOnDuplicate, stopOnFirstFailure, parallel);
+    }
+
     /**
      * Creates a set codec. When an error is found, the set will continue reading
      * the data and supply the result in the partial stored within the errored
@@ -304,6 +450,103 @@ public interface Codecable<A> extends Codec<A> {
         return new SetCodec<>(elementCodec, failOnDuplicate, stopOnFirstFailure);
     }
 
+    /**
+     * Creates a set codec which decodes its elements concurrently once there are
+     * enough of them. The decoded set and any errors are the same as if the set
+     * was decoded sequentially.
+     *
+     * @param elementCodec a codec for the elements of the set
+     * @param failOnDuplicate if {@code true}, any duplicate elements will return an
+     *                        errored {@link DataResult}
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           set as soon as an error is found. The set will
+     *                           appear in the partial when the codec errors
+     * @param parallel the configuration for decoding large sets concurrently
+     * @param <E> the type of the element
+     * @return a set codec
+     */
+    static <E> Codecable<Set<E>> set(final Codec<E> elementCodec, final boolean failOnDuplicate, final boolean stopOnFirstFailure, final ParallelDecode parallel) {
+        return new SetCodec<>(elementCodec, failOnDuplicate, stopOnFirstFailure, parallel);
+    }
+
+    /**
+     * Creates a {@code int} set codec. When an error is found, the set will
+     * continue reading the data and supply the result in the partial stored within
+     * the errored {@link DataResult}. If a duplicate value is found, the set will
+     * discard the duplicate element.
+     *
+     * @return a {@code int} set codec
+     */
+    static Codecable<IntSet> intSet() {
+        return intSet(false);
+    }
+
+    /**
+     * Creates a {@code int} set codec. When an error is found, the set will
+     * continue reading the data and supply the result in the partial stored within
+     * the errored {@link DataResult}.
+     *
+     * @param failOnDuplicate if {@code true}, any duplicate elements will return an
+     *                        errored {@link DataResult}
+     * @return a {@code int} set codec
+     */
+    static Codecable<IntSet> intSet(final boolean failOnDuplicate) {
+        return intSet(failOnDuplicate, false);
+    }
+
+    /**
+     * Creates a {@code int} set codec.
+     *
+     * @param failOnDuplicate if {@code true}, any duplicate elements will return an
+     *                        errored {@link DataResult}
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           set as soon as an error is found. The set will
+     *                           appear in the partial when the codec errors
+     * @return a {@code int} set codec
+     */
+    static Codecable<IntSet> intSet(final boolean failOnDuplicate, final boolean stopOnFirstFailure) {
+        return new IntSetCodec(failOnDuplicate, stopOnFirstFailure);
+    }
+
+    /**
+     * Creates a {@code long} set codec. When an error is found, the set will
+     * continue reading the data and supply the result in the partial stored within
+     * the errored {@link DataResult}. If a duplicate value is found, the set will
+     * discard the duplicate element.
+     *
+     * @return a {@code long} set codec
+     */
+    static Codecable<LongSet> longSet() {
+        return longSet(false);
+    }
+
+    /**
+     * Creates a {@code long} set codec. When an error is found, the set will
+     * continue reading the data and supply the result in the partial stored within
+     * the errored {@link DataResult}.
+     *
+     * @param failOnDuplicate if {@code true}, any duplicate elements will return an
+     *                        errored {@link DataResult}
+     * @return a {@code long} set codec
+     */
+    static Codecable<LongSet> longSet(final boolean failOnDuplicate) {
+        return longSet(failOnDuplicate, false);
+    }
+
+    /**
+     * Creates a {@code long} set codec.
+     *
+     * @param failOnDuplicate if {@code true}, any duplicate elements will return an
+     *                        errored {@link DataResult}
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           set as soon as an error is found. The set will
+     *                           appear in the partial when the codec errors
+     * @return a {@code long} set codec
+     */
+    static Codecable<LongSet> longSet(final boolean failOnDuplicate, final boolean stopOnFirstFailure) {
+        return new LongSetCodec(failOnDuplicate, stopOnFirstFailure);
+    }
+
     /**
      * Creates an enum codec. Encodes the enum using its lowercase name via
      * {@link Enum#name()} and decodes by checking the string ignoring cases.
@@ -315,9 +558,8 @@ public interface Codecable<A> extends Codec<A> {
      * @return an enum codec
      */
     static <E extends Enum<E>> Codecable<E> enumOf(final Class<E> enumClass) {
-        return enumOf(enumClass, s -> Arrays.stream(enumClass.getEnumConstants())
-                        .filter(e -> s.equalsIgnoreCase(e.name())).findFirst().orElseThrow(),
-                e -> e.name().toLowerCase(Locale.ROOT));
+        final EnumLookup<E> lookup = EnumLookup.of(enumClass);
+        return EnumCodec.ofPartial(lookup::find, lookup::name, lookup::findByOrdinal, Enum::ordinal);
     }
 
     /**
@@ -333,7 +575,7 @@ public interface Codecable<A> extends Codec<A> {
      * @return an enum codec
      */
     static <E extends Enum<E>> Codecable<E> enumOf(final Class<E> enumClass, final ThrowingFunction<String, E> fromString, final Function<E, String> toString) {
-        return enumOf(fromString, toString, i -> enumClass.getEnumConstants()[i], Enum::ordinal);
+        return EnumCodec.ofPartialInt(fromString, toString, EnumLookup.of(enumClass)::findByOrdinal, Enum::ordinal);
     }
 
     /**
@@ -355,13 +597,62 @@ public interface Codecable<A> extends Codec<A> {
     }
 
     /**
-     * Creates an offset time codec.
+     * Creates an enum set codec. Encodes the set as a list of the lowercase names
+     * of its elements. When compressed, encodes the set as a bitmask of the
+     * ordinals of its elements.
+     *
+     * @param enumClass the class of the enum
+     * @param <E> the type of the enum
+     * @return an enum set codec
+     */
+    static <E extends Enum<E>> Codecable<EnumSet<E>> enumSet(final Class<E> enumClass) {
+        return new EnumSetCodec<>(enumClass);
+    }
+
+    /**
+     * Creates an enum map codec. When an error is found, the map will continue
+     * reading the data and supply the result in the partial stored within the
+     * errored {@link DataResult}.
+     *
+     * @param enumClass the class of the enum key
+     * @param valueCodec a codec for the values of the map
+     * @param <E> the type of the enum key
+     * @param <V> the type of the value
+     * @return an enum map codec
+     */
+    static <E extends Enum<E>, V> Codecable<EnumMap<E, V>> enumMap(final Class<E> enumClass, final Codec<V> valueCodec) {
+        return enumMap(enumClass, valueCodec, false);
+    }
+
+    /**
+     * Creates an enum map codec.
+     *
+     * @param enumClass the class of the enum key
+     * @param valueCodec a codec for the values of the map
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           map as soon as an error is found. The map will
+     *                           appear in the partial when the codec errors
+     * @param <E> the type of the enum key
+     * @param <V> the type of the value
+     * @return an enum map codec
+     */
+    static <E extends Enum<E>, V> Codecable<EnumMap<E, V>> enumMap(final Class<E> enumClass, final Codec<V> valueCodec, final boolean stopOnFirstFailure) {
+        return new EnumMapCodec<>(enumClass, valueCodec, stopOnFirstFailure);
+    }
+
+    /**
+     * Creates an offset time codec. When compressed, the offset time is encoded
+     * as {@code [nanoOfDay, offsetSeconds]}.
+     *
+     * @implNote
+     * {@link DateTimeFormatter#ISO_OFFSET_TIME} is parsed and formatted by hand using
+     * {@link TemporalCodec#isoOffsetTime()}.
      *
      * @param formatter a formatter to encode and decode the offset time
      * @return an offset time codec
      */
     static Codecable<OffsetTime> offsetTime(final DateTimeFormatter formatter) {
-        return temporalAccessor(formatter, OffsetTime::from);
+        return formatter == DateTimeFormatter.ISO_OFFSET_TIME ? TemporalCodec.isoOffsetTime() : new TemporalCodec<>(formatter, OffsetTime::from, TemporalEpoch.OFFSET_TIME);
     }
 
     /**
@@ -407,81 +698,113 @@ public interface Codecable<A> extends Codec<A> {
     /**
      * Creates a zoned date time codec.
      *
+     * @implNote
+     * {@link DateTimeFormatter#ISO_ZONED_DATE_TIME} is parsed and formatted by hand using
+     * {@link TemporalCodec#isoZonedDateTime()}.
+     *
      * @param formatter a formatter to encode and decode the zoned date time
      * @return a zoned date time codec
      */
     static Codecable<ZonedDateTime> zonedDateTime(final DateTimeFormatter formatter) {
-        return temporalAccessor(formatter, ZonedDateTime::from);
+        return formatter == DateTimeFormatter.ISO_ZONED_DATE_TIME ? TemporalCodec.isoZonedDateTime() : temporalAccessor(formatter, ZonedDateTime::from);
     }
 
     /**
-     * Creates a local date time codec.
+     * Creates a local date time codec. When compressed, the local date time is
+     * encoded as epoch milliseconds or {@code [epochSecond, nano]} in UTC.
+     *
+     * @implNote
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} is parsed and formatted by hand using
+     * {@link TemporalCodec#isoLocalDateTime()}.
      *
      * @param formatter a formatter to encode and decode the local date time
      * @return a local date time codec
      */
     static Codecable<LocalDateTime> localDateTime(final DateTimeFormatter formatter) {
-        return temporalAccessor(formatter, LocalDateTime::from);
+        return formatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME ? TemporalCodec.isoLocalDateTime() : new TemporalCodec<>(formatter, LocalDateTime::from, TemporalEpoch.LOCAL_DATE_TIME);
     }
 
     /**
-     * Creates an instant codec.
+     * Creates an instant codec. When compressed, the instant is encoded as
+     * epoch milliseconds or {@code [epochSecond, nano]}.
+     *
+     * @implNote
+     * {@link DateTimeFormatter#ISO_INSTANT} is parsed and formatted by hand using
+     * {@link TemporalCodec#isoInstant()}.
      *
      * @param formatter a formatter to encode and decode the instant
      * @return an instant codec
      */
     static Codecable<Instant> instant(final DateTimeFormatter formatter) {
-        return temporalAccessor(formatter, Instant::from);
+        return formatter == DateTimeFormatter.ISO_INSTANT ? TemporalCodec.isoInstant() : new TemporalCodec<>(formatter, Instant::from, TemporalEpoch.INSTANT);
     }
 
     /**
-     * Creates an offset date time codec.
+     * Creates an offset date time codec. When compressed, the offset date time
+     * is encoded as {@code [epochMilli, offsetSeconds]} or
+     * {@code [epochSecond, nano, offsetSeconds]}.
+     *
+     * @implNote
+     * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} is parsed and formatted by hand using
+     * {@link TemporalCodec#isoOffsetDateTime()}.
      *
      * @param formatter a formatter to encode and decode the offset date time
      * @return an offset date time codec
      */
     static Codecable<OffsetDateTime> offsetDateTime(final DateTimeFormatter formatter) {
-        return temporalAccessor(formatter, OffsetDateTime::from);
+        return formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME ? TemporalCodec.isoOffsetDateTime() : new TemporalCodec<>(formatter, OffsetDateTime::from, TemporalEpoch.OFFSET_DATE_TIME);
     }
 
     /**
-     * Creates a year codec.
+     * Creates a year codec. When compressed, the year is encoded as its
+     * proleptic year.
      *
      * @param formatter a formatter to encode and decode the year
      * @return a year codec
      */
     static Codecable<Year> year(final DateTimeFormatter formatter) {
-        return temporalAccessor(formatter, Year::from);
+        return new TemporalCodec<>(formatter, Year::from, TemporalEpoch.YEAR);
     }
 
     /**
-     * Creates a local date codec.
+     * Creates a local date codec. When compressed, the local date is encoded as
+     * its epoch day.
+     *
+     * @implNote
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE} is parsed and formatted by hand using
+     * {@link TemporalCodec#isoLocalDate()}.
      *
      * @param formatter a formatter to encode and decode the local date
      * @return a local date codec
      */
     static Codecable<LocalDate> localDate(final DateTimeFormatter formatter) {
-        return temporalAccessor(formatter, LocalDate::from);
+        return formatter == DateTimeFormatter.ISO_LOCAL_DATE ? TemporalCodec.isoLocalDate() : new TemporalCodec<>(formatter, LocalDate::from, TemporalEpoch.LOCAL_DATE);
     }
 
     /**
-     * Creates a local time codec.
+     * Creates a local time codec. When compressed, the local time is encoded as
+     * its nano of day.
+     *
+     * @implNote
+     * {@link DateTimeFormatter#ISO_LOCAL_TIME} is parsed and formatted by hand using
+     * {@link TemporalCodec#isoLocalTime()}.
      *
      * @param formatter a formatter to encode and decode the local time
      * @return a local time codec
      */
     static Codecable<LocalTime> localTime(final DateTimeFormatter formatter) {
-        return temporalAccessor(formatter, LocalTime::from);
+        return formatter == DateTimeFormatter.ISO_LOCAL_TIME ? TemporalCodec.isoLocalTime() : new TemporalCodec<>(formatter, LocalTime::from, TemporalEpoch.LOCAL_TIME);
     }
 
     /**
-     * Creates a year month codec.
+     * Creates a year month codec. When compressed, the year month is encoded as
+     * its proleptic month.
      *
      * @param formatter a formatter to encode and decode the year month
      * @return a year month codec
      */
     static Codecable<YearMonth> yearMonth(final DateTimeFormatter formatter) {
-        return temporalAccessor(formatter, YearMonth::from);
+        return new TemporalCodec<>(formatter, YearMonth::from, TemporalEpoch.YEAR_MONTH);
     }
 
     /**
@@ -493,7 +816,7 @@ public interface Codecable<A> extends Codec<A> {
      * @return a temporal accessor codec
      */
     static <T extends TemporalAccessor> Codecable<T> temporalAccessor(final DateTimeFormatter formatter, final TemporalQuery<T> query) {
-        return wrap(Codec.STRING.flatXmap(new DataResultFunction<>(s -> formatter.parse(s, query)), new DataResultFunction<>(formatter::format)));
+        return new TemporalCodec<>(formatter, query, null);
     }
 
     /**
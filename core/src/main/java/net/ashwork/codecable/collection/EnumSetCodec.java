@@ -0,0 +1,204 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.collection;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.Lifecycle;
+import com.mojang.serialization.ListBuilder;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.primitive.EnumLookup;
+import net.ashwork.codecable.util.ErrorMessage;
+import net.ashwork.codecable.util.ErrorReport;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+/**
+ * A codec for an {@link EnumSet}. Encodes the set as a list of the lowercase
+ * names of its elements. When compressed, encodes the set as a bitmask of the
+ * ordinals of its elements: a {@code long} if the enum has at most 64 constants,
+ * or a list of {@code long}s otherwise.
+ *
+ * @apiNote
+ * Duplicate elements are discarded. When a name or ordinal cannot be decoded,
+ * the set will continue reading the data and supply the result in the partial
+ * stored within the errored {@link DataResult}.
+ *
+ * @param <E> the type of the enum
+ */
+public final class EnumSetCodec<E extends Enum<E>> implements Codecable<EnumSet<E>> {
+
+    private final Class<E> enumClass;
+    private final EnumLookup<E> lookup;
+
+    /**
+     * Default constructor.
+     *
+     * @param enumClass the class of the enum
+     */
+    public EnumSetCodec(final Class<E> enumClass) {
+        this.enumClass = enumClass;
+        this.lookup = EnumLookup.of(enumClass);
+    }
+
+    @Override
+    public <T> DataResult<Pair<EnumSet<E>, T>> decode(final DynamicOps<T> ops, final T input) {
+        return ops.compressMaps() ? this.decodeBitmask(ops, input) : this.decodeNames(ops, input);
+    }
+
+    /**
+     * Decodes a set from a bitmask of ordinals.
+     *
+     * @param ops the format operations to decode from
+     * @param input a {@code long} or list of {@code long}s
+     * @param <T> the type of the encoded format
+     * @return a {@link DataResult} containing the set on success or a partial of
+     *         the set with an error message on failure
+     */
+    private <T> DataResult<Pair<EnumSet<E>, T>> decodeBitmask(final DynamicOps<T> ops, final T input) {
+        // Read the words of the bitmask
+        final long[] words;
+        final Optional<Number> number = ops.getNumberValue(input).result();
+        if (number.isPresent()) words = new long[] {number.get().longValue()};
+        else {
+            final DataResult<LongStream> stream = ops.getLongStream(input);
+            if (stream.result().isEmpty()) return DataResult.error("Not a bitmask: " + input);
+            words = stream.result().get().toArray();
+        }
+
+        // Add the constant for each set bit
+        final EnumSet<E> read = EnumSet.noneOf(this.enumClass);
+        boolean unknown = false;
+        for (int i = 0; i < words.length; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                final int ordinal = i * Long.SIZE + Long.numberOfTrailingZeros(word);
+                if (ordinal < this.lookup.size()) read.add(this.lookup.byOrdinal(ordinal));
+                else unknown = true;
+            }
+        }
+
+        final Pair<EnumSet<E>, T> pair = Pair.of(read, ops.empty());
+        return unknown ? DataResult.error("Unknown enum ids in bitmask: " + input, pair, Lifecycle.stable())
+                : DataResult.success(pair, Lifecycle.stable());
+    }
+
+    /**
+     * Decodes a set from a list of names.
+     *
+     * @param ops the format operations to decode from
+     * @param input a list of names
+     * @param <T> the type of the encoded format
+     * @return a {@link DataResult} containing the set on success or a partial of
+     *         the set with an error message on failure
+     */
+    private <T> DataResult<Pair<EnumSet<E>, T>> decodeNames(final DynamicOps<T> ops, final T input) {
+        return ops.getList(input).setLifecycle(Lifecycle.stable()).flatMap(list -> {
+            final NameReader<E, T> reader = new NameReader<>(this, ops);
+            list.accept(reader);
+            return reader.build();
+        });
+    }
+
+    @Override
+    public <T> DataResult<T> encode(final EnumSet<E> input, final DynamicOps<T> ops, final T prefix) {
+        // Encode as a list of names
+        if (!ops.compressMaps()) {
+            final ListBuilder<T> builder = ops.listBuilder();
+            input.forEach(e -> builder.add(ops.createString(this.lookup.name(e))));
+            return builder.build(prefix);
+        }
+
+        // Otherwise encode as a bitmask
+        final long[] words = new long[Math.max(1, (this.lookup.size() + Long.SIZE - 1) / Long.SIZE)];
+        input.forEach(e -> words[e.ordinal() / Long.SIZE] |= 1L << e.ordinal());
+        return ops.mergeToPrimitive(prefix, words.length == 1 ? ops.createLong(words[0]) : ops.createLongList(LongStream.of(words)));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        final EnumSetCodec<?> that = (EnumSetCodec<?>) o;
+        return Objects.equals(this.enumClass, that.enumClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.enumClass);
+    }
+
+    @Override
+    public String toString() {
+        return "EnumSetCodec[" + this.enumClass.getSimpleName() + ']';
+    }
+
+    /**
+     * A consumer which decodes each name of a list into an {@link EnumSet}.
+     *
+     * @implNote
+     * The error message and {@link ErrorReport} of failed inputs are only created
+     * once the first failure is encountered, such that a list which decodes
+     * cleanly only allocates the set.
+     *
+     * @param <E> the type of the enum
+     * @param <T> the type of the encoded format
+     */
+    private static final class NameReader<E extends Enum<E>, T> implements Consumer<T> {
+
+        private final EnumSetCodec<E> codec;
+        private final DynamicOps<T> ops;
+        private final EnumSet<E> read;
+        private ErrorMessage errorMessage;
+        private ErrorReport<T> report;
+
+        /**
+         * Default constructor.
+         *
+         * @param codec the enum set codec being decoded
+         * @param ops the format operations to decode from
+         */
+        private NameReader(final EnumSetCodec<E> codec, final DynamicOps<T> ops) {
+            this.codec = codec;
+            this.ops = ops;
+            this.read = EnumSet.noneOf(codec.enumClass);
+        }
+
+        @Override
+        public void accept(final T element) {
+            final DataResult<String> name = this.ops.getStringValue(element);
+            final E constant = name.result().map(this.codec.lookup::find).orElse(null);
+            if (constant != null) {
+                this.read.add(constant);
+                return;
+            }
+
+            // Otherwise record failure
+            if (this.report == null) {
+                this.errorMessage = new ErrorMessage();
+                this.report = new ErrorReport<>(this.ops);
+            }
+            this.report.add("failed inputs", element);
+            this.errorMessage.append(name.result().map(s -> "Unknown enum string: " + s)
+                    .orElseGet(() -> name.error().map(DataResult.PartialResult::message).orElse("")));
+        }
+
+        /**
+         * Builds the result of the decoded names.
+         *
+         * @return a {@link DataResult} containing the set on success or a partial
+         *         of the set with an error message on failure
+         */
+        private DataResult<Pair<EnumSet<E>, T>> build() {
+            if (this.report == null) return DataResult.success(Pair.of(this.read, this.ops.emptyList()), Lifecycle.stable());
+            return DataResult.error(this.report.appendTo(this.errorMessage.toString()), Pair.of(this.read, this.report.retained("failed inputs")), Lifecycle.stable());
+        }
+    }
+}
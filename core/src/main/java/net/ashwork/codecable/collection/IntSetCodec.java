@@ -0,0 +1,93 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.collection;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.util.ErrorReport;
+
+import java.util.Optional;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A codec for a set of {@code int}s. Provides the same configurations as a
+ * {@link SetCodec} without boxing the elements.
+ *
+ * @apiNote
+ * On failure, the remaining input only holds the failed inputs retained by the
+ * {@link ErrorReport}.
+ *
+ * @param failOnDuplicate if {@code true}, any duplicate elements will return an
+ *                        errored {@link DataResult}
+ * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+ *                           set as soon as an error is found. The set will
+ *                           appear in the partial when the codec errors
+ *
+ * @see SetCodec
+ */
+public record IntSetCodec(boolean failOnDuplicate, boolean stopOnFirstFailure) implements Codecable<IntSet> {
+
+    @Override
+    public <T> DataResult<Pair<IntSet, T>> decode(final DynamicOps<T> ops, final T input) {
+        return new ElementReader<>(this, ops).read(input);
+    }
+
+    @Override
+    public <T> DataResult<T> encode(final IntSet input, final DynamicOps<T> ops, final T prefix) {
+        return ops.mergeToPrimitive(prefix, ops.createIntList(input.intStream()));
+    }
+
+    @Override
+    public String toString() {
+        return "IntSetCodec";
+    }
+
+    /**
+     * A reader which decodes {@code int}s into a set.
+     *
+     * @param <T> the type of the encoded format
+     */
+    private static final class ElementReader<T> extends PrimitiveSetReader<IntSet, T> implements IntConsumer {
+
+        /**
+         * Default constructor.
+         *
+         * @param codec the set codec being decoded
+         * @param ops the format operations to decode from
+         */
+        private ElementReader(final IntSetCodec codec, final DynamicOps<T> ops) {
+            super(ops, new IntOpenHashSet(), IntSets::unmodifiable, codec.failOnDuplicate, codec.stopOnFirstFailure);
+        }
+
+        @Override
+        boolean readStream(final T input) {
+            // Read the stream directly if natively supported
+            if (!PrimitiveStreams.hasIntStream(this.ops)) return false;
+            final Optional<IntStream> stream = this.ops.getIntStream(input).result();
+            stream.ifPresent(s -> s.forEach(this));
+            return stream.isPresent();
+        }
+
+        @Override
+        void add(final Number value, final T element) {
+            final int primitive = value.intValue();
+            if (!this.read.add(primitive)) this.duplicate(primitive, element);
+        }
+
+        @Override
+        public void accept(final int value) {
+            // If no other data should be parsed after failure, just store the element
+            if (this.stopped()) this.unread(this.ops.createInt(value));
+            else if (!this.read.add(value)) this.duplicate(value, this.ops.createInt(value));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.collection;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.util.ErrorReport;
+
+import java.util.Optional;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A codec for a set of {@code long}s. Provides the same configurations as a
+ * {@link SetCodec} without boxing the elements.
+ *
+ * @apiNote
+ * On failure, the remaining input only holds the failed inputs retained by the
+ * {@link ErrorReport}.
+ *
+ * @param failOnDuplicate if {@code true}, any duplicate elements will return an
+ *                        errored {@link DataResult}
+ * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+ *                           set as soon as an error is found. The set will
+ *                           appear in the partial when the codec errors
+ *
+ * @see SetCodec
+ */
+public record LongSetCodec(boolean failOnDuplicate, boolean stopOnFirstFailure) implements Codecable<LongSet> {
+
+    @Override
+    public <T> DataResult<Pair<LongSet, T>> decode(final DynamicOps<T> ops, final T input) {
+        return new ElementReader<>(this, ops).read(input);
+    }
+
+    @Override
+    public <T> DataResult<T> encode(final LongSet input, final DynamicOps<T> ops, final T prefix) {
+        return ops.mergeToPrimitive(prefix, ops.createLongList(input.longStream()));
+    }
+
+    @Override
+    public String toString() {
+        return "LongSetCodec";
+    }
+
+    /**
+     * A reader which decodes {@code long}s into a set.
+     *
+     * @param <T> the type of the encoded format
+     */
+    private static final class ElementReader<T> extends PrimitiveSetReader<LongSet, T> implements LongConsumer {
+
+        /**
+         * Default constructor.
+         *
+         * @param codec the set codec being decoded
+         * @param ops the format operations to decode from
+         */
+        private ElementReader(final LongSetCodec codec, final DynamicOps<T> ops) {
+            super(ops, new LongOpenHashSet(), LongSets::unmodifiable, codec.failOnDuplicate, codec.stopOnFirstFailure);
+        }
+
+        @Override
+        boolean readStream(final T input) {
+            // Read the stream directly if natively supported
+            if (!PrimitiveStreams.hasLongStream(this.ops)) return false;
+            final Optional<LongStream> stream = this.ops.getLongStream(input).result();
+            stream.ifPresent(s -> s.forEach(this));
+            return stream.isPresent();
+        }
+
+        @Override
+        void add(final Number value, final T element) {
+            final long primitive = value.longValue();
+            if (!this.read.add(primitive)) this.duplicate(primitive, element);
+        }
+
+        @Override
+        public void accept(final long value) {
+            // If no other data should be parsed after failure, just store the element
+            if (this.stopped()) this.unread(this.ops.createLong(value));
+            else if (!this.read.add(value)) this.duplicate(value, this.ops.createLong(value));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.collection;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.Lifecycle;
+import net.ashwork.codecable.util.ErrorMessage;
+import net.ashwork.codecable.util.ErrorReport;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * A reader which decodes numbers into a set of primitives. Subclasses read the
+ * native primitive stream of the format and add each primitive to the set
+ * without boxing it.
+ *
+ * @implNote
+ * Information about failed, duplicate, and unread inputs is only created once
+ * the first of each is encountered, such that a list which decodes cleanly only
+ * allocates the set.
+ *
+ * @param <S> the type of the set
+ * @param <T> the type of the encoded format
+ */
+abstract class PrimitiveSetReader<S, T> {
+
+    /**
+     * The format operations to decode from.
+     */
+    final DynamicOps<T> ops;
+    /**
+     * The set holding the decoded elements.
+     */
+    final S read;
+    private final boolean failOnDuplicate, stopOnFirstFailure;
+    private final UnaryOperator<S> unmodifiable;
+    private boolean shouldStop;
+    private ErrorMessage errorMessage;
+    private ErrorReport<T> report;
+
+    /**
+     * Default constructor.
+     *
+     * @param ops the format operations to decode from
+     * @param read an empty set to hold the decoded elements
+     * @param unmodifiable a function which returns an unmodifiable view of the set
+     * @param failOnDuplicate if {@code true}, any duplicate elements will return an
+     *                        errored {@link DataResult}
+     * @param stopOnFirstFailure if {@code true}, the reader will stop decoding
+     *                           elements as soon as an error is found
+     */
+    PrimitiveSetReader(final DynamicOps<T> ops, final S read, final UnaryOperator<S> unmodifiable,
+                       final boolean failOnDuplicate, final boolean stopOnFirstFailure) {
+        this.ops = ops;
+        this.read = read;
+        this.unmodifiable = unmodifiable;
+        this.failOnDuplicate = failOnDuplicate;
+        this.stopOnFirstFailure = stopOnFirstFailure;
+    }
+
+    /**
+     * Decodes the formatted data into a set, reading the native primitive stream
+     * if supported.
+     *
+     * @param input a list of numbers
+     * @return a {@link DataResult} containing the set on success or a partial of
+     *         the set with an error message on failure
+     */
+    DataResult<Pair<S, T>> read(final T input) {
+        if (this.readStream(input)) return this.build();
+        return this.ops.getList(input).setLifecycle(Lifecycle.stable()).flatMap(list -> {
+            list.accept(this::acceptInput);
+            return this.build();
+        });
+    }
+
+    /**
+     * Reads the input as a native primitive stream, passing each primitive to
+     * the set.
+     *
+     * @param input a list of numbers
+     * @return {@code true} if the input was read as a stream, or {@code false}
+     *         if the format does not natively support the stream
+     */
+    abstract boolean readStream(T input);
+
+    /**
+     * Adds a decoded number to the set.
+     *
+     * @param value the decoded number
+     * @param element the encoded element
+     */
+    abstract void add(Number value, T element);
+
+    /**
+     * Decodes an encoded element.
+     *
+     * @param element the encoded element
+     */
+    private void acceptInput(final T element) {
+        // If no other data should be parsed after failure, just store the element
+        if (this.shouldStop) {
+            this.unread(element);
+            return;
+        }
+
+        final DataResult<Number> decoded = this.ops.getNumberValue(element);
+        final Optional<Number> result = decoded.result();
+        if (result.isPresent()) this.add(result.get(), element);
+        else {
+            this.report().add("failed inputs", element);
+            this.fail(decoded.error().map(DataResult.PartialResult::message).orElse(""));
+        }
+    }
+
+    /**
+     * Returns whether no other data should be read after a failure.
+     *
+     * @return {@code true} if the remaining elements should not be read
+     */
+    final boolean stopped() {
+        return this.shouldStop;
+    }
+
+    /**
+     * Records an element which was not read after a failure.
+     *
+     * @param element the encoded element
+     */
+    final void unread(final T element) {
+        this.report().add("unread inputs", element);
+    }
+
+    /**
+     * Records a primitive which was already in the set.
+     *
+     * @param value the duplicate primitive
+     * @param element the encoded element
+     */
+    final void duplicate(final Object value, final T element) {
+        this.report().add("duplicates", element);
+        if (this.failOnDuplicate) this.fail("Duplicate element: " + value);
+    }
+
+    /**
+     * Records an error message for the current element.
+     *
+     * @param message the error message
+     */
+    private void fail(final String message) {
+        if (this.stopOnFirstFailure) this.shouldStop = true;
+        if (this.errorMessage == null) this.errorMessage = new ErrorMessage();
+        this.errorMessage.append(message);
+    }
+
+    /**
+     * Returns the report of failed, duplicate, and unread inputs, creating it if
+     * necessary.
+     *
+     * @return the report of failed, duplicate, and unread inputs
+     */
+    private ErrorReport<T> report() {
+        if (this.report == null) this.report = new ErrorReport<>(this.ops);
+        return this.report;
+    }
+
+    /**
+     * Builds the result of the decoded set.
+     *
+     * @return a {@link DataResult} containing the set on success or a partial of
+     *         the set with an error message on failure
+     */
+    private DataResult<Pair<S, T>> build() {
+        final S entries = this.unmodifiable.apply(this.read);
+        if (this.errorMessage == null)
+            return DataResult.success(Pair.of(entries, this.ops.emptyList()), Lifecycle.stable());
+
+        final Pair<S, T> pair = Pair.of(entries, this.report.retained("failed inputs"));
+        return DataResult.error(this.report.appendTo(this.errorMessage.toString()), pair, Lifecycle.stable());
+    }
+}
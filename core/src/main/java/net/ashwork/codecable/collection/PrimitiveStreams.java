@@ -0,0 +1,77 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.collection;
+
+import com.mojang.serialization.DynamicOps;
+
+/**
+ * A utility for checking whether a {@link DynamicOps} natively supports reading
+ * primitive streams.
+ *
+ * @implNote
+ * The default implementations of {@link DynamicOps#getIntStream(Object)} and
+ * {@link DynamicOps#getLongStream(Object)} collect the list and read every
+ * element twice, so they are slower than reading each element directly. Only
+ * overridden implementations (e.g. for int and long array tags) are used.
+ */
+final class PrimitiveStreams {
+
+    /**
+     * Whether the {@link DynamicOps} class overrides {@link DynamicOps#getIntStream(Object)}.
+     */
+    private static final ClassValue<Boolean> INT_STREAMS = overrides("getIntStream");
+    /**
+     * Whether the {@link DynamicOps} class overrides {@link DynamicOps#getLongStream(Object)}.
+     */
+    private static final ClassValue<Boolean> LONG_STREAMS = overrides("getLongStream");
+
+    /**
+     * Default constructor. Do not initialize.
+     */
+    private PrimitiveStreams() {
+        throw new AssertionError("PrimitiveStreams should not be initialized");
+    }
+
+    /**
+     * Returns whether the operations natively read an {@code int} stream.
+     *
+     * @param ops the format operations
+     * @return {@code true} if the operations natively read an {@code int} stream
+     */
+    static boolean hasIntStream(final DynamicOps<?> ops) {
+        return INT_STREAMS.get(ops.getClass());
+    }
+
+    /**
+     * Returns whether the operations natively read a {@code long} stream.
+     *
+     * @param ops the format operations
+     * @return {@code true} if the operations natively read a {@code long} stream
+     */
+    static boolean hasLongStream(final DynamicOps<?> ops) {
+        return LONG_STREAMS.get(ops.getClass());
+    }
+
+    /**
+     * Creates a cache of whether a {@link DynamicOps} class overrides a method
+     * taking in a single input.
+     *
+     * @param method the name of the method
+     * @return a cache of whether the method is overridden
+     */
+    private static ClassValue<Boolean> overrides(final String method) {
+        return new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(final Class<?> type) {
+                try {
+                    return type.getMethod(method, Object.class).getDeclaringClass() != DynamicOps.class;
+                } catch (final NoSuchMethodException e) {
+                    return false;
+                }
+            }
+        };
+    }
+}
@@ -5,9 +5,6 @@
 
 package net.ashwork.codecable.collection;
 
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableSet;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.datafixers.util.Unit;
 import com.mojang.serialization.Codec;
@@ -16,85 +13,111 @@ import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.Lifecycle;
 import com.mojang.serialization.ListBuilder;
 import net.ashwork.codecable.Codecable;
-import net.ashwork.codecable.util.MapHelper;
+import net.ashwork.codecable.util.ErrorMessage;
+import net.ashwork.codecable.util.ErrorReport;
+import net.ashwork.codecable.util.ParallelDecode;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * A codec for a set. Provides additional configurations for how the codec should
  * behave when a duplicate is encountered or what to do when an element fails to
  * decode.
  *
+ * @apiNote
+ * The decoded set is an unmodifiable view which keeps the order of the elements.
+ * Its lifecycle is the combined lifecycle of every decoded element. On failure,
+ * the remaining input only holds the failed inputs retained by the
+ * {@link ErrorReport}.
+ *
  * @param elementCodec a codec for the elements of the set
  * @param failOnDuplicate if {@code true}, any duplicate elements will return an
  *                        errored {@link DataResult}
  * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
  *                           set as soon as an error is found. The set will
  *                           appear in the partial when the codec errors
+ * @param parallel the configuration for decoding large sets concurrently
  * @param <A> the type of the element
  */
 public record SetCodec<A>(Codec<A> elementCodec, boolean failOnDuplicate,
-                          boolean stopOnFirstFailure) implements Codecable<Set<A>> {
+                          boolean stopOnFirstFailure, ParallelDecode parallel) implements Codecable<Set<A>> {
+
+    /**
+     * Creates a set codec which decodes sequentially.
+     *
+     * @param elementCodec a codec for the elements of the set
+     * @param failOnDuplicate if {@code true}, any duplicate elements will return an
+     *                        errored {@link DataResult}
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           set as soon as an error is found. The set will
+     *                           appear in the partial when the codec errors
+     */
+    public SetCodec(final Codec<A> elementCodec, final boolean failOnDuplicate, final boolean stopOnFirstFailure) {
+        this(elementCodec, failOnDuplicate, stopOnFirstFailure, ParallelDecode.SEQUENTIAL);
+    }
 
     @Override
     public <T> DataResult<Pair<Set<A>, T>> decode(final DynamicOps<T> ops, final T input) {
+        // The linked set keeps the order of the elements while checking for duplicates
+        final Set<A> read = new LinkedHashSet<>();
+        return this.read(ops, input, read::add).map(pair -> pair.mapFirst(unit -> Collections.unmodifiableSet(read)));
+    }
+
+    /**
+     * Decodes the formatted data, passing each decoded element to the sink as it
+     * is read instead of collecting them into a set.
+     *
+     * @apiNote
+     * Duplicate elements are only checked for when {@link #failOnDuplicate()} is
+     * {@code true}; otherwise, every decoded element is passed to the sink.
+     * Elements passed to the sink before a failure are not revoked.
+     *
+     * @param ops the format operations to decode from
+     * @param input the formatted data
+     * @param sink a consumer which receives each decoded element
+     * @param <T> the type of the encoded format
+     * @return a {@link DataResult} containing a unit on success or a partial of a
+     *         unit with an error message on failure
+     */
+    public <T> DataResult<Unit> decodeEach(final DynamicOps<T> ops, final T input, final Consumer<A> sink) {
+        final Set<A> seen = this.failOnDuplicate ? new HashSet<>() : null;
+        return this.read(ops, input, a -> {
+            if (seen != null && !seen.add(a)) return false;
+            sink.accept(a);
+            return true;
+        }).map(Pair::getFirst);
+    }
+
+    /**
+     * Decodes the elements of the formatted data into the sink.
+     *
+     * @param ops the format operations to decode from
+     * @param input the formatted data
+     * @param sink a predicate which receives each decoded element, returning
+     *             {@code false} if the element is a duplicate
+     * @param <T> the type of the encoded format
+     * @return a {@link DataResult} containing a unit on success or a partial of a
+     *         unit with an error message on failure
+     */
+    private <T> DataResult<Pair<Unit, T>> read(final DynamicOps<T> ops, final T input, final Predicate<A> sink) {
         return ops.getList(input).setLifecycle(Lifecycle.stable()).flatMap(list -> {
-            // Construct data result holders
-            final ImmutableSet.Builder<A> read = ImmutableSet.builder();
-            final Set<A> elements = new HashSet<>();
-
-            // Construct failure information
-            final ImmutableList.Builder<T> failed = ImmutableList.builder(),
-                    notRead = ImmutableList.builder(),
-                    duplicates = ImmutableList.builder();
-
-            // Get modifier instances
-            final AtomicBoolean shouldStop = new AtomicBoolean();
-            final AtomicReference<DataResult<Unit>> result = new AtomicReference<>(DataResult.success(Unit.INSTANCE, Lifecycle.stable()));
-
-            // For each element in list
-            list.accept(element -> {
-                // If no other data should be parsed after failure, just return the instance
-                if (shouldStop.getPlain()) {
-                    notRead.add(element);
-                    return;
-                }
-                final AtomicBoolean normalFail = new AtomicBoolean(true);
-
-                // Decode element
-                final DataResult<Pair<A, T>> e = this.elementCodec.decode(ops, element).flatMap(p -> {
-                    // Check if element already added
-                    if (!elements.add(p.getFirst())) {
-                        duplicates.add(element);
-                        normalFail.setPlain(false);
-                        if (failOnDuplicate) return DataResult.error("Duplicate element: " + element, p);
-                    }
-                    return DataResult.success(p);
-                });
-                e.get().mapBoth(p -> read.add(p.getFirst()), er -> {
-                    if (stopOnFirstFailure) shouldStop.setPlain(true);
-                    if (normalFail.getPlain()) failed.add(element);
-                    return null;
-                });
-
-                result.setPlain(result.getPlain().apply2stable((r, v) -> r, e));
-            });
-
-            // Build results
-            final Set<A> entries = read.build();
-            final Map<String, T> errors = MapHelper.createAndAdd(ImmutableMap.of(
-                    "failed inputs", (k, b) -> MapHelper.addIfNotEmpty(b, k, failed.build(), c -> ops.createList(c.stream())),
-                    "duplicates", (k, b) -> MapHelper.addIfNotEmpty(b, k, duplicates.build(), c -> ops.createList(c.stream())),
-                    "unread inputs", (k, b) -> MapHelper.addIfNotEmpty(b, k, notRead.build(), c -> ops.createList(c.stream()))
-            ));
-            final Pair<Set<A>, T> pair = Pair.of(entries, errors.getOrDefault("failed inputs", ops.emptyList()));
-
-            return result.getPlain().map(unit -> pair).setPartial(pair).mapError(e -> e + MapHelper.toString(errors));
+            final ElementReader<A, T> reader = new ElementReader<>(this, ops, sink);
+            if (this.parallel.isSequential()) list.accept(reader);
+            else {
+                final List<T> elements = new ArrayList<>();
+                list.accept(elements::add);
+                reader.acceptAll(elements);
+            }
+            return reader.build();
         });
     }
 
@@ -122,4 +145,127 @@ public record SetCodec<A>(Codec<A> elementCodec, boolean failOnDuplicate,
     public String toString() {
         return "SetCodec[" + this.elementCodec + ']';
     }
+
+    /**
+     * A reader which decodes the elements of a list into a sink.
+     *
+     * @implNote
+     * The sink is used for both storing the decoded elements and checking for
+     * duplicates. Information about failed, duplicate, and unread inputs is only
+     * created once the first of each is encountered, such that a list which
+     * decodes cleanly only allocates what the sink stores.
+     *
+     * @param <A> the type of the element
+     * @param <T> the type of the encoded format
+     */
+    private static final class ElementReader<A, T> implements Consumer<T> {
+
+        private final SetCodec<A> codec;
+        private final DynamicOps<T> ops;
+        private final Predicate<A> sink;
+        private boolean shouldStop;
+        private Lifecycle lifecycle;
+        private ErrorMessage errorMessage;
+        private ErrorReport<T> report;
+
+        /**
+         * Default constructor.
+         *
+         * @param codec the set codec being decoded
+         * @param ops the format operations to decode from
+         * @param sink a predicate which receives each decoded element, returning
+         *             {@code false} if the element is a duplicate
+         */
+        private ElementReader(final SetCodec<A> codec, final DynamicOps<T> ops, final Predicate<A> sink) {
+            this.codec = codec;
+            this.ops = ops;
+            this.sink = sink;
+            this.lifecycle = Lifecycle.stable();
+        }
+
+        @Override
+        public void accept(final T element) {
+            this.accept(element, this.shouldStop ? null : this.codec.elementCodec.decode(this.ops, element));
+        }
+
+        /**
+         * Decodes the elements, concurrently if there are enough of them.
+         *
+         * @param elements the encoded elements
+         */
+        private void acceptAll(final List<T> elements) {
+            if (!this.codec.parallel.shouldSplit(elements.size())) {
+                elements.forEach(this);
+                return;
+            }
+
+            // Decode elements concurrently, then merge them in order
+            final List<DataResult<Pair<A, T>>> decoded = this.codec.parallel.decode(elements,
+                    element -> this.codec.elementCodec.decode(this.ops, element),
+                    this.codec.stopOnFirstFailure ? result -> result.error().isPresent() : null);
+            for (int i = 0; i < elements.size(); i++) this.accept(elements.get(i), decoded.get(i));
+        }
+
+        /**
+         * Passes a decoded element to the sink.
+         *
+         * @param element the encoded element
+         * @param decoded the decoded element, or {@code null} if it was not read
+         */
+        private void accept(final T element, final DataResult<Pair<A, T>> decoded) {
+            // If no other data should be parsed after failure, just store the element
+            if (this.shouldStop) {
+                this.report().add("unread inputs", element);
+                return;
+            }
+
+            this.lifecycle = this.lifecycle.add(decoded.lifecycle());
+            final Optional<Pair<A, T>> result = decoded.result();
+            if (result.isPresent()) {
+                // Check if element already added
+                if (this.sink.test(result.get().getFirst())) return;
+                this.report().add("duplicates", element);
+                if (this.codec.failOnDuplicate) this.fail("Duplicate element: " + element);
+            } else {
+                this.report().add("failed inputs", element);
+                this.fail(decoded.error().map(DataResult.PartialResult::message).orElse(""));
+            }
+        }
+
+        /**
+         * Records an error message for the current element.
+         *
+         * @param message the error message
+         */
+        private void fail(final String message) {
+            if (this.codec.stopOnFirstFailure) this.shouldStop = true;
+            if (this.errorMessage == null) this.errorMessage = new ErrorMessage();
+            this.errorMessage.append(message);
+        }
+
+        /**
+         * Builds the result of the decoded elements.
+         *
+         * @return a {@link DataResult} containing a unit on success or a partial of
+         *         a unit with an error message on failure
+         */
+        private DataResult<Pair<Unit, T>> build() {
+            if (this.errorMessage == null)
+                return DataResult.success(Pair.of(Unit.INSTANCE, this.ops.emptyList()), this.lifecycle);
+
+            final Pair<Unit, T> pair = Pair.of(Unit.INSTANCE, this.report.retained("failed inputs"));
+            return DataResult.error(this.report.appendTo(this.errorMessage.toString()), pair, this.lifecycle);
+        }
+
+        /**
+         * Returns the report of failed, duplicate, and unread inputs, creating it
+         * if necessary.
+         *
+         * @return the report of failed, duplicate, and unread inputs
+         */
+        private ErrorReport<T> report() {
+            if (this.report == null) this.report = new ErrorReport<>(this.ops);
+            return this.report;
+        }
+    }
 }
@@ -5,46 +5,497 @@
 
 package net.ashwork.codecable.experimental.ops;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
 import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.Lifecycle;
+import com.mojang.serialization.MapLike;
+import com.mojang.serialization.RecordBuilder;
 
-//TODO: Finish, document, test
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * A {@link JsonOps} which preserves the exact type of every value across a
+ * round-trip through JSON text.
+ *
+ * <p>Strings, booleans, nulls, ints, doubles, lists, and maps are written as
+ * plain JSON as their type can be recovered from the literal: an integral
+ * literal is an int, or a long if it does not fit, while a literal with a
+ * fraction or exponent is a double. All other values are written as a typed
+ * wrapper {@code {"ops:data_type": <type>, "value": <value>}}. This applies to
+ * bytes, shorts, longs, floats, and primitive lists. A map which contains the
+ * data type key is wrapped as a {@code map} so that it is not mistaken for a
+ * typed value.
+ *
+ * @apiNote
+ * Any other {@link DynamicOps} can be used to read data written by these ops;
+ * the typed wrappers will be seen as regular maps.
+ */
 public class TypedJsonOps extends JsonOps {
 
+    /**
+     * An instance of the ops.
+     */
     public static final TypedJsonOps INSTANCE = new TypedJsonOps(false);
+    /**
+     * An instance of the ops which compresses maps.
+     */
     public static final TypedJsonOps COMPRESSED = new TypedJsonOps(true);
 
+    /**
+     * The key holding the type of a wrapped value.
+     */
     private static final String DATA_TYPE = "ops:data_type";
+    /**
+     * The key holding a wrapped value.
+     */
     private static final String VALUE = "value";
 
+    /**
+     * Default constructor.
+     *
+     * @param compressed whether maps should be compressed
+     */
     protected TypedJsonOps(final boolean compressed) {
         super(compressed);
     }
 
     @Override
-    public <U> U convertTo(DynamicOps<U> outOps, JsonElement input) {
-        if (input instanceof JsonObject obj && obj.has(DATA_TYPE))
-            return this.createDefinedElement(outOps, obj.getAsJsonPrimitive(DATA_TYPE).getAsString(), obj.get(VALUE));
-        else return super.convertTo(outOps, input);
+    public <U> U convertTo(final DynamicOps<U> outOps, final JsonElement input) {
+        if (input instanceof JsonPrimitive primitive && primitive.isNumber())
+            return convertNumber(outOps, primitive, numericType(primitive));
+
+        final DataType type = typeOf(input);
+        if (type == null) return super.convertTo(outOps, input);
+        final JsonElement value = valueOf(input);
+        return switch (type) {
+            case MAP -> outOps.createMap(super.getMapValues(value).result().orElseGet(Stream::empty)
+                    .map(entry -> Pair.of(this.convertTo(outOps, entry.getFirst()), this.convertTo(outOps, entry.getSecond()))));
+            case LIST -> this.convertList(outOps, value);
+            case BYTE_LIST -> outOps.createByteList(this.getByteBuffer(value).result().orElseGet(() -> ByteBuffer.allocate(0)));
+            case INT_LIST -> outOps.createIntList(this.getIntStream(value).result().orElseGet(IntStream::empty));
+            case LONG_LIST -> outOps.createLongList(this.getLongStream(value).result().orElseGet(LongStream::empty));
+            case EMPTY -> outOps.empty();
+            case STRING, BOOLEAN -> super.convertTo(outOps, value);
+            case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE -> value instanceof JsonPrimitive primitive && primitive.isNumber()
+                    ? convertNumber(outOps, primitive, type) : super.convertTo(outOps, value);
+        };
+    }
+
+    @Override
+    public DataResult<Number> getNumberValue(final JsonElement input) {
+        if (input instanceof JsonPrimitive primitive && primitive.isNumber())
+            return DataResult.success(exactNumber(primitive, numericType(primitive)), Lifecycle.stable());
+
+        final DataType type = typeOf(input);
+        if (type == null) return super.getNumberValue(input);
+        if (!type.primitive) return DataResult.error("Not a number: " + input);
+
+        final JsonElement value = valueOf(input);
+        if (type == DataType.STRING || type == DataType.BOOLEAN || !(value instanceof JsonPrimitive primitive) || !primitive.isNumber())
+            return super.getNumberValue(value);
+        return DataResult.success(exactNumber(primitive, type), Lifecycle.stable());
+    }
+
+    @Override
+    public JsonElement createNumeric(final Number i) {
+        if (i instanceof Byte b) return this.createByte(b);
+        else if (i instanceof Short s) return this.createShort(s);
+        else if (i instanceof Long l) return this.createLong(l);
+        else if (i instanceof Float f) return this.createFloat(f);
+        else return super.createNumeric(i);
+    }
+
+    @Override
+    public JsonElement createByte(final byte value) {
+        return wrap(DataType.BYTE, new JsonPrimitive(value));
+    }
+
+    @Override
+    public JsonElement createShort(final short value) {
+        return wrap(DataType.SHORT, new JsonPrimitive(value));
+    }
+
+    @Override
+    public JsonElement createLong(final long value) {
+        return wrap(DataType.LONG, new JsonPrimitive(value));
+    }
+
+    @Override
+    public JsonElement createFloat(final float value) {
+        return wrap(DataType.FLOAT, new JsonPrimitive(value));
+    }
+
+    @Override
+    public DataResult<Boolean> getBooleanValue(final JsonElement input) {
+        final DataType type = typeOf(input);
+        if (type == null) return super.getBooleanValue(input);
+        return type.primitive ? super.getBooleanValue(valueOf(input)) : DataResult.error("Not a boolean: " + input);
+    }
+
+    @Override
+    public DataResult<String> getStringValue(final JsonElement input) {
+        final DataType type = typeOf(input);
+        if (type == null) return super.getStringValue(input);
+        return type.primitive ? super.getStringValue(valueOf(input)) : DataResult.error("Not a string: " + input);
+    }
+
+    @Override
+    public DataResult<JsonElement> mergeToList(final JsonElement list, final JsonElement value) {
+        final JsonElement prefix = listOf(list);
+        return prefix != null ? super.mergeToList(prefix, value) : DataResult.error("mergeToList called with not a list: " + list, list);
+    }
+
+    @Override
+    public DataResult<JsonElement> mergeToList(final JsonElement list, final List<JsonElement> values) {
+        final JsonElement prefix = listOf(list);
+        return prefix != null ? super.mergeToList(prefix, values) : DataResult.error("mergeToList called with not a list: " + list, list);
+    }
+
+    @Override
+    public DataResult<JsonElement> mergeToMap(final JsonElement map, final JsonElement key, final JsonElement value) {
+        final JsonElement prefix = mapOf(map);
+        return prefix != null ? super.mergeToMap(prefix, key, value).map(TypedJsonOps::escape)
+                : DataResult.error("mergeToMap called with not a map: " + map, map);
+    }
+
+    @Override
+    public DataResult<JsonElement> mergeToMap(final JsonElement map, final MapLike<JsonElement> values) {
+        final JsonElement prefix = mapOf(map);
+        return prefix != null ? super.mergeToMap(prefix, values).map(TypedJsonOps::escape)
+                : DataResult.error("mergeToMap called with not a map: " + map, map);
+    }
+
+    @Override
+    public DataResult<Stream<Pair<JsonElement, JsonElement>>> getMapValues(final JsonElement input) {
+        final JsonElement map = mapOf(input);
+        return map != null ? super.getMapValues(map) : DataResult.error("Not a JSON object: " + input);
+    }
+
+    @Override
+    public DataResult<Consumer<BiConsumer<JsonElement, JsonElement>>> getMapEntries(final JsonElement input) {
+        final JsonElement map = mapOf(input);
+        return map != null ? super.getMapEntries(map) : DataResult.error("Not a JSON object: " + input);
+    }
+
+    @Override
+    public DataResult<MapLike<JsonElement>> getMap(final JsonElement input) {
+        final JsonElement map = mapOf(input);
+        return map != null ? super.getMap(map) : DataResult.error("Not a JSON object: " + input);
+    }
+
+    @Override
+    public JsonElement createMap(final Stream<Pair<JsonElement, JsonElement>> map) {
+        return escape(super.createMap(map));
+    }
+
+    @Override
+    public DataResult<Stream<JsonElement>> getStream(final JsonElement input) {
+        final JsonElement list = listOf(input);
+        return list != null ? super.getStream(list) : DataResult.error("Not a json array: " + input);
+    }
+
+    @Override
+    public DataResult<Consumer<Consumer<JsonElement>>> getList(final JsonElement input) {
+        final JsonElement list = listOf(input);
+        return list != null ? super.getList(list) : DataResult.error("Not a json array: " + input);
+    }
+
+    @Override
+    public JsonElement createByteList(final ByteBuffer input) {
+        final JsonArray array = new JsonArray(input.capacity());
+        for (int i = 0; i < input.capacity(); i++) array.add(input.get(i));
+        return wrap(DataType.BYTE_LIST, array);
+    }
+
+    @Override
+    public JsonElement createIntList(final IntStream input) {
+        final JsonArray array = new JsonArray();
+        input.forEach(i -> array.add(i));
+        return wrap(DataType.INT_LIST, array);
+    }
+
+    @Override
+    public JsonElement createLongList(final LongStream input) {
+        final JsonArray array = new JsonArray();
+        input.forEach(l -> array.add(l));
+        return wrap(DataType.LONG_LIST, array);
+    }
+
+    @Override
+    public JsonElement remove(final JsonElement input, final String key) {
+        final JsonElement map = mapOf(input);
+        return map != null ? escape(super.remove(map, key)) : input;
+    }
+
+    @Override
+    public String toString() {
+        return "TypedJSON";
+    }
+
+    @Override
+    public RecordBuilder<JsonElement> mapBuilder() {
+        return new TypedRecordBuilder();
+    }
+
+    /**
+     * Returns the type of a wrapped value.
+     *
+     * @param input the element to check
+     * @return the type of the wrapped value, or {@code null} if the element is
+     *         not a typed wrapper
+     */
+    @Nullable
+    private static DataType typeOf(final JsonElement input) {
+        if (!(input instanceof JsonObject object) || object.size() != 2 || !object.has(VALUE)) return null;
+        return object.get(DATA_TYPE) instanceof JsonPrimitive tag && tag.isString() ? DataType.byName(tag.getAsString()) : null;
+    }
+
+    /**
+     * Returns the value held by a typed wrapper.
+     *
+     * @param wrapper the typed wrapper
+     * @return the held value
+     */
+    private static JsonElement valueOf(final JsonElement wrapper) {
+        return wrapper.getAsJsonObject().get(VALUE);
+    }
+
+    /**
+     * Wraps a value with its type.
+     *
+     * @param type the type of the value
+     * @param value the value to wrap
+     * @return the typed wrapper
+     */
+    private static JsonObject wrap(final DataType type, final JsonElement value) {
+        final JsonObject wrapper = new JsonObject();
+        wrapper.add(DATA_TYPE, type.tag);
+        wrapper.add(VALUE, value);
+        return wrapper;
     }
 
-    private <U> U createDefinedElement(final DynamicOps<U> ops, final String dataType, final JsonElement value) {
-        return switch (dataType) {
-            case "map" -> this.convertMap(ops, value);
-            case "list" -> this.convertList(ops, value);
-            case "empty" -> ops.empty();
-            case "string" -> ops.createString(value.getAsJsonPrimitive().getAsString());
-            case "boolean" -> ops.createBoolean(value.getAsJsonPrimitive().getAsBoolean());
-            case "byte" -> ops.createByte(value.getAsJsonPrimitive().getAsByte());
-            case "short" -> ops.createShort(value.getAsJsonPrimitive().getAsShort());
-            case "int" -> ops.createInt(value.getAsJsonPrimitive().getAsInt());
-            case "long" -> ops.createLong(value.getAsJsonPrimitive().getAsLong());
-            case "float" -> ops.createFloat(value.getAsJsonPrimitive().getAsFloat());
-            case "double" -> ops.createDouble(value.getAsJsonPrimitive().getAsDouble());
-            default -> throw new JsonParseException("Unknown data type: " + dataType);
+    /**
+     * Wraps a map if it could be mistaken for a typed wrapper.
+     *
+     * @param map the map to check
+     * @return the map, or a map wrapper holding it
+     */
+    private static JsonElement escape(final JsonElement map) {
+        return map instanceof JsonObject object && object.has(DATA_TYPE) ? wrap(DataType.MAP, map) : map;
+    }
+
+    /**
+     * Returns the map represented by the element.
+     *
+     * @param input the element to check
+     * @return the unwrapped map, the element itself if it is not a typed wrapper,
+     *         or {@code null} if the element wraps a value which is not a map
+     */
+    @Nullable
+    private static JsonElement mapOf(final JsonElement input) {
+        final DataType type = typeOf(input);
+        return type == null ? input : type == DataType.MAP ? valueOf(input) : null;
+    }
+
+    /**
+     * Returns the list represented by the element.
+     *
+     * @param input the element to check
+     * @return the unwrapped list, the element itself if it is not a typed wrapper,
+     *         or {@code null} if the element wraps a value which is not a list
+     */
+    @Nullable
+    private static JsonElement listOf(final JsonElement input) {
+        final DataType type = typeOf(input);
+        if (type == null) return input;
+        return switch (type) {
+            case LIST, BYTE_LIST, INT_LIST, LONG_LIST -> valueOf(input);
+            default -> null;
+        };
+    }
+
+    /**
+     * Returns the type of a plain number.
+     *
+     * @param primitive the number
+     * @return the type of the number
+     */
+    private static DataType numericType(final JsonPrimitive primitive) {
+        final Number number = primitive.getAsNumber();
+        if (number instanceof Integer) return DataType.INT;
+        else if (number instanceof Double) return DataType.DOUBLE;
+        // Trees built by other ops may hold the narrower types directly
+        else if (number instanceof Byte) return DataType.BYTE;
+        else if (number instanceof Short) return DataType.SHORT;
+        else if (number instanceof Long) return DataType.LONG;
+        else if (number instanceof Float) return DataType.FLOAT;
+
+        // Parsed literals keep their text, so the type follows from the JSON grammar
+        final String text = primitive.getAsString();
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '.' || c == 'e' || c == 'E') return DataType.DOUBLE;
+        }
+        try {
+            final long value = Long.parseLong(text);
+            return (int) value == value ? DataType.INT : DataType.LONG;
+        } catch (final NumberFormatException e) {
+            return DataType.DOUBLE;
+        }
+    }
+
+    /**
+     * Returns a number boxed as the given type.
+     *
+     * @param primitive the number
+     * @param type the numeric type of the number
+     * @return the boxed number
+     */
+    private static Number exactNumber(final JsonPrimitive primitive, final DataType type) {
+        return switch (type) {
+            case BYTE -> primitive.getAsByte();
+            case SHORT -> primitive.getAsShort();
+            case INT -> primitive.getAsInt();
+            case LONG -> primitive.getAsLong();
+            case FLOAT -> primitive.getAsFloat();
+            default -> primitive.getAsDouble();
         };
     }
+
+    /**
+     * Converts a number to another ops using the given type.
+     *
+     * @param outOps the ops to convert to
+     * @param primitive the number
+     * @param type the numeric type of the number
+     * @param <U> the type of the data the ops converts to
+     * @return the converted number
+     */
+    private static <U> U convertNumber(final DynamicOps<U> outOps, final JsonPrimitive primitive, final DataType type) {
+        return switch (type) {
+            case BYTE -> outOps.createByte(primitive.getAsByte());
+            case SHORT -> outOps.createShort(primitive.getAsShort());
+            case INT -> outOps.createInt(primitive.getAsInt());
+            case LONG -> outOps.createLong(primitive.getAsLong());
+            case FLOAT -> outOps.createFloat(primitive.getAsFloat());
+            default -> outOps.createDouble(primitive.getAsDouble());
+        };
+    }
+
+    /**
+     * The types which can be held by a typed wrapper.
+     */
+    private enum DataType {
+        MAP("map", false),
+        LIST("list", false),
+        BYTE_LIST("byte_list", false),
+        INT_LIST("int_list", false),
+        LONG_LIST("long_list", false),
+        EMPTY("empty", false),
+        STRING("string", true),
+        BOOLEAN("boolean", true),
+        BYTE("byte", true),
+        SHORT("short", true),
+        INT("int", true),
+        LONG("long", true),
+        FLOAT("float", true),
+        DOUBLE("double", true);
+
+        /**
+         * A map of the names of each type to the type.
+         */
+        private static final Map<String, DataType> BY_NAME = new HashMap<>();
+
+        static {
+            for (final DataType type : values()) BY_NAME.put(type.tag.getAsString(), type);
+        }
+
+        /**
+         * The tag written as the type of a wrapped value. The tag is shared
+         * by every wrapper, so looking up the type of a wrapper created by
+         * these ops hashes and compares its name by identity.
+         */
+        private final JsonPrimitive tag;
+        /**
+         * Whether the type is a single value.
+         */
+        private final boolean primitive;
+
+        /**
+         * Default constructor.
+         *
+         * @param name the name of the type
+         * @param primitive whether the type is a single value
+         */
+        DataType(final String name, final boolean primitive) {
+            this.tag = new JsonPrimitive(name);
+            this.primitive = primitive;
+        }
+
+        /**
+         * Returns the type with the given name.
+         *
+         * @param name the name of the type
+         * @return the type, or {@code null} if no type has the given name
+         */
+        @Nullable
+        private static DataType byName(final String name) {
+            return BY_NAME.get(name);
+        }
+    }
+
+    /**
+     * A record builder which escapes the built map.
+     */
+    private final class TypedRecordBuilder extends RecordBuilder.AbstractStringBuilder<JsonElement, JsonObject> {
+
+        /**
+         * Default constructor.
+         */
+        private TypedRecordBuilder() {
+            super(TypedJsonOps.this);
+        }
+
+        @Override
+        protected JsonObject initBuilder() {
+            return new JsonObject();
+        }
+
+        @Override
+        protected JsonObject append(final String key, final JsonElement value, final JsonObject builder) {
+            builder.add(key, value);
+            return builder;
+        }
+
+        @Override
+        protected DataResult<JsonElement> build(final JsonObject builder, final JsonElement prefix) {
+            if (prefix == null || prefix instanceof JsonNull) return DataResult.success(escape(builder), Lifecycle.stable());
+
+            // Step 1: Unwrap the prefix
+            if (!(mapOf(prefix) instanceof JsonObject map))
+                return DataResult.error("mergeToMap called with not a map: " + prefix, prefix);
+
+            // Step 2: Merge the built entries into a copy of the prefix
+            final JsonObject result = new JsonObject();
+            map.entrySet().forEach(entry -> result.add(entry.getKey(), entry.getValue()));
+            builder.entrySet().forEach(entry -> result.add(entry.getKey(), entry.getValue()));
+            return DataResult.success(escape(result), Lifecycle.stable());
+        }
+    }
 }
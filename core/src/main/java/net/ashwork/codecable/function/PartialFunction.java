@@ -0,0 +1,40 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.function;
+
+import javax.annotation.Nullable;
+import java.util.function.Function;
+
+/**
+ * Represents a function that accepts one argument and produces a result, or
+ * {@code null} if the function is not defined for the argument.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object)}.
+ *
+ * @apiNote
+ * Unlike a {@link ThrowingFunction}, an argument the function is not defined for
+ * is reported without throwing an exception, such that no stack trace is filled
+ * in for bad input.
+ *
+ * @param <T> the type of the input to the function
+ * @param <R> the type of the result of the function
+ *
+ * @see Function
+ * @see PartialResultFunction
+ */
+@FunctionalInterface
+public interface PartialFunction<T, R> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @param t the function argument
+     * @return the function result, or {@code null} if the function is not defined
+     *         for the argument
+     */
+    @Nullable
+    R apply(final T t);
+}
@@ -0,0 +1,49 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.function;
+
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Lifecycle;
+
+import java.util.function.Function;
+
+/**
+ * An extension of a {@link Function} for handling an input a
+ * {@link PartialFunction} is not defined for within a codec.
+ *
+ * @apiNote
+ * The error message is only created when the function is not defined for the
+ * input, and no exception is thrown or caught to find out.
+ *
+ * @param function a function which takes an input and returns an output, or
+ *                 {@code null} if it is not defined for the input
+ * @param errorMessage a message to display from a {@link DataResult} when the
+ *                     function is not defined for the input
+ * @param <T> the type of the input to the function
+ * @param <R> the type of the result of the function
+ *
+ * @see DataResultFunction
+ */
+public record PartialResultFunction<T, R>(PartialFunction<T, R> function,
+                                          Function<T, String> errorMessage) implements Function<T, DataResult<R>> {
+
+    /**
+     * Convenience constructor for returning the input as part of the error
+     * message.
+     *
+     * @param function a function which takes an input and returns an output, or
+     *                 {@code null} if it is not defined for the input
+     */
+    public PartialResultFunction(final PartialFunction<T, R> function) {
+        this(function, t -> "No value for input: " + t);
+    }
+
+    @Override
+    public DataResult<R> apply(final T t) {
+        final R result = this.function.apply(t);
+        return result != null ? DataResult.success(result, Lifecycle.stable()) : DataResult.error(this.errorMessage.apply(t));
+    }
+}
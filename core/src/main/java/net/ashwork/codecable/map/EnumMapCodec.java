@@ -0,0 +1,91 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.map;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.Lifecycle;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.map.base.BaseImprovedMapCodec;
+
+import java.util.EnumMap;
+import java.util.Objects;
+
+/**
+ * A codec for an {@link EnumMap}. The keys are encoded using
+ * {@link Codecable#enumOf(Class)}. Provides additional configurations on what to
+ * do when an entry fails to decode. Keys which decode to the same constant are
+ * reported as duplicates.
+ *
+ * @param <E> the type of the enum key
+ * @param <V> the type of the value
+ *
+ * @see UnboundedImprovedMapCodec
+ */
+public final class EnumMapCodec<E extends Enum<E>, V> implements BaseImprovedMapCodec<E, V>, Codecable<EnumMap<E, V>> {
+
+    private final Class<E> enumClass;
+    private final Codec<E> keyCodec;
+    private final Codec<V> valueCodec;
+    private final boolean stopOnFirstFailure;
+
+    /**
+     * Default constructor.
+     *
+     * @param enumClass the class of the enum key
+     * @param valueCodec a codec for the values of the map
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           map as soon as an error is found. The map will
+     *                           appear in the partial when the codec errors
+     */
+    public EnumMapCodec(final Class<E> enumClass, final Codec<V> valueCodec, final boolean stopOnFirstFailure) {
+        this.enumClass = enumClass;
+        this.keyCodec = Codecable.enumOf(enumClass);
+        this.valueCodec = valueCodec;
+        this.stopOnFirstFailure = stopOnFirstFailure;
+    }
+
+    @Override
+    public Codec<E> keyCodec() {
+        return this.keyCodec;
+    }
+
+    @Override
+    public Codec<V> valueCodec() {
+        return this.valueCodec;
+    }
+
+    @Override
+    public <T> DataResult<Pair<EnumMap<E, V>, T>> decode(final DynamicOps<T> ops, final T input) {
+        return ops.getMap(input).setLifecycle(Lifecycle.stable())
+                .flatMap(map -> this.decodeInto(ops, map, this.stopOnFirstFailure, new EnumMap<>(this.enumClass))).map(r -> Pair.of(r, input));
+    }
+
+    @Override
+    public <T> DataResult<T> encode(final EnumMap<E, V> input, final DynamicOps<T> ops, final T prefix) {
+        return this.encode(input, ops, ops.mapBuilder()).build(prefix);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        final EnumMapCodec<?, ?> that = (EnumMapCodec<?, ?>) o;
+        return Objects.equals(this.enumClass, that.enumClass) && Objects.equals(this.valueCodec, that.valueCodec);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.enumClass, this.valueCodec);
+    }
+
+    @Override
+    public String toString() {
+        return "EnumMapCodec[" + this.enumClass.getSimpleName() + " -> " + this.valueCodec + ']';
+    }
+}
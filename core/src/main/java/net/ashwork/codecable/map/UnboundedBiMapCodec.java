@@ -13,6 +13,7 @@ import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.Lifecycle;
 import net.ashwork.codecable.Codecable;
 import net.ashwork.codecable.map.base.BaseBiMapCodec;
+import net.ashwork.codecable.util.ParallelDecode;
 
 import java.util.Objects;
 
@@ -28,18 +29,35 @@ import java.util.Objects;
  * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
  *                           bimap as soon as an error is found. The bimap will
  *                           appear in the partial when the codec errors
+ * @param parallel the configuration for decoding large bimaps concurrently
  * @param <K> the type of the key
  * @param <V> the type of the value
  */
 public record UnboundedBiMapCodec<K, V>(Codec<K> keyCodec,
                                         Codec<V> valueCodec,
                                         boolean failOnDuplicate,
-                                        boolean stopOnFirstFailure) implements BaseBiMapCodec<K, V>, Codecable<BiMap<K, V>> {
+                                        boolean stopOnFirstFailure,
+                                        ParallelDecode parallel) implements BaseBiMapCodec<K, V>, Codecable<BiMap<K, V>> {
+
+    /**
+     * Creates a bimap codec which decodes sequentially.
+     *
+     * @param keyCodec a codec for the keys of the bimap
+     * @param valueCodec a codec for the values of the bimap
+     * @param failOnDuplicate if {@code true}, any duplicate values will return an
+     *                        errored {@link DataResult}
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           bimap as soon as an error is found. The bimap will
+     *                           appear in the partial when the codec errors
+     */
+    public UnboundedBiMapCodec(final Codec<K> keyCodec, final Codec<V> valueCodec, final boolean failOnDuplicate, final boolean stopOnFirstFailure) {
+        this(keyCodec, valueCodec, failOnDuplicate, stopOnFirstFailure, ParallelDecode.SEQUENTIAL);
+    }
 
     @Override
     public <T> DataResult<Pair<BiMap<K, V>, T>> decode(final DynamicOps<T> ops, final T input) {
         return ops.getMap(input).setLifecycle(Lifecycle.stable())
-                .flatMap(map -> this.decode(ops, map, this.failOnDuplicate, this.stopOnFirstFailure)).map(r -> Pair.of(r, input));
+                .flatMap(map -> this.decode(ops, map, this.failOnDuplicate, this.stopOnFirstFailure, this.parallel)).map(r -> Pair.of(r, input));
     }
 
     @Override
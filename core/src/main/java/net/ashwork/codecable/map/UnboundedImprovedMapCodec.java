@@ -6,6 +6,7 @@
 package net.ashwork.codecable.map;
 
 import com.mojang.datafixers.util.Pair;
+import com.mojang.datafixers.util.Unit;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
 import com.mojang.serialization.DynamicOps;
@@ -13,9 +14,11 @@ import com.mojang.serialization.Lifecycle;
 import com.mojang.serialization.codecs.UnboundedMapCodec;
 import net.ashwork.codecable.Codecable;
 import net.ashwork.codecable.map.base.BaseImprovedMapCodec;
+import net.ashwork.codecable.util.ParallelDecode;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
  * An improved implementation of {@link UnboundedMapCodec} for creating a map
@@ -27,6 +30,7 @@ import java.util.Objects;
  * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
  *                           map as soon as an error is found. The map will
  *                           appear in the partial when the codec errors
+ * @param parallel the configuration for decoding large maps concurrently
  * @param <K> the type of the key
  * @param <V> the type of the value
  *
@@ -34,12 +38,46 @@ import java.util.Objects;
  */
 public record UnboundedImprovedMapCodec<K, V>(Codec<K> keyCodec,
                                               Codec<V> valueCodec,
-                                              boolean stopOnFirstFailure) implements BaseImprovedMapCodec<K, V>, Codecable<Map<K, V>> {
+                                              boolean stopOnFirstFailure,
+                                              ParallelDecode parallel) implements BaseImprovedMapCodec<K, V>, Codecable<Map<K, V>> {
+
+    /**
+     * Creates a map codec which decodes sequentially.
+     *
+     * @param keyCodec a codec for the keys of the map
+     * @param valueCodec a codec for the values of the map
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           map as soon as an error is found. The map will
+     *                           appear in the partial when the codec errors
+     */
+    public UnboundedImprovedMapCodec(final Codec<K> keyCodec, final Codec<V> valueCodec, final boolean stopOnFirstFailure) {
+        this(keyCodec, valueCodec, stopOnFirstFailure, ParallelDecode.SEQUENTIAL);
+    }
 
     @Override
     public <T> DataResult<Pair<Map<K, V>, T>> decode(final DynamicOps<T> ops, final T input) {
         return ops.getMap(input).setLifecycle(Lifecycle.stable())
-                .flatMap(map -> this.decode(ops, map, this.stopOnFirstFailure)).map(r -> Pair.of(r, input));
+                .flatMap(map -> this.decode(ops, map, this.stopOnFirstFailure, this.parallel)).map(r -> Pair.of(r, input));
+    }
+
+    /**
+     * Decodes the formatted data, passing each decoded entry to the sink as it is
+     * read instead of collecting them into a map.
+     *
+     * @apiNote
+     * Failed and unread entries are reported the same as when decoding a map.
+     * Entries passed to the sink before a failure are not revoked.
+     *
+     * @param ops the format operations to decode from
+     * @param input the formatted data
+     * @param sink a consumer which receives each decoded entry
+     * @param <T> the type of the encoded format
+     * @return a {@link DataResult} containing a unit on success or a partial of a
+     *         unit with an error message on failure
+     */
+    public <T> DataResult<Unit> decodeEach(final DynamicOps<T> ops, final T input, final BiConsumer<K, V> sink) {
+        return ops.getMap(input).setLifecycle(Lifecycle.stable())
+                .flatMap(map -> this.decodeEach(ops, map, this.stopOnFirstFailure, sink));
     }
 
     @Override
@@ -0,0 +1,231 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.map;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.Lifecycle;
+import com.mojang.serialization.MapLike;
+import com.mojang.serialization.RecordBuilder;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.util.ErrorMessage;
+import net.ashwork.codecable.util.ErrorReport;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A codec for a map with {@code int} keys. Provides the same configurations as
+ * an {@link UnboundedImprovedMapCodec} without boxing the keys.
+ *
+ * @apiNote
+ * Keys are encoded as strings such that they are valid in formats which only
+ * support string keys. Both numbers and numeric strings are accepted on decode.
+ *
+ * @param valueCodec a codec for the values of the map
+ * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+ *                           map as soon as an error is found. The map will
+ *                           appear in the partial when the codec errors
+ * @param <V> the type of the value
+ *
+ * @see UnboundedImprovedMapCodec
+ */
+public record UnboundedIntImprovedMapCodec<V>(Codec<V> valueCodec,
+                                              boolean stopOnFirstFailure) implements Codecable<Int2ObjectMap<V>> {
+
+    /**
+     * The decoded key of an input which is not an {@code int}.
+     */
+    private static final long INVALID_KEY = Long.MIN_VALUE;
+
+    @Override
+    public <T> DataResult<Pair<Int2ObjectMap<V>, T>> decode(final DynamicOps<T> ops, final T input) {
+        return ops.getMap(input).setLifecycle(Lifecycle.stable())
+                .flatMap(map -> new EntryReader<>(this, ops).read(map)).map(r -> Pair.of(r, input));
+    }
+
+    @Override
+    public <T> DataResult<T> encode(final Int2ObjectMap<V> input, final DynamicOps<T> ops, final T prefix) {
+        final RecordBuilder<T> builder = ops.mapBuilder();
+        Int2ObjectMaps.fastForEach(input, e -> builder.add(ops.createString(Integer.toString(e.getIntKey())), this.valueCodec.encodeStart(ops, e.getValue())));
+        return builder.build(prefix);
+    }
+
+    /**
+     * Decodes an {@code int} key.
+     *
+     * @param ops the format operations to decode from
+     * @param input the encoded key
+     * @param <T> the type of the encoded format
+     * @return the key, or {@link #INVALID_KEY} if the input is not an {@code int}
+     */
+    private static <T> long decodeKey(final DynamicOps<T> ops, final T input) {
+        final Optional<String> string = ops.getStringValue(input).result();
+        if (string.isPresent()) return parseKey(string.get());
+        final Optional<Number> number = ops.getNumberValue(input).result();
+        return number.isPresent() ? number.get().intValue() : INVALID_KEY;
+    }
+
+    /**
+     * Parses a decimal {@code int} key with an optional sign, without throwing
+     * on malformed input.
+     *
+     * @param s the string to parse
+     * @return the key, or {@link #INVALID_KEY} if the string is not an
+     *         {@code int}
+     */
+    private static long parseKey(final String s) {
+        final int length = s.length();
+        final boolean signed = length > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+');
+        if (length == (signed ? 1 : 0)) return INVALID_KEY;
+
+        long value = 0;
+        for (int i = signed ? 1 : 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c < '0' || c > '9') return INVALID_KEY;
+            value = value * 10 + (c - '0');
+            if (value > -(long) Integer.MIN_VALUE) return INVALID_KEY;
+        }
+        if (signed && s.charAt(0) == '-') value = -value;
+        return value > Integer.MAX_VALUE ? INVALID_KEY : value;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        final UnboundedIntImprovedMapCodec<?> that = (UnboundedIntImprovedMapCodec<?>) o;
+        return Objects.equals(this.valueCodec, that.valueCodec);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.valueCodec);
+    }
+
+    @Override
+    public String toString() {
+        return "UnboundedIntImprovedMapCodec[" + this.valueCodec + ']';
+    }
+
+    /**
+     * A reader which decodes the entries of a map with {@code int} keys.
+     *
+     * @param <V> the type of the value
+     * @param <T> the type of the encoded format
+     */
+    private static final class EntryReader<V, T> implements Consumer<Pair<T, T>> {
+
+        private final UnboundedIntImprovedMapCodec<V> codec;
+        private final DynamicOps<T> ops;
+        private Int2ObjectMap<V> read;
+        private Lifecycle lifecycle;
+        private boolean shouldStop;
+        private ErrorMessage errorMessage;
+        private ErrorReport<T> report;
+
+        /**
+         * Default constructor.
+         *
+         * @param codec the map codec being decoded
+         * @param ops the format operations to decode from
+         */
+        private EntryReader(final UnboundedIntImprovedMapCodec<V> codec, final DynamicOps<T> ops) {
+            this.codec = codec;
+            this.ops = ops;
+            this.lifecycle = Lifecycle.stable();
+        }
+
+        /**
+         * Decodes the formatted data into a map.
+         *
+         * @param input a map representation of the formatted data
+         * @return a {@link DataResult} containing the map on success or a partial
+         *         of the map with an error message on failure
+         */
+        private DataResult<Int2ObjectMap<V>> read(final MapLike<T> input) {
+            final Spliterator<Pair<T, T>> entries = input.entries().spliterator();
+            final long size = entries.getExactSizeIfKnown();
+            this.read = size < 0 ? new Int2ObjectOpenHashMap<>() : new Int2ObjectOpenHashMap<>((int) Math.min(size, Integer.MAX_VALUE));
+            entries.forEachRemaining(this);
+            return this.build();
+        }
+
+        @Override
+        public void accept(final Pair<T, T> pair) {
+            // If no other data should be parsed after failure, just store the entry
+            if (this.shouldStop) {
+                this.report().add("unread inputs", pair);
+                return;
+            }
+
+            // Decode key/value
+            final long key = decodeKey(this.ops, pair.getFirst());
+            final DataResult<Pair<V, T>> value = this.codec.valueCodec.decode(this.ops, pair.getSecond());
+            this.lifecycle = this.lifecycle.add(value.lifecycle());
+
+            // Add entry if both decoded
+            final Optional<Pair<V, T>> v = value.result();
+            if (key != INVALID_KEY && v.isPresent()) {
+                // Check if key already added, such as '1' and '01'
+                if (!this.read.containsKey((int) key)) {
+                    this.read.put((int) key, v.get().getFirst());
+                    return;
+                }
+                if (this.codec.stopOnFirstFailure) this.shouldStop = true;
+                this.report().add("duplicate keys", pair);
+                this.appendError("Duplicate key: " + pair.getFirst());
+                return;
+            }
+
+            // Otherwise record failure
+            if (this.codec.stopOnFirstFailure) this.shouldStop = true;
+            this.report().add("failed inputs", pair);
+            if (key == INVALID_KEY) this.appendError("Not an int key: " + pair.getFirst());
+            value.error().ifPresent(e -> this.appendError(e.message()));
+        }
+
+        /**
+         * Returns the report of failed, duplicate, and unread inputs, creating it
+         * if necessary.
+         *
+         * @return the report of failed, duplicate, and unread inputs
+         */
+        private ErrorReport<T> report() {
+            if (this.report == null) this.report = new ErrorReport<>(this.ops);
+            return this.report;
+        }
+
+        /**
+         * Appends a message to the error message.
+         *
+         * @param message the message to append
+         */
+        private void appendError(final String message) {
+            if (this.errorMessage == null) this.errorMessage = new ErrorMessage();
+            this.errorMessage.append(message);
+        }
+
+        /**
+         * Builds the result of the decoded map.
+         *
+         * @return a {@link DataResult} containing the map on success or a partial
+         *         of the map with an error message on failure
+         */
+        private DataResult<Int2ObjectMap<V>> build() {
+            final Int2ObjectMap<V> entries = Int2ObjectMaps.unmodifiable(this.read);
+            if (this.errorMessage == null) return DataResult.success(entries, this.lifecycle);
+            return DataResult.error(this.report.appendTo(this.errorMessage.toString()), entries, this.lifecycle);
+        }
+    }
+}
@@ -5,21 +5,17 @@
 
 package net.ashwork.codecable.map.base;
 
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
-import com.mojang.datafixers.util.Pair;
 import com.mojang.datafixers.util.Unit;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
 import com.mojang.serialization.DynamicOps;
-import com.mojang.serialization.Lifecycle;
 import com.mojang.serialization.MapLike;
 import com.mojang.serialization.RecordBuilder;
 import com.mojang.serialization.codecs.BaseMapCodec;
-import net.ashwork.codecable.util.MapHelper;
+import net.ashwork.codecable.util.ParallelDecode;
 
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 
 /**
  * An improved implementation of {@link BaseMapCodec} for encoding and decoding
@@ -67,53 +63,74 @@ public interface BaseImprovedMapCodec<K, V> {
      *         the map with an error message on failure
      */
     default <T> DataResult<Map<K, V>> decode(final DynamicOps<T> ops, final MapLike<T> input, final boolean stopOnFirstFailure) {
-        // Construct data result holders
-        final ImmutableMap.Builder<K, V> read = ImmutableMap.builder();
-        // Construct failure information
-        final ImmutableList.Builder<Pair<T, T>> failed = ImmutableList.builder(),
-            notRead = ImmutableList.builder();
-
-        // Get modifier instances
-        final AtomicBoolean shouldStop = new AtomicBoolean();
-
-        // Construct result
-        final DataResult<Unit> result = input.entries().reduce(
-                DataResult.success(Unit.INSTANCE, Lifecycle.stable()),
-                (r, pair) -> {
-                    // If no other data should be parsed after failure, just return the instance
-                    if (shouldStop.getPlain()) {
-                        notRead.add(pair);
-                        return r;
-                    }
-
-                    // Decode key/value
-                    final DataResult<K> k = this.keyCodec().parse(ops, pair.getFirst());
-                    final DataResult<V> v = this.valueCodec().parse(ops, pair.getSecond());
-
-                    // Create entry
-                    final DataResult<Pair<K, V>> entry = k.apply2stable(Pair::of, v);
-                    entry.get().mapBoth(e -> read.put(e.getFirst(), e.getSecond()), p -> {
-                        if (stopOnFirstFailure) shouldStop.setPlain(true);
-                        failed.add(pair);
-                        return null;
-                    });
+        return new ImprovedMapEntryReader<>(this, ops, stopOnFirstFailure).read(input);
+    }
 
-                    // Map result to current success/failure reference
-                    return r.apply2stable((u, p) -> u, entry);
-                },
-                // Map results to current success/failure reference
-                (r1, r2) -> r1.apply2stable((u1, u2) -> u1, r2)
-        );
+    /**
+     * Decodes the formatted data into a map, decoding the entries concurrently
+     * if there are enough of them.
+     *
+     * @apiNote
+     * On failure, the decoded entries will be supplied as a partial result. The
+     * result is the same as if the map was decoded sequentially.
+     *
+     * @param ops the format operations to decode from
+     * @param input a map representation of the formatted data
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           map as soon as an error is found. The map will
+     *                           appear in the partial when the codec errors
+     * @param parallel the configuration for decoding large maps concurrently
+     * @param <T> the type of the encoded format
+     * @return a {@link DataResult} containing the map on success or a partial of
+     *         the map with an error message on failure
+     */
+    default <T> DataResult<Map<K, V>> decode(final DynamicOps<T> ops, final MapLike<T> input, final boolean stopOnFirstFailure, final ParallelDecode parallel) {
+        return new ImprovedMapEntryReader<>(this, ops, stopOnFirstFailure).read(input, parallel);
+    }
 
-        // Build results
-        final Map<K, V> entries = read.build();
-        final Map<String, T> errors = MapHelper.createAndAdd(ImmutableMap.of(
-                "failed inputs", (k, b) -> MapHelper.addIfNotEmpty(b, k, failed.build(), c -> ops.createMap(c.stream())),
-                "unread inputs", (k, b) -> MapHelper.addIfNotEmpty(b, k, notRead.build(), c -> ops.createMap(c.stream()))
-        ));
+    /**
+     * Decodes the formatted data into a mutable map.
+     *
+     * @apiNote
+     * On failure, the map with the decoded entries will be supplied as a partial
+     * result. Entries whose key has already been decoded, such as keys which only
+     * differ by case for a case-insensitive key codec, are reported as
+     * duplicates.
+     *
+     * @param ops the format operations to decode from
+     * @param input a map representation of the formatted data
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           map as soon as an error is found. The map will
+     *                           appear in the partial when the codec errors
+     * @param map the map to add the decoded entries to
+     * @param <T> the type of the encoded format
+     * @param <M> the type of the map
+     * @return a {@link DataResult} containing the map on success or a partial of
+     *         the map with an error message on failure
+     */
+    default <T, M extends Map<K, V>> DataResult<M> decodeInto(final DynamicOps<T> ops, final MapLike<T> input, final boolean stopOnFirstFailure, final M map) {
+        return new ImprovedMapEntryReader<>(this, ops, stopOnFirstFailure).readInto(input, map);
+    }
 
-        // Map result and failure for outputs
-        return result.map(u -> entries).setPartial(entries).mapError(e -> e + MapHelper.toString(errors));
+    /**
+     * Decodes the formatted data, passing each decoded entry to the sink as it is
+     * read instead of collecting them into a map.
+     *
+     * @apiNote
+     * Failed and unread entries are reported the same as when decoding a map.
+     * Entries passed to the sink before a failure are not revoked.
+     *
+     * @param ops the format operations to decode from
+     * @param input a map representation of the formatted data
+     * @param stopOnFirstFailure if {@code true}, the codec will stop reading the
+     *                           map as soon as an error is found
+     * @param sink a consumer which receives each decoded entry
+     * @param <T> the type of the encoded format
+     * @return a {@link DataResult} containing a unit on success or a partial of a
+     *         unit with an error message on failure
+     */
+    default <T> DataResult<Unit> decodeEach(final DynamicOps<T> ops, final MapLike<T> input, final boolean stopOnFirstFailure, final BiConsumer<K, V> sink) {
+        return new ImprovedMapEntryReader<>(this, ops, stopOnFirstFailure).visit(input, sink);
     }
 
     /**
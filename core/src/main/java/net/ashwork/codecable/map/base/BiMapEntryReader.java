@@ -0,0 +1,205 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.map.base;
+
+import com.google.common.collect.BiMap;
+import com.google.common.collect.ImmutableBiMap;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.Lifecycle;
+import com.mojang.serialization.MapLike;
+import net.ashwork.codecable.util.ErrorMessage;
+import net.ashwork.codecable.util.ErrorReport;
+import net.ashwork.codecable.util.ParallelDecode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A reader which decodes the entries of a map for a {@link BaseBiMapCodec}.
+ *
+ * @implNote
+ * The success or failure of the bimap is folded into the reader's state rather
+ * than a {@link DataResult} per entry, and the {@link ErrorReport} of failed,
+ * duplicate, and unread inputs is only created once the first failure is
+ * encountered.
+ *
+ * <p>Duplicate values are detected by storing only the first encoded key of each
+ * value. A list of encoded keys is created for a value once it collides, such
+ * that unique values never allocate more than their entry in the index.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ * @param <T> the type of the encoded format
+ */
+final class BiMapEntryReader<K, V, T> implements Consumer<Pair<T, T>> {
+
+    private final BaseBiMapCodec<K, V> codec;
+    private final DynamicOps<T> ops;
+    private final boolean failOnDuplicate, stopOnFirstFailure;
+    private final ImmutableBiMap.Builder<K, V> read;
+    private final Map<V, T> firstKeys;
+    private Map<V, Pair<T, List<T>>> duplicates;
+    private Lifecycle lifecycle;
+    private boolean shouldStop;
+    private ErrorMessage errorMessage;
+    private ErrorReport<T> report;
+
+    /**
+     * Default constructor.
+     *
+     * @param codec the bimap codec being decoded
+     * @param ops the format operations to decode from
+     * @param failOnDuplicate if {@code true}, any duplicate values will return an
+     *                        errored {@link DataResult}
+     * @param stopOnFirstFailure if {@code true}, the reader will stop decoding
+     *                           entries as soon as an error is found
+     */
+    BiMapEntryReader(final BaseBiMapCodec<K, V> codec, final DynamicOps<T> ops, final boolean failOnDuplicate, final boolean stopOnFirstFailure) {
+        this.codec = codec;
+        this.ops = ops;
+        this.failOnDuplicate = failOnDuplicate;
+        this.stopOnFirstFailure = stopOnFirstFailure;
+        this.read = ImmutableBiMap.builder();
+        this.firstKeys = new HashMap<>();
+        this.lifecycle = Lifecycle.stable();
+    }
+
+    /**
+     * Decodes the formatted data into a bimap, concurrently if there are enough
+     * entries.
+     *
+     * @param input a map representation of the formatted data
+     * @param parallel the configuration for decoding large bimaps concurrently
+     * @return a {@link DataResult} containing the bimap on success or a partial
+     *         of the bimap with an error message on failure
+     */
+    DataResult<BiMap<K, V>> read(final MapLike<T> input, final ParallelDecode parallel) {
+        if (parallel.isSequential()) {
+            input.entries().forEach(this);
+            return this.build();
+        }
+
+        final List<Pair<T, T>> entries = input.entries().toList();
+        if (!parallel.shouldSplit(entries.size())) entries.forEach(this);
+        else {
+            // Decode entries concurrently, then merge them in order
+            final List<Pair<DataResult<K>, DataResult<V>>> decoded = parallel.decode(entries,
+                    pair -> Pair.of(this.codec.keyCodec().parse(this.ops, pair.getFirst()), this.codec.valueCodec().parse(this.ops, pair.getSecond())),
+                    this.stopOnFirstFailure ? result -> result.getFirst().error().isPresent() || result.getSecond().error().isPresent() : null);
+            for (int i = 0; i < entries.size(); i++) {
+                final Pair<DataResult<K>, DataResult<V>> result = decoded.get(i);
+                if (result == null) this.accept(entries.get(i), null, null);
+                else this.accept(entries.get(i), result.getFirst(), result.getSecond());
+            }
+        }
+        return this.build();
+    }
+
+    @Override
+    public void accept(final Pair<T, T> pair) {
+        if (this.shouldStop) this.accept(pair, null, null);
+        else this.accept(pair, this.codec.keyCodec().parse(this.ops, pair.getFirst()), this.codec.valueCodec().parse(this.ops, pair.getSecond()));
+    }
+
+    /**
+     * Adds a decoded entry to the bimap.
+     *
+     * @param pair the encoded entry
+     * @param key the decoded key, or {@code null} if the entry was not read
+     * @param value the decoded value, or {@code null} if the entry was not read
+     */
+    private void accept(final Pair<T, T> pair, final DataResult<K> key, final DataResult<V> value) {
+        // If no other data should be parsed after failure, just store the entry
+        if (this.shouldStop) {
+            this.report().add("unread inputs", pair);
+            return;
+        }
+
+        this.lifecycle = this.lifecycle.add(key.lifecycle()).add(value.lifecycle());
+
+        final Optional<K> k = key.result();
+        final Optional<V> v = value.result();
+        if (k.isPresent() && v.isPresent()) {
+            // Check if value already added
+            final T first = this.firstKeys.putIfAbsent(v.get(), pair.getFirst());
+            if (first == null) {
+                this.read.put(k.get(), v.get());
+                return;
+            }
+
+            // Otherwise record the colliding keys
+            if (this.duplicates == null) this.duplicates = new LinkedHashMap<>();
+            this.duplicates.computeIfAbsent(v.get(), val -> {
+                final List<T> keys = new ArrayList<>(2);
+                keys.add(first);
+                return Pair.of(pair.getSecond(), keys);
+            }).getSecond().add(pair.getFirst());
+            if (this.failOnDuplicate) this.fail("Duplicate value: " + pair.getSecond());
+            return;
+        }
+
+        // Otherwise record failure
+        if (this.stopOnFirstFailure) this.shouldStop = true;
+        this.report().add("failed inputs", pair);
+        key.error().ifPresent(e -> this.appendError(e.message()));
+        value.error().ifPresent(e -> this.appendError(e.message()));
+    }
+
+    /**
+     * Records an error message for the current entry.
+     *
+     * @param message the error message
+     */
+    private void fail(final String message) {
+        if (this.stopOnFirstFailure) this.shouldStop = true;
+        this.appendError(message);
+    }
+
+    /**
+     * Appends a message to the error message.
+     *
+     * @param message the message to append
+     */
+    private void appendError(final String message) {
+        if (this.errorMessage == null) this.errorMessage = new ErrorMessage();
+        this.errorMessage.append(message);
+    }
+
+    /**
+     * Returns the report of failed, duplicate, and unread inputs, creating it if
+     * necessary.
+     *
+     * @return the report of failed, duplicate, and unread inputs
+     */
+    private ErrorReport<T> report() {
+        if (this.report == null) this.report = new ErrorReport<>(this.ops);
+        return this.report;
+    }
+
+    /**
+     * Builds the result of the decoded bimap.
+     *
+     * @return a {@link DataResult} containing the bimap on success or a partial
+     *         of the bimap with an error message on failure
+     */
+    private DataResult<BiMap<K, V>> build() {
+        final BiMap<K, V> entries = this.read.build();
+        if (this.errorMessage == null) return DataResult.success(entries, this.lifecycle);
+
+        // Add duplicate values to the report
+        final ErrorReport<T> report = this.report();
+        if (this.duplicates != null)
+            this.duplicates.values().forEach(p -> report.add("duplicate values", p.getFirst(), this.ops.createList(p.getSecond().stream())));
+        return DataResult.error(report.appendTo(this.errorMessage.toString()), entries, this.lifecycle);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.map.base;
+
+import com.google.common.collect.ImmutableMap;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.datafixers.util.Unit;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.Lifecycle;
+import com.mojang.serialization.MapLike;
+import net.ashwork.codecable.util.ErrorMessage;
+import net.ashwork.codecable.util.ErrorReport;
+import net.ashwork.codecable.util.ParallelDecode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * A reader which decodes the entries of a map for a {@link BaseImprovedMapCodec}.
+ *
+ * @implNote
+ * The entries are iterated once, with the result builder pre-sized whenever the
+ * number of entries is known ahead of time. The success or failure of the map is
+ * folded into the reader's state rather than a {@link DataResult} per entry, and
+ * the {@link ErrorReport} of failed and unread inputs is only created once the
+ * first failure is encountered.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ * @param <T> the type of the encoded format
+ */
+final class ImprovedMapEntryReader<K, V, T> implements Consumer<Pair<T, T>> {
+
+    private final BaseImprovedMapCodec<K, V> codec;
+    private final DynamicOps<T> ops;
+    private final boolean stopOnFirstFailure;
+    private BiPredicate<K, V> sink;
+    private Lifecycle lifecycle;
+    private boolean shouldStop;
+    private ErrorMessage errorMessage;
+    private ErrorReport<T> report;
+
+    /**
+     * Default constructor.
+     *
+     * @param codec the map codec being decoded
+     * @param ops the format operations to decode from
+     * @param stopOnFirstFailure if {@code true}, the reader will stop decoding
+     *                           entries as soon as an error is found
+     */
+    ImprovedMapEntryReader(final BaseImprovedMapCodec<K, V> codec, final DynamicOps<T> ops, final boolean stopOnFirstFailure) {
+        this.codec = codec;
+        this.ops = ops;
+        this.stopOnFirstFailure = stopOnFirstFailure;
+        this.lifecycle = Lifecycle.stable();
+    }
+
+    /**
+     * Decodes the formatted data into a map.
+     *
+     * @param input a map representation of the formatted data
+     * @return a {@link DataResult} containing the map on success or a partial of
+     *         the map with an error message on failure
+     */
+    DataResult<Map<K, V>> read(final MapLike<T> input) {
+        final Spliterator<Pair<T, T>> entries = input.entries().spliterator();
+        final long size = entries.getExactSizeIfKnown();
+        final ImmutableMap.Builder<K, V> read = size < 0 ? ImmutableMap.builder() : ImmutableMap.builderWithExpectedSize((int) Math.min(size, Integer.MAX_VALUE));
+        this.sink = (k, v) -> {
+            read.put(k, v);
+            return true;
+        };
+        entries.forEachRemaining(this);
+        return this.build(read.build());
+    }
+
+    /**
+     * Decodes the formatted data, passing each decoded entry to the sink instead
+     * of collecting them into a map.
+     *
+     * @param input a map representation of the formatted data
+     * @param sink a consumer which receives each decoded entry
+     * @return a {@link DataResult} containing a unit on success or a partial of
+     *         a unit with an error message on failure
+     */
+    DataResult<Unit> visit(final MapLike<T> input, final BiConsumer<K, V> sink) {
+        this.sink = (k, v) -> {
+            sink.accept(k, v);
+            return true;
+        };
+        input.entries().forEach(this);
+        return this.build(Unit.INSTANCE);
+    }
+
+    /**
+     * Decodes the formatted data into a mutable map. Entries whose key has already
+     * been decoded are reported as duplicates.
+     *
+     * @param input a map representation of the formatted data
+     * @param map the map to add the decoded entries to
+     * @param <M> the type of the map
+     * @return a {@link DataResult} containing the map on success or a partial of
+     *         the map with an error message on failure
+     */
+    <M extends Map<K, V>> DataResult<M> readInto(final MapLike<T> input, final M map) {
+        this.sink = (k, v) -> {
+            if (map.containsKey(k)) return false;
+            map.put(k, v);
+            return true;
+        };
+        input.entries().forEach(this);
+        return this.build(map);
+    }
+
+    /**
+     * Decodes the formatted data into a map, concurrently if there are enough
+     * entries.
+     *
+     * @param input a map representation of the formatted data
+     * @param parallel the configuration for decoding large maps concurrently
+     * @return a {@link DataResult} containing the map on success or a partial of
+     *         the map with an error message on failure
+     */
+    DataResult<Map<K, V>> read(final MapLike<T> input, final ParallelDecode parallel) {
+        if (parallel.isSequential()) return this.read(input);
+        final List<Pair<T, T>> entries = input.entries().toList();
+        final ImmutableMap.Builder<K, V> read = ImmutableMap.builderWithExpectedSize(entries.size());
+        this.sink = (k, v) -> {
+            read.put(k, v);
+            return true;
+        };
+        if (!parallel.shouldSplit(entries.size())) entries.forEach(this);
+        else {
+            // Decode entries concurrently, then merge them in order
+            final List<Pair<DataResult<Pair<K, T>>, DataResult<Pair<V, T>>>> decoded = parallel.decode(entries,
+                    pair -> Pair.of(this.codec.keyCodec().decode(this.ops, pair.getFirst()), this.codec.valueCodec().decode(this.ops, pair.getSecond())),
+                    this.stopOnFirstFailure ? result -> result.getFirst().error().isPresent() || result.getSecond().error().isPresent() : null);
+            for (int i = 0; i < entries.size(); i++) {
+                final Pair<DataResult<Pair<K, T>>, DataResult<Pair<V, T>>> result = decoded.get(i);
+                if (result == null) this.accept(entries.get(i), null, null);
+                else this.accept(entries.get(i), result.getFirst(), result.getSecond());
+            }
+        }
+        return this.build(read.build());
+    }
+
+    @Override
+    public void accept(final Pair<T, T> pair) {
+        if (this.shouldStop) this.accept(pair, null, null);
+        else this.accept(pair, this.codec.keyCodec().decode(this.ops, pair.getFirst()), this.codec.valueCodec().decode(this.ops, pair.getSecond()));
+    }
+
+    /**
+     * Adds a decoded entry to the map.
+     *
+     * @param pair the encoded entry
+     * @param key the decoded key, or {@code null} if the entry was not read
+     * @param value the decoded value, or {@code null} if the entry was not read
+     */
+    private void accept(final Pair<T, T> pair, final DataResult<Pair<K, T>> key, final DataResult<Pair<V, T>> value) {
+        // If no other data should be parsed after failure, just store the entry
+        if (this.shouldStop) {
+            this.report().add("unread inputs", pair);
+            return;
+        }
+
+        this.lifecycle = this.lifecycle.add(key.lifecycle()).add(value.lifecycle());
+
+        // Add entry if both decoded
+        final Optional<Pair<K, T>> k = key.result();
+        final Optional<Pair<V, T>> v = value.result();
+        if (k.isPresent() && v.isPresent()) {
+            // Check if key already added
+            if (this.sink.test(k.get().getFirst(), v.get().getFirst())) return;
+            if (this.stopOnFirstFailure) this.shouldStop = true;
+            this.report().add("duplicate keys", pair);
+            this.appendError("Duplicate key: " + pair.getFirst());
+            return;
+        }
+
+        // Otherwise record failure
+        if (this.stopOnFirstFailure) this.shouldStop = true;
+        this.report().add("failed inputs", pair);
+        key.error().ifPresent(e -> this.appendError(e.message()));
+        value.error().ifPresent(e -> this.appendError(e.message()));
+    }
+
+    /**
+     * Returns the report of failed, duplicate, and unread inputs, creating it if
+     * necessary.
+     *
+     * @return the report of failed, duplicate, and unread inputs
+     */
+    private ErrorReport<T> report() {
+        if (this.report == null) this.report = new ErrorReport<>(this.ops);
+        return this.report;
+    }
+
+    /**
+     * Appends a message to the error message.
+     *
+     * @param message the message to append
+     */
+    private void appendError(final String message) {
+        if (this.errorMessage == null) this.errorMessage = new ErrorMessage();
+        this.errorMessage.append(message);
+    }
+
+    /**
+     * Builds the result of the decoded map.
+     *
+     * @param entries the result of the decoded entries
+     * @param <R> the type of the result
+     * @return a {@link DataResult} containing the result on success or a partial
+     *         of the result with an error message on failure
+     */
+    private <R> DataResult<R> build(final R entries) {
+        if (this.errorMessage == null) return DataResult.success(entries, this.lifecycle);
+        return DataResult.error(this.report.appendTo(this.errorMessage.toString()), entries, this.lifecycle);
+    }
+}
@@ -0,0 +1,633 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.ops;
+
+import com.mojang.datafixers.util.Unit;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Decoder;
+import com.mojang.serialization.Encoder;
+import com.mojang.serialization.Lifecycle;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes and reads the data held by {@link BinaryOps} to and from bytes.
+ *
+ * <p>Every value is written as a one byte tag followed by its payload. Ints,
+ * shorts, and longs are written as zigzag varints, floats and doubles as their
+ * big-endian bits, and strings as a varint length followed by their UTF-8
+ * bytes. Lists and maps are written as a varint size followed by the tag of
+ * their elements, or keys and values, if they all have the same non-empty type.
+ * In that case, each element is written without its tag; otherwise, a mixed
+ * header is written and every element carries its own tag. Every element
+ * therefore takes at least one byte.
+ */
+public final class BinaryFormat {
+
+    private static final byte EMPTY = 0;
+    private static final byte BYTE = 1;
+    private static final byte SHORT = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte FLOAT = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte BOOLEAN = 7;
+    private static final byte STRING = 8;
+    private static final byte LIST = 9;
+    private static final byte MAP = 10;
+    private static final byte BYTE_ARRAY = 11;
+    private static final byte INT_ARRAY = 12;
+    private static final byte LONG_ARRAY = 13;
+    /**
+     * The header of a list or map whose elements have different types.
+     */
+    private static final byte MIXED = -1;
+
+    /**
+     * The maximum depth of nested lists and maps which can be read.
+     */
+    private static final int MAX_DEPTH = 512;
+
+    /**
+     * Default constructor.
+     */
+    private BinaryFormat() {
+        throw new AssertionError("BinaryFormat should not be initialized");
+    }
+
+    /**
+     * Encodes a value and writes it to bytes.
+     *
+     * @param ops the binary ops to encode with
+     * @param encoder the encoder of the value
+     * @param value the value to encode
+     * @param <A> the type of the value
+     * @return the written bytes, or an error if the value could not be encoded
+     */
+    public static <A> DataResult<byte[]> encode(final BinaryOps ops, final Encoder<A> encoder, final A value) {
+        return encoder.encodeStart(ops, value).map(BinaryFormat::toBytes);
+    }
+
+    /**
+     * Reads bytes and decodes them into a value.
+     *
+     * @param ops the binary ops to decode with
+     * @param decoder the decoder of the value
+     * @param bytes the bytes to read
+     * @param <A> the type of the value
+     * @return the decoded value, or an error if the bytes could not be read or
+     *         decoded
+     */
+    public static <A> DataResult<A> decode(final BinaryOps ops, final Decoder<A> decoder, final byte[] bytes) {
+        return fromBytes(bytes).flatMap(data -> decoder.parse(ops, data));
+    }
+
+    /**
+     * Reads the remaining bytes of a buffer and decodes them into a value.
+     *
+     * @param ops the binary ops to decode with
+     * @param decoder the decoder of the value
+     * @param buffer the buffer to read, which must be fully consumed
+     * @param <A> the type of the value
+     * @return the decoded value, or an error if the bytes could not be read or
+     *         decoded
+     */
+    public static <A> DataResult<A> decode(final BinaryOps ops, final Decoder<A> decoder, final ByteBuffer buffer) {
+        return readFully(buffer).flatMap(data -> decoder.parse(ops, data));
+    }
+
+    /**
+     * Writes the data to bytes.
+     *
+     * @param data the data held by {@link BinaryOps}
+     * @return the written bytes
+     * @throws IllegalArgumentException if the data holds a value not created by
+     *                                  {@link BinaryOps}
+     */
+    public static byte[] toBytes(final Object data) {
+        final Output output = new Output();
+        writeTagged(output, data);
+        return output.toByteArray();
+    }
+
+    /**
+     * Writes the data to a buffer.
+     *
+     * @param data the data held by {@link BinaryOps}
+     * @return a buffer holding the written bytes
+     * @throws IllegalArgumentException if the data holds a value not created by
+     *                                  {@link BinaryOps}
+     */
+    public static ByteBuffer toByteBuffer(final Object data) {
+        return ByteBuffer.wrap(toBytes(data));
+    }
+
+    /**
+     * Reads the data from bytes. All bytes must be consumed.
+     *
+     * @param bytes the bytes to read
+     * @return the data held by {@link BinaryOps}, or an error if the bytes are
+     *         malformed
+     */
+    public static DataResult<Object> fromBytes(final byte[] bytes) {
+        return readFully(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads the data from a buffer. All remaining bytes must be consumed.
+     *
+     * @param buffer the buffer to read
+     * @return the data held by {@link BinaryOps}, or an error if the bytes are
+     *         malformed
+     */
+    private static DataResult<Object> readFully(final ByteBuffer buffer) {
+        return read(buffer).flatMap(data -> buffer.hasRemaining()
+                ? DataResult.error(buffer.remaining() + " bytes left after reading binary data")
+                : DataResult.success(data, Lifecycle.stable()));
+    }
+
+    /**
+     * Reads the data from a buffer. The position of the buffer is moved past the
+     * bytes read.
+     *
+     * @param buffer the buffer to read
+     * @return the data held by {@link BinaryOps}, or an error if the bytes are
+     *         malformed
+     */
+    public static DataResult<Object> read(final ByteBuffer buffer) {
+        try {
+            return DataResult.success(readTagged(buffer, 0), Lifecycle.stable());
+        } catch (final BufferUnderflowException e) {
+            return DataResult.error("Unexpected end of binary data");
+        } catch (final IllegalArgumentException e) {
+            return DataResult.error("Malformed binary data: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the tag of a value.
+     *
+     * @param value the value
+     * @return the tag of the value
+     * @throws IllegalArgumentException if the value was not created by
+     *                                  {@link BinaryOps}
+     */
+    private static byte tagOf(final Object value) {
+        if (value == Unit.INSTANCE) return EMPTY;
+        else if (value instanceof Map) return MAP;
+        else if (value instanceof List) return LIST;
+        else if (value instanceof String) return STRING;
+        else if (value instanceof Integer) return INT;
+        else if (value instanceof Boolean) return BOOLEAN;
+        else if (value instanceof Long) return LONG;
+        else if (value instanceof Double) return DOUBLE;
+        else if (value instanceof Float) return FLOAT;
+        else if (value instanceof Byte) return BYTE;
+        else if (value instanceof Short) return SHORT;
+        else if (value instanceof byte[]) return BYTE_ARRAY;
+        else if (value instanceof int[]) return INT_ARRAY;
+        else if (value instanceof long[]) return LONG_ARRAY;
+        throw new IllegalArgumentException("Cannot write binary value: " + value);
+    }
+
+    /**
+     * Returns the tag shared by all values.
+     *
+     * @param values the values
+     * @return the shared tag, or {@link #MIXED} if the values have different tags
+     *         or are all empty
+     */
+    private static byte commonTag(final Collection<?> values) {
+        byte tag = MIXED;
+        for (final Object value : values) {
+            final byte current = tagOf(value);
+            if (tag == MIXED) tag = current;
+            else if (tag != current) return MIXED;
+        }
+        // Empty values have no payload, so they keep their tag to take up a byte
+        return tag == EMPTY ? MIXED : tag;
+    }
+
+    /**
+     * Writes a value preceded by its tag.
+     *
+     * @param output the output to write to
+     * @param value the value to write
+     */
+    private static void writeTagged(final Output output, final Object value) {
+        final byte tag = tagOf(value);
+        output.writeByte(tag);
+        writePayload(output, tag, value);
+    }
+
+    /**
+     * Writes a value, or its tag as well if the shared tag is mixed.
+     *
+     * @param output the output to write to
+     * @param tag the tag shared by the value and its siblings
+     * @param value the value to write
+     */
+    private static void writeElement(final Output output, final byte tag, final Object value) {
+        if (tag == MIXED) writeTagged(output, value);
+        else writePayload(output, tag, value);
+    }
+
+    /**
+     * Writes a value without its tag.
+     *
+     * @param output the output to write to
+     * @param tag the tag of the value
+     * @param value the value to write
+     */
+    private static void writePayload(final Output output, final byte tag, final Object value) {
+        switch (tag) {
+            case EMPTY -> {}
+            case BYTE -> output.writeByte((Byte) value);
+            case SHORT -> output.writeVarInt(zigzag((Short) value));
+            case INT -> output.writeVarInt(zigzag((Integer) value));
+            case LONG -> output.writeVarLong(zigzag((Long) value));
+            case FLOAT -> output.writeInt(Float.floatToRawIntBits((Float) value));
+            case DOUBLE -> output.writeLong(Double.doubleToRawLongBits((Double) value));
+            case BOOLEAN -> output.writeByte((Boolean) value ? 1 : 0);
+            case STRING -> {
+                final byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                output.writeVarInt(bytes.length);
+                output.writeBytes(bytes);
+            }
+            case LIST -> {
+                final List<?> list = (List<?>) value;
+                output.writeVarInt(list.size());
+                if (list.isEmpty()) return;
+                final byte elementTag = commonTag(list);
+                output.writeByte(elementTag);
+                for (final Object element : list) writeElement(output, elementTag, element);
+            }
+            case MAP -> {
+                final Map<?, ?> map = (Map<?, ?>) value;
+                output.writeVarInt(map.size());
+                if (map.isEmpty()) return;
+                final byte keyTag = commonTag(map.keySet()), valueTag = commonTag(map.values());
+                output.writeByte(keyTag);
+                output.writeByte(valueTag);
+                map.forEach((k, v) -> {
+                    writeElement(output, keyTag, k);
+                    writeElement(output, valueTag, v);
+                });
+            }
+            case BYTE_ARRAY -> {
+                final byte[] bytes = (byte[]) value;
+                output.writeVarInt(bytes.length);
+                output.writeBytes(bytes);
+            }
+            case INT_ARRAY -> {
+                final int[] ints = (int[]) value;
+                output.writeVarInt(ints.length);
+                for (final int i : ints) output.writeVarInt(zigzag(i));
+            }
+            case LONG_ARRAY -> {
+                final long[] longs = (long[]) value;
+                output.writeVarInt(longs.length);
+                for (final long l : longs) output.writeVarLong(zigzag(l));
+            }
+            default -> throw new IllegalArgumentException("Unknown tag: " + tag);
+        }
+    }
+
+    /**
+     * Reads a value preceded by its tag.
+     *
+     * @param buffer the buffer to read from
+     * @param depth the number of lists and maps the value is nested in
+     * @return the read value
+     */
+    private static Object readTagged(final ByteBuffer buffer, final int depth) {
+        return readPayload(buffer, buffer.get(), depth);
+    }
+
+    /**
+     * Reads a value, or its tag as well if the shared tag is mixed.
+     *
+     * @param buffer the buffer to read from
+     * @param tag the tag shared by the value and its siblings
+     * @param depth the number of lists and maps the value is nested in
+     * @return the read value
+     */
+    private static Object readElement(final ByteBuffer buffer, final byte tag, final int depth) {
+        return tag == MIXED ? readTagged(buffer, depth) : readPayload(buffer, tag, depth);
+    }
+
+    /**
+     * Reads a value without its tag.
+     *
+     * @param buffer the buffer to read from
+     * @param tag the tag of the value
+     * @param depth the number of lists and maps the value is nested in
+     * @return the read value
+     */
+    private static Object readPayload(final ByteBuffer buffer, final byte tag, final int depth) {
+        return switch (tag) {
+            case EMPTY -> Unit.INSTANCE;
+            case BYTE -> buffer.get();
+            case SHORT -> (short) unzigzag(readVarInt(buffer));
+            case INT -> unzigzag(readVarInt(buffer));
+            case LONG -> unzigzag(readVarLong(buffer));
+            case FLOAT -> Float.intBitsToFloat(readInt(buffer));
+            case DOUBLE -> Double.longBitsToDouble(readLong(buffer));
+            case BOOLEAN -> buffer.get() != 0;
+            case STRING -> {
+                final int length = readSize(buffer, 1);
+                final String value;
+                if (buffer.hasArray()) {
+                    value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                    buffer.position(buffer.position() + length);
+                } else {
+                    final byte[] bytes = new byte[length];
+                    buffer.get(bytes);
+                    value = new String(bytes, StandardCharsets.UTF_8);
+                }
+                yield value;
+            }
+            case LIST -> {
+                if (depth >= MAX_DEPTH) throw new IllegalArgumentException("Nested deeper than " + MAX_DEPTH);
+                final int size = readSize(buffer, 1);
+                final List<Object> list = new ArrayList<>(size);
+                if (size == 0) yield list;
+                final byte elementTag = readSharedTag(buffer);
+                for (int i = 0; i < size; i++) list.add(readElement(buffer, elementTag, depth + 1));
+                yield list;
+            }
+            case MAP -> {
+                if (depth >= MAX_DEPTH) throw new IllegalArgumentException("Nested deeper than " + MAX_DEPTH);
+                final int size = readSize(buffer, 2);
+                final Map<Object, Object> map = new LinkedHashMap<>();
+                if (size == 0) yield map;
+                final byte keyTag = readSharedTag(buffer), valueTag = readSharedTag(buffer);
+                for (int i = 0; i < size; i++) {
+                    final Object key = readElement(buffer, keyTag, depth + 1);
+                    map.put(key, readElement(buffer, valueTag, depth + 1));
+                }
+                yield map;
+            }
+            case BYTE_ARRAY -> {
+                final byte[] bytes = new byte[readSize(buffer, 1)];
+                buffer.get(bytes);
+                yield bytes;
+            }
+            case INT_ARRAY -> {
+                final int[] ints = new int[readSize(buffer, 1)];
+                for (int i = 0; i < ints.length; i++) ints[i] = unzigzag(readVarInt(buffer));
+                yield ints;
+            }
+            case LONG_ARRAY -> {
+                final long[] longs = new long[readSize(buffer, 1)];
+                for (int i = 0; i < longs.length; i++) longs[i] = unzigzag(readVarLong(buffer));
+                yield longs;
+            }
+            default -> throw new IllegalArgumentException("Unknown tag: " + tag);
+        };
+    }
+
+    /**
+     * Reads the tag shared by the elements of a list, or the keys or values of a
+     * map.
+     *
+     * @param buffer the buffer to read from
+     * @return the shared tag
+     * @throws IllegalArgumentException if the shared tag is empty, as its elements
+     *                                  would take no bytes
+     */
+    private static byte readSharedTag(final ByteBuffer buffer) {
+        final byte tag = buffer.get();
+        if (tag == EMPTY) throw new IllegalArgumentException("Shared tag cannot be empty");
+        return tag;
+    }
+
+    /**
+     * Reads the size of a string, list, map, or array.
+     *
+     * @param buffer the buffer to read from
+     * @param minBytes the minimum number of bytes each element takes
+     * @return the read size
+     * @throws IllegalArgumentException if the size cannot fit in the remaining
+     *                                  bytes
+     */
+    private static int readSize(final ByteBuffer buffer, final int minBytes) {
+        final int size = readVarInt(buffer);
+        // Check before allocating so a corrupt size does not exhaust memory
+        if (size < 0 || (long) size * minBytes > buffer.remaining())
+            throw new IllegalArgumentException("Size " + Integer.toUnsignedString(size) + " exceeds the remaining " + buffer.remaining() + " bytes");
+        return size;
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @param buffer the buffer to read from
+     * @return the read int
+     */
+    private static int readVarInt(final ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("Varint is too long");
+    }
+
+    /**
+     * Reads an unsigned varlong.
+     *
+     * @param buffer the buffer to read from
+     * @return the read long
+     */
+    private static long readVarLong(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("Varlong is too long");
+    }
+
+    /**
+     * Reads a big-endian int regardless of the order of the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the read int
+     */
+    private static int readInt(final ByteBuffer buffer) {
+        final int value = buffer.getInt();
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value);
+    }
+
+    /**
+     * Reads a big-endian long regardless of the order of the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the read long
+     */
+    private static long readLong(final ByteBuffer buffer) {
+        final long value = buffer.getLong();
+        return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+    }
+
+    /**
+     * Maps a signed int to an unsigned int so that small magnitudes are small.
+     *
+     * @param value the signed int
+     * @return the zigzag encoded int
+     */
+    private static int zigzag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Maps a signed long to an unsigned long so that small magnitudes are small.
+     *
+     * @param value the signed long
+     * @return the zigzag encoded long
+     */
+    private static long zigzag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Reverses {@link #zigzag(int)}.
+     *
+     * @param value the zigzag encoded int
+     * @return the signed int
+     */
+    private static int unzigzag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reverses {@link #zigzag(long)}.
+     *
+     * @param value the zigzag encoded long
+     * @return the signed long
+     */
+    private static long unzigzag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * A growable byte array to write to.
+     */
+    private static final class Output {
+
+        private byte[] bytes;
+        private int size;
+
+        /**
+         * Default constructor.
+         */
+        private Output() {
+            this.bytes = new byte[256];
+        }
+
+        /**
+         * Makes room for the given number of bytes.
+         *
+         * @param length the number of bytes to be written
+         */
+        private void ensure(final int length) {
+            if (this.size + length > this.bytes.length)
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length << 1, this.size + length));
+        }
+
+        /**
+         * Writes a single byte.
+         *
+         * @param value the byte to write
+         */
+        private void writeByte(final int value) {
+            this.ensure(1);
+            this.bytes[this.size++] = (byte) value;
+        }
+
+        /**
+         * Writes an array of bytes.
+         *
+         * @param values the bytes to write
+         */
+        private void writeBytes(final byte[] values) {
+            this.ensure(values.length);
+            System.arraycopy(values, 0, this.bytes, this.size, values.length);
+            this.size += values.length;
+        }
+
+        /**
+         * Writes an unsigned varint.
+         *
+         * @param value the int to write
+         */
+        private void writeVarInt(final int value) {
+            this.ensure(5);
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                this.bytes[this.size++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            this.bytes[this.size++] = (byte) remaining;
+        }
+
+        /**
+         * Writes an unsigned varlong.
+         *
+         * @param value the long to write
+         */
+        private void writeVarLong(final long value) {
+            this.ensure(10);
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                this.bytes[this.size++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            this.bytes[this.size++] = (byte) remaining;
+        }
+
+        /**
+         * Writes a big-endian int.
+         *
+         * @param value the int to write
+         */
+        private void writeInt(final int value) {
+            this.ensure(4);
+            for (int shift = 24; shift >= 0; shift -= 8) this.bytes[this.size++] = (byte) (value >>> shift);
+        }
+
+        /**
+         * Writes a big-endian long.
+         *
+         * @param value the long to write
+         */
+        private void writeLong(final long value) {
+            this.ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) this.bytes[this.size++] = (byte) (value >>> shift);
+        }
+
+        /**
+         * Returns a copy of the written bytes.
+         *
+         * @return the written bytes
+         */
+        private byte[] toByteArray() {
+            return Arrays.copyOf(this.bytes, this.size);
+        }
+    }
+}
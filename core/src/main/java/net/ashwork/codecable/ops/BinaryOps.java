@@ -0,0 +1,266 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.ops;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.datafixers.util.Unit;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.Lifecycle;
+import com.mojang.serialization.MapLike;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DynamicOps} for a compact binary format. Data is held as a tree of
+ * plain Java objects which can be written to and read from bytes using
+ * {@link BinaryFormat}.
+ *
+ * <p>Maps are represented as {@link Map}s, lists as {@link List}s, primitive
+ * lists as {@code byte[]}, {@code int[]}, and {@code long[]}, the empty value
+ * as {@link Unit#INSTANCE}, and primitives as their boxed counterparts.
+ *
+ * @implNote
+ * Numbers which are not one of the boxed primitives are stored as a
+ * {@code double}.
+ */
+public final class BinaryOps implements DynamicOps<Object> {
+
+    /**
+     * An instance of the ops.
+     */
+    public static final BinaryOps INSTANCE = new BinaryOps(false);
+    /**
+     * An instance of the ops which compresses maps.
+     */
+    public static final BinaryOps COMPRESSED = new BinaryOps(true);
+
+    private final boolean compressed;
+
+    /**
+     * Default constructor. Use {@link #INSTANCE} or {@link #COMPRESSED}.
+     *
+     * @param compressed whether maps should be compressed
+     */
+    private BinaryOps(final boolean compressed) {
+        this.compressed = compressed;
+    }
+
+    @Override
+    public Object empty() {
+        return Unit.INSTANCE;
+    }
+
+    @Override
+    public <U> U convertTo(final DynamicOps<U> outOps, final Object input) {
+        if (input == Unit.INSTANCE) return outOps.empty();
+        else if (input instanceof Map) return this.convertMap(outOps, input);
+        else if (input instanceof List) return this.convertList(outOps, input);
+        else if (input instanceof String s) return outOps.createString(s);
+        else if (input instanceof Boolean b) return outOps.createBoolean(b);
+        else if (input instanceof Byte b) return outOps.createByte(b);
+        else if (input instanceof Short s) return outOps.createShort(s);
+        else if (input instanceof Integer i) return outOps.createInt(i);
+        else if (input instanceof Long l) return outOps.createLong(l);
+        else if (input instanceof Float f) return outOps.createFloat(f);
+        else if (input instanceof Double d) return outOps.createDouble(d);
+        else if (input instanceof byte[] b) return outOps.createByteList(ByteBuffer.wrap(b));
+        else if (input instanceof int[] i) return outOps.createIntList(Arrays.stream(i));
+        else if (input instanceof long[] l) return outOps.createLongList(Arrays.stream(l));
+        throw new IllegalStateException("Unknown binary value: " + input);
+    }
+
+    @Override
+    public DataResult<Number> getNumberValue(final Object input) {
+        if (input instanceof Number n) return DataResult.success(n, Lifecycle.stable());
+        else if (input instanceof Boolean b) return DataResult.success(b ? 1 : 0, Lifecycle.stable());
+        return DataResult.error("Not a number: " + input);
+    }
+
+    @Override
+    public Object createNumeric(final Number i) {
+        return i instanceof Byte || i instanceof Short || i instanceof Integer
+                || i instanceof Long || i instanceof Float || i instanceof Double ? i : i.doubleValue();
+    }
+
+    @Override
+    public DataResult<Boolean> getBooleanValue(final Object input) {
+        if (input instanceof Boolean b) return DataResult.success(b, Lifecycle.stable());
+        else if (input instanceof Number n) return DataResult.success(n.byteValue() != 0, Lifecycle.stable());
+        return DataResult.error("Not a boolean: " + input);
+    }
+
+    @Override
+    public Object createBoolean(final boolean value) {
+        return value;
+    }
+
+    @Override
+    public DataResult<String> getStringValue(final Object input) {
+        if (input instanceof String s) return DataResult.success(s, Lifecycle.stable());
+        else if (this.compressed && input instanceof Number n) return DataResult.success(n.toString(), Lifecycle.stable());
+        return DataResult.error("Not a string: " + input);
+    }
+
+    @Override
+    public Object createString(final String value) {
+        return value;
+    }
+
+    @Override
+    public DataResult<Object> mergeToList(final Object list, final Object value) {
+        return this.mergeToList(list, List.of(value));
+    }
+
+    @Override
+    public DataResult<Object> mergeToList(final Object list, final List<Object> values) {
+        if (list == Unit.INSTANCE) return DataResult.success(new ArrayList<>(values), Lifecycle.stable());
+        return this.getStream(list).map(stream -> {
+            final List<Object> result = stream.collect(Collectors.toCollection(ArrayList::new));
+            result.addAll(values);
+            return (Object) result;
+        }).mapError(s -> "mergeToList called with not a list: " + list);
+    }
+
+    @Override
+    public DataResult<Object> mergeToMap(final Object map, final Object key, final Object value) {
+        if (map != Unit.INSTANCE && !(map instanceof Map)) return DataResult.error("mergeToMap called with not a map: " + map, map);
+        final Map<Object, Object> result = copyOf(map);
+        result.put(key, value);
+        return DataResult.success(result, Lifecycle.stable());
+    }
+
+    @Override
+    public DataResult<Object> mergeToMap(final Object map, final MapLike<Object> values) {
+        if (map != Unit.INSTANCE && !(map instanceof Map)) return DataResult.error("mergeToMap called with not a map: " + map, map);
+        final Map<Object, Object> result = copyOf(map);
+        values.entries().forEach(entry -> result.put(entry.getFirst(), entry.getSecond()));
+        return DataResult.success(result, Lifecycle.stable());
+    }
+
+    @Override
+    public DataResult<Stream<Pair<Object, Object>>> getMapValues(final Object input) {
+        return input instanceof Map<?, ?> m
+                ? DataResult.success(m.entrySet().stream().map(e -> Pair.of(e.getKey(), e.getValue())), Lifecycle.stable())
+                : DataResult.error("Not a map: " + input);
+    }
+
+    @Override
+    public DataResult<Consumer<BiConsumer<Object, Object>>> getMapEntries(final Object input) {
+        return input instanceof Map<?, ?> m
+                ? DataResult.success(m::forEach, Lifecycle.stable())
+                : DataResult.error("Not a map: " + input);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DataResult<MapLike<Object>> getMap(final Object input) {
+        return input instanceof Map<?, ?> m
+                ? DataResult.success(MapLike.forMap((Map<Object, Object>) m, this), Lifecycle.stable())
+                : DataResult.error("Not a map: " + input);
+    }
+
+    @Override
+    public Object createMap(final Stream<Pair<Object, Object>> map) {
+        final Map<Object, Object> result = new LinkedHashMap<>();
+        map.forEach(p -> result.put(p.getFirst(), p.getSecond()));
+        return result;
+    }
+
+    @Override
+    public DataResult<Stream<Object>> getStream(final Object input) {
+        if (input instanceof List<?> l) return DataResult.success(l.stream().map(Object.class::cast), Lifecycle.stable());
+        else if (input instanceof byte[] b) return DataResult.success(IntStream.range(0, b.length).mapToObj(i -> b[i]), Lifecycle.stable());
+        else if (input instanceof int[] i) return DataResult.success(Arrays.stream(i).boxed().map(Object.class::cast), Lifecycle.stable());
+        else if (input instanceof long[] l) return DataResult.success(Arrays.stream(l).boxed().map(Object.class::cast), Lifecycle.stable());
+        return DataResult.error("Not a list: " + input);
+    }
+
+    @Override
+    public DataResult<Consumer<Consumer<Object>>> getList(final Object input) {
+        return input instanceof List<?> l
+                ? DataResult.success(l::forEach, Lifecycle.stable())
+                : this.getStream(input).map(stream -> stream::forEach);
+    }
+
+    @Override
+    public Object createList(final Stream<Object> input) {
+        return input.collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Override
+    public DataResult<ByteBuffer> getByteBuffer(final Object input) {
+        return input instanceof byte[] b ? DataResult.success(ByteBuffer.wrap(b), Lifecycle.stable()) : DynamicOps.super.getByteBuffer(input);
+    }
+
+    @Override
+    public Object createByteList(final ByteBuffer input) {
+        final byte[] bytes = new byte[input.capacity()];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = input.get(i);
+        return bytes;
+    }
+
+    @Override
+    public DataResult<IntStream> getIntStream(final Object input) {
+        return input instanceof int[] i ? DataResult.success(Arrays.stream(i), Lifecycle.stable()) : DynamicOps.super.getIntStream(input);
+    }
+
+    @Override
+    public Object createIntList(final IntStream input) {
+        return input.toArray();
+    }
+
+    @Override
+    public DataResult<LongStream> getLongStream(final Object input) {
+        return input instanceof long[] l ? DataResult.success(Arrays.stream(l), Lifecycle.stable()) : DynamicOps.super.getLongStream(input);
+    }
+
+    @Override
+    public Object createLongList(final LongStream input) {
+        return input.toArray();
+    }
+
+    @Override
+    public Object remove(final Object input, final String key) {
+        if (input instanceof Map) {
+            final Map<Object, Object> result = copyOf(input);
+            result.remove(key);
+            return result;
+        }
+        return input;
+    }
+
+    @Override
+    public boolean compressMaps() {
+        return this.compressed;
+    }
+
+    @Override
+    public String toString() {
+        return "Binary";
+    }
+
+    /**
+     * Returns a mutable copy of a map, or an empty map if the input is empty.
+     *
+     * @param map the map or empty value
+     * @return a mutable copy of the map
+     */
+    private static Map<Object, Object> copyOf(final Object map) {
+        return map instanceof Map<?, ?> m ? new LinkedHashMap<>(m) : new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.ops;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * An {@link OpsConverter} which copies a tree of lists and maps using an
+ * explicit stack rather than recursion, such that deeply nested values cannot
+ * overflow the call stack.
+ *
+ * <p>Each list or map is created empty and attached to its parent as soon as it
+ * is found. Its elements are then filled in once it is popped from the stack.
+ * The elements of a list are therefore added in order, regardless of which
+ * order the containers are filled in.
+ *
+ * @implSpec
+ * The containers created by the target format must be mutable until the
+ * conversion completes.
+ *
+ * @param <T> the type of the format to convert from
+ * @param <U> the type of the format to convert to
+ */
+public abstract class IterativeConverter<T, U> implements OpsConverter<T, U> {
+
+    @Override
+    public final U convert(final T input) {
+        final Kind rootKind = this.kindOf(input);
+        if (rootKind == Kind.VALUE) return this.convertValue(input);
+
+        final U root = this.createContainer(rootKind);
+        final Deque<Frame<T, U>> stack = new ArrayDeque<>();
+        stack.push(new Frame<>(input, rootKind, root));
+        while (!stack.isEmpty()) {
+            final Frame<T, U> frame = stack.pop();
+            if (frame.kind() == Kind.MAP)
+                this.forEachEntry(frame.source(), (key, value) -> this.put(frame.target(), key, this.convertChild(value, stack)));
+            else
+                this.forEachElement(frame.source(), value -> this.add(frame.target(), this.convertChild(value, stack)));
+        }
+        return root;
+    }
+
+    /**
+     * Converts a nested value. If the value is a container, an empty container
+     * is returned and pushed to the stack to be filled in later.
+     *
+     * @param value the value to convert
+     * @param stack the containers which have yet to be filled in
+     * @return the converted value
+     */
+    private U convertChild(final T value, final Deque<Frame<T, U>> stack) {
+        final Kind kind = this.kindOf(value);
+        if (kind == Kind.VALUE) return this.convertValue(value);
+
+        final U target = this.createContainer(kind);
+        stack.push(new Frame<>(value, kind, target));
+        return target;
+    }
+
+    /**
+     * Creates an empty container in the target format.
+     *
+     * @param kind the kind of the container
+     * @return an empty list or map
+     */
+    private U createContainer(final Kind kind) {
+        return kind == Kind.MAP ? this.createMap() : this.createList();
+    }
+
+    /**
+     * Returns how a value in the source format is converted.
+     *
+     * @param input the value in the source format
+     * @return the kind of the value
+     */
+    protected abstract Kind kindOf(final T input);
+
+    /**
+     * Converts a value which is neither a list nor a map. Any primitive arrays
+     * should be converted here in full.
+     *
+     * @param input the value in the source format
+     * @return the value in the target format
+     */
+    protected abstract U convertValue(final T input);
+
+    /**
+     * Performs an action on each element of a list in the source format, in
+     * order.
+     *
+     * @param list the list in the source format
+     * @param action the action to perform on each element
+     */
+    protected abstract void forEachElement(final T list, final Consumer<T> action);
+
+    /**
+     * Performs an action on each entry of a map in the source format.
+     *
+     * @param map the map in the source format
+     * @param action the action to perform on the key and value of each entry
+     * @throws IllegalStateException if a key cannot be represented as a string
+     */
+    protected abstract void forEachEntry(final T map, final BiConsumer<String, T> action);
+
+    /**
+     * Creates an empty, mutable list in the target format.
+     *
+     * @return an empty list
+     */
+    protected abstract U createList();
+
+    /**
+     * Adds an element to the end of a list in the target format.
+     *
+     * @param list the list created by {@link #createList()}
+     * @param element the element to add
+     */
+    protected abstract void add(final U list, final U element);
+
+    /**
+     * Creates an empty, mutable map in the target format.
+     *
+     * @return an empty map
+     */
+    protected abstract U createMap();
+
+    /**
+     * Adds an entry to a map in the target format.
+     *
+     * @param map the map created by {@link #createMap()}
+     * @param key the key of the entry
+     * @param value the value of the entry
+     */
+    protected abstract void put(final U map, final String key, final U value);
+
+    /**
+     * How a value in the source format is converted.
+     */
+    public enum Kind {
+        /**
+         * A value converted in full by {@link #convertValue(Object)}.
+         */
+        VALUE,
+        /**
+         * A list whose elements are converted individually.
+         */
+        LIST,
+        /**
+         * A map whose values are converted individually.
+         */
+        MAP
+    }
+
+    /**
+     * A container which has yet to be filled in.
+     *
+     * @param source the container in the source format
+     * @param kind the kind of the container
+     * @param target the empty container in the target format
+     * @param <T> the type of the format to convert from
+     * @param <U> the type of the format to convert to
+     */
+    private record Frame<T, U>(T source, Kind kind, U target) {}
+}
@@ -0,0 +1,503 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.ops;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Decoder;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.Lifecycle;
+import com.mojang.serialization.MapLike;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link JsonOps} which decodes directly from a {@link JsonReader} without
+ * parsing the entire input into a {@link JsonElement} tree first.
+ *
+ * <p>The outermost value is read lazily. If it is a list or map read by
+ * {@link #getList(JsonElement)}, {@link #getStream(JsonElement)},
+ * {@link #getMapEntries(JsonElement)}, {@link #getMapValues(JsonElement)}, or
+ * the entries of {@link #getMap(JsonElement)}, each element is parsed only when
+ * the codec consumes it. The memory used is therefore bounded by the decoded
+ * result, the keys of a streamed map, and the largest element rather than the
+ * entire input. Any other access parses the outermost value in full.
+ *
+ * @apiNote
+ * Use {@link #decode(Decoder, JsonReader)} to create the ops. The outermost
+ * value can only be streamed once, so codecs which read their input more than
+ * once will report an error. A streamed map with a duplicate key also reports
+ * an error, as the later value cannot be known in advance, whereas
+ * {@link JsonOps} keeps the last value.
+ */
+public final class JsonReaderOps extends JsonOps {
+
+    private final JsonReader reader;
+    /**
+     * A placeholder for the outermost value. Only its identity is used.
+     */
+    private final JsonElement root;
+    private State state;
+    /**
+     * Whether the outermost value being streamed is a map rather than a list.
+     */
+    private boolean streamingMap;
+    /**
+     * The keys read from the outermost map while it is streamed.
+     */
+    @Nullable
+    private Set<String> streamedKeys;
+    @Nullable
+    private JsonElement parsed;
+
+    /**
+     * Default constructor. Use {@link #decode(Decoder, JsonReader)}.
+     *
+     * @param reader the reader holding the outermost value
+     */
+    private JsonReaderOps(final JsonReader reader) {
+        super(false);
+        this.reader = reader;
+        this.root = new JsonPrimitive("<streamed input>");
+        this.state = State.UNREAD;
+    }
+
+    /**
+     * Decodes the next value of a reader.
+     *
+     * @param decoder the decoder of the value
+     * @param reader the reader to read from
+     * @param <A> the type of the value
+     * @return the decoded value, or an error if the value could not be read or
+     *         decoded
+     */
+    public static <A> DataResult<A> decode(final Decoder<A> decoder, final JsonReader reader) {
+        return decode(decoder, reader, false);
+    }
+
+    /**
+     * Decodes the value held by a reader. The JSON is read leniently, the same
+     * as {@link JsonParser#parseReader(Reader)}, and nothing but whitespace may
+     * follow the value.
+     *
+     * @param decoder the decoder of the value
+     * @param reader the reader to read from
+     * @param <A> the type of the value
+     * @return the decoded value, or an error if the value could not be read or
+     *         decoded
+     */
+    public static <A> DataResult<A> decode(final Decoder<A> decoder, final Reader reader) {
+        final JsonReader json = new JsonReader(reader);
+        json.setLenient(true);
+        return decode(decoder, json, true);
+    }
+
+    /**
+     * Decodes the next value of a reader.
+     *
+     * @implNote
+     * Methods which cannot return a {@link DataResult}, such as
+     * {@link MapLike#get(String)} or {@link #convertTo(DynamicOps, JsonElement)},
+     * throw a {@link StreamException} when the outermost value cannot be read.
+     * Only those exceptions and failures to read the JSON are reported as
+     * errors; any other exception is thrown by the decoder.
+     *
+     * @param decoder the decoder of the value
+     * @param reader the reader to read from
+     * @param document if {@code true}, the value must be the only value held by
+     *                 the reader
+     * @param <A> the type of the value
+     * @return the decoded value, or an error if the value could not be read or
+     *         decoded
+     */
+    private static <A> DataResult<A> decode(final Decoder<A> decoder, final JsonReader reader, final boolean document) {
+        final JsonReaderOps ops = new JsonReaderOps(reader);
+        try {
+            final DataResult<A> result = decoder.parse(ops, ops.root);
+            if (!document || result.error().isPresent()) return result;
+
+            // Check that nothing follows the value, the same as the parser
+            ops.skipRest();
+            return ops.peek() == JsonToken.END_DOCUMENT ? result : DataResult.error("Malformed JSON: JSON document was not fully consumed");
+        } catch (final UncheckedIOException e) {
+            return DataResult.error("Failed to read JSON: " + e.getCause().getMessage());
+        } catch (final JsonParseException | IllegalStateException e) {
+            return DataResult.error("Malformed JSON: " + e.getMessage());
+        } catch (final StreamException e) {
+            return DataResult.error(e.getMessage());
+        }
+    }
+
+    @Override
+    public <U> U convertTo(final DynamicOps<U> outOps, final JsonElement input) {
+        return super.convertTo(outOps, getOrThrow(this.resolve(input)));
+    }
+
+    @Override
+    public DataResult<Number> getNumberValue(final JsonElement input) {
+        return this.resolvePrimitive(input).flatMap(super::getNumberValue);
+    }
+
+    @Override
+    public DataResult<Boolean> getBooleanValue(final JsonElement input) {
+        return this.resolvePrimitive(input).flatMap(super::getBooleanValue);
+    }
+
+    @Override
+    public DataResult<String> getStringValue(final JsonElement input) {
+        return this.resolvePrimitive(input).flatMap(super::getStringValue);
+    }
+
+    @Override
+    public DataResult<JsonElement> mergeToList(final JsonElement list, final JsonElement value) {
+        return this.resolve(list).flatMap(l -> super.mergeToList(l, value));
+    }
+
+    @Override
+    public DataResult<JsonElement> mergeToList(final JsonElement list, final List<JsonElement> values) {
+        return this.resolve(list).flatMap(l -> super.mergeToList(l, values));
+    }
+
+    @Override
+    public DataResult<JsonElement> mergeToMap(final JsonElement map, final JsonElement key, final JsonElement value) {
+        return this.resolve(map).flatMap(m -> super.mergeToMap(m, key, value));
+    }
+
+    @Override
+    public DataResult<JsonElement> mergeToMap(final JsonElement map, final MapLike<JsonElement> values) {
+        return this.resolve(map).flatMap(m -> super.mergeToMap(m, values));
+    }
+
+    @Override
+    public DataResult<Stream<Pair<JsonElement, JsonElement>>> getMapValues(final JsonElement input) {
+        if (this.streams(input, JsonToken.BEGIN_OBJECT))
+            return DataResult.success(this.stream(action -> this.nextEntry((key, value) -> action.accept(Pair.of(key, value)))), Lifecycle.stable());
+        return this.resolve(input).flatMap(super::getMapValues);
+    }
+
+    @Override
+    public DataResult<Consumer<BiConsumer<JsonElement, JsonElement>>> getMapEntries(final JsonElement input) {
+        if (this.streams(input, JsonToken.BEGIN_OBJECT))
+            return DataResult.success(consumer -> {
+                while (this.nextEntry(consumer)) {}
+            }, Lifecycle.stable());
+        return this.resolve(input).flatMap(super::getMapEntries);
+    }
+
+    @Override
+    public DataResult<MapLike<JsonElement>> getMap(final JsonElement input) {
+        if (!this.streams(input, JsonToken.BEGIN_OBJECT)) return this.resolve(input).flatMap(super::getMap);
+
+        return DataResult.success(new MapLike<>() {
+            @Nullable
+            @Override
+            public JsonElement get(final JsonElement key) {
+                return this.get(key.getAsString());
+            }
+
+            @Nullable
+            @Override
+            public JsonElement get(final String key) {
+                // Looking up a key requires the entire map
+                final JsonElement map = getOrThrow(JsonReaderOps.this.resolve(input));
+                final JsonElement value = map.getAsJsonObject().get(key);
+                return value instanceof JsonNull ? null : value;
+            }
+
+            @Override
+            public Stream<Pair<JsonElement, JsonElement>> entries() {
+                return getOrThrow(JsonReaderOps.this.getMapValues(input));
+            }
+
+            @Override
+            public String toString() {
+                return "MapLike[" + input + "]";
+            }
+        }, Lifecycle.stable());
+    }
+
+    @Override
+    public DataResult<Stream<JsonElement>> getStream(final JsonElement input) {
+        if (this.streams(input, JsonToken.BEGIN_ARRAY)) return DataResult.success(this.stream(this::nextElement), Lifecycle.stable());
+        return this.resolve(input).flatMap(super::getStream);
+    }
+
+    @Override
+    public DataResult<Consumer<Consumer<JsonElement>>> getList(final JsonElement input) {
+        if (this.streams(input, JsonToken.BEGIN_ARRAY))
+            return DataResult.success(consumer -> {
+                while (this.nextElement(consumer)) {}
+            }, Lifecycle.stable());
+        return this.resolve(input).flatMap(super::getList);
+    }
+
+    @Override
+    public JsonElement remove(final JsonElement input, final String key) {
+        return this.resolve(input).map(element -> super.remove(element, key)).result().orElse(input);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonReader";
+    }
+
+    /**
+     * Returns whether the input is the unread outermost value and starts with
+     * the given token.
+     *
+     * @param input the input to check
+     * @param token the token the value should start with
+     * @return {@code true} if the input can be streamed
+     */
+    private boolean streams(final JsonElement input, final JsonToken token) {
+        return input == this.root && this.state == State.UNREAD && this.peek() == token;
+    }
+
+    /**
+     * Returns the parsed value of the input. The outermost value is parsed in
+     * full if it has not been read.
+     *
+     * @param input the input to resolve
+     * @return the parsed value, or an error if the outermost value has already
+     *         been streamed
+     */
+    private DataResult<JsonElement> resolve(final JsonElement input) {
+        if (input != this.root) return DataResult.success(input, Lifecycle.stable());
+        if (this.state == State.UNREAD) {
+            this.parsed = JsonParser.parseReader(this.reader);
+            this.state = State.PARSED;
+        }
+        return this.state == State.PARSED
+                ? DataResult.success(this.parsed, Lifecycle.stable())
+                : DataResult.error("The streamed input has already been read");
+    }
+
+    /**
+     * Returns the parsed value of the input if it is not a list or map. The
+     * outermost value is not parsed if it is a list or map.
+     *
+     * @param input the input to resolve
+     * @return the parsed value, or an error if the outermost value is a list
+     *         or map
+     */
+    private DataResult<JsonElement> resolvePrimitive(final JsonElement input) {
+        if (input == this.root && this.state == State.UNREAD) {
+            final JsonToken token = this.peek();
+            if (token == JsonToken.BEGIN_ARRAY || token == JsonToken.BEGIN_OBJECT)
+                return DataResult.error("Not a primitive: " + input);
+        }
+        return this.resolve(input);
+    }
+
+    /**
+     * Creates a stream which reads the outermost value as it is consumed.
+     *
+     * @param next a function which passes the next element to the action,
+     *             returning {@code false} when there are no more elements
+     * @param <A> the type of the element
+     * @return a stream of the elements
+     */
+    private <A> Stream<A> stream(final Next<A> next) {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<A>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(final Consumer<? super A> action) {
+                return next.advance(action::accept);
+            }
+        }, false);
+    }
+
+    /**
+     * Reads the next element of the outermost list.
+     *
+     * @param action the action which receives the element
+     * @return {@code true} if an element was read
+     */
+    private boolean nextElement(final Consumer<? super JsonElement> action) {
+        try {
+            if (this.state == State.UNREAD) {
+                this.reader.beginArray();
+                this.state = State.STREAMING;
+                this.streamingMap = false;
+            }
+            if (this.state != State.STREAMING) return false;
+            if (!this.reader.hasNext()) {
+                this.reader.endArray();
+                this.state = State.STREAMED;
+                return false;
+            }
+            action.accept(valueOf(JsonParser.parseReader(this.reader)));
+            return true;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the next entry of the outermost map.
+     *
+     * @param action the action which receives the key and value
+     * @return {@code true} if an entry was read
+     */
+    private boolean nextEntry(final BiConsumer<JsonElement, JsonElement> action) {
+        try {
+            if (this.state == State.UNREAD) {
+                this.reader.beginObject();
+                this.state = State.STREAMING;
+                this.streamingMap = true;
+                this.streamedKeys = new HashSet<>();
+            }
+            if (this.state != State.STREAMING) return false;
+            if (!this.reader.hasNext()) {
+                this.reader.endObject();
+                this.state = State.STREAMED;
+                this.streamedKeys = null;
+                return false;
+            }
+            final String name = this.reader.nextName();
+            if (!this.streamedKeys.add(name)) {
+                this.state = State.STREAMED;
+                throw new StreamException("Duplicate key: " + name);
+            }
+            final JsonElement key = new JsonPrimitive(name);
+            action.accept(key, valueOf(JsonParser.parseReader(this.reader)));
+            return true;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the rest of the outermost value, such that the reader is positioned
+     * after it.
+     */
+    private void skipRest() {
+        if (this.state == State.UNREAD) {
+            try {
+                this.reader.skipValue();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.state = State.STREAMED;
+        } else if (this.state == State.STREAMING) {
+            if (this.streamingMap) while (this.nextEntry((key, value) -> {})) {}
+            else while (this.nextElement(element -> {})) {}
+        }
+    }
+
+    /**
+     * Returns the next token of the reader.
+     *
+     * @return the next token
+     */
+    private JsonToken peek() {
+        try {
+            return this.reader.peek();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the value of a result, throwing if the result is an error.
+     *
+     * @param result the result
+     * @param <A> the type of the value
+     * @return the value of the result
+     * @throws StreamException if the result is an error
+     */
+    private static <A> A getOrThrow(final DataResult<A> result) {
+        final Optional<A> value = result.result();
+        if (value.isPresent()) return value.get();
+        throw new StreamException(result.error().map(DataResult.PartialResult::message).orElse(""));
+    }
+
+    /**
+     * Returns the value passed to a codec for a parsed element.
+     *
+     * @param element the parsed element
+     * @return the element, or {@code null} if the element is a JSON null
+     */
+    @Nullable
+    private static JsonElement valueOf(final JsonElement element) {
+        return element instanceof JsonNull ? null : element;
+    }
+
+    /**
+     * How much of the outermost value has been read.
+     */
+    private enum State {
+        /**
+         * Nothing has been read.
+         */
+        UNREAD,
+        /**
+         * The value is being streamed.
+         */
+        STREAMING,
+        /**
+         * The value has been streamed.
+         */
+        STREAMED,
+        /**
+         * The value has been parsed in full.
+         */
+        PARSED
+    }
+
+    /**
+     * An error reading the outermost value from a method which cannot return a
+     * {@link DataResult}.
+     */
+    private static final class StreamException extends RuntimeException {
+
+        /**
+         * Default constructor.
+         *
+         * @param message the error message
+         */
+        private StreamException(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * A function which reads the next element of the outermost value.
+     *
+     * @param <A> the type of the element
+     */
+    @FunctionalInterface
+    private interface Next<A> {
+
+        /**
+         * Passes the next element to the action.
+         *
+         * @param action the action which receives the element
+         * @return {@code true} if an element was read
+         */
+        boolean advance(Consumer<A> action);
+    }
+}
@@ -0,0 +1,520 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.ops;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.datafixers.util.Unit;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.Encoder;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.Lifecycle;
+import com.mojang.serialization.ListBuilder;
+import com.mojang.serialization.MapLike;
+import com.mojang.serialization.RecordBuilder;
+
+import javax.annotation.Nullable;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A write-only {@link DynamicOps} which encodes JSON directly to a
+ * {@link Writer} without building a {@link JsonElement} tree.
+ *
+ * <p>Each value is held as its JSON text. The first list or map builder
+ * created while encoding is the outermost value, so it writes each element
+ * to the writer as soon as it is added; nested values are only held until
+ * they are added to their parent. The memory used is therefore bounded by
+ * the largest element of the outermost collection rather than the entire
+ * output.
+ *
+ * @apiNote
+ * Use {@link #encode(Encoder, Object, Writer)} to create the ops. If encoding
+ * fails, anything written before the error will remain in the writer. Values
+ * can be read back by parsing their text, though this is only meant to
+ * support codecs which inspect a value while encoding.
+ */
+public final class JsonWriterOps implements DynamicOps<String> {
+
+    /**
+     * The text of the empty value.
+     */
+    private static final String EMPTY = "null";
+    /**
+     * The value returned by the outermost builder once it has been written.
+     * No other value has empty text.
+     */
+    private static final String WRITTEN = "";
+
+    private final Writer writer;
+    private boolean claimed;
+
+    /**
+     * Default constructor. Use {@link #encode(Encoder, Object, Writer)}.
+     *
+     * @param writer the writer to write the outermost value to
+     */
+    private JsonWriterOps(final Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Encodes a value as JSON to a writer. The writer is not flushed or
+     * closed.
+     *
+     * @param encoder the encoder of the value
+     * @param value the value to encode
+     * @param writer the writer to write to
+     * @param <A> the type of the value
+     * @return a successful result, or an error if the value could not be
+     *         encoded or written
+     */
+    public static <A> DataResult<Unit> encode(final Encoder<A> encoder, final A value, final Writer writer) {
+        final JsonWriterOps ops = new JsonWriterOps(writer);
+        try {
+            return encoder.encodeStart(ops, value).map(json -> {
+                if (!json.isEmpty()) append(writer, json);
+                return Unit.INSTANCE;
+            });
+        } catch (final UncheckedIOException e) {
+            return DataResult.error("Failed to write JSON: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Encodes a value as UTF-8 JSON to an output stream. The stream is flushed
+     * but not closed.
+     *
+     * @param encoder the encoder of the value
+     * @param value the value to encode
+     * @param stream the stream to write to
+     * @param <A> the type of the value
+     * @return a successful result, or an error if the value could not be
+     *         encoded or written
+     */
+    public static <A> DataResult<Unit> encode(final Encoder<A> encoder, final A value, final OutputStream stream) {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+        final DataResult<Unit> result = encode(encoder, value, writer);
+        try {
+            writer.flush();
+            return result;
+        } catch (final IOException e) {
+            return DataResult.error("Failed to write JSON: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public <U> U convertTo(final DynamicOps<U> outOps, final String input) {
+        return JsonOps.INSTANCE.convertTo(outOps, parse(input).getOrThrow(false, s -> {}));
+    }
+
+    @Override
+    public DataResult<Number> getNumberValue(final String input) {
+        return parse(input).flatMap(JsonOps.INSTANCE::getNumberValue);
+    }
+
+    @Override
+    public String createNumeric(final Number i) {
+        return i.toString();
+    }
+
+    @Override
+    public DataResult<Boolean> getBooleanValue(final String input) {
+        return parse(input).flatMap(JsonOps.INSTANCE::getBooleanValue);
+    }
+
+    @Override
+    public String createBoolean(final boolean value) {
+        return value ? "true" : "false";
+    }
+
+    @Override
+    public DataResult<String> getStringValue(final String input) {
+        return parse(input).flatMap(JsonOps.INSTANCE::getStringValue);
+    }
+
+    @Override
+    public String createString(final String value) {
+        return quote(value);
+    }
+
+    @Override
+    public DataResult<String> mergeToList(final String list, final String value) {
+        return this.mergeToList(list, List.of(value));
+    }
+
+    @Override
+    public DataResult<String> mergeToList(final String list, final List<String> values) {
+        if (!list.equals(EMPTY) && !list.startsWith("[")) return DataResult.error("mergeToList called with not a list: " + list, list);
+        if (values.contains(WRITTEN)) return DataResult.error("Cannot add a value which was already written", list);
+
+        final StringBuilder result = new StringBuilder();
+        if (list.equals(EMPTY)) result.append('[');
+        else result.append(list, 0, list.length() - 1).append(list.length() > 2 && !values.isEmpty() ? "," : "");
+        return DataResult.success(result.append(String.join(",", values)).append(']').toString(), Lifecycle.stable());
+    }
+
+    @Override
+    public DataResult<String> mergeToMap(final String map, final String key, final String value) {
+        return this.mergeToMap(map, MapLike.forMap(Map.of(key, value), this));
+    }
+
+    @Override
+    public DataResult<String> mergeToMap(final String map, final MapLike<String> values) {
+        if (!map.equals(EMPTY) && !map.startsWith("{")) return DataResult.error("mergeToMap called with not a map: " + map, map);
+
+        final StringBuilder result = new StringBuilder();
+        if (map.equals(EMPTY)) result.append('{');
+        else result.append(map, 0, map.length() - 1);
+        boolean first = map.length() <= 2;
+        final List<String> missed = new ArrayList<>();
+        final Iterator<Pair<String, String>> entries = values.entries().iterator();
+        while (entries.hasNext()) {
+            final Pair<String, String> entry = entries.next();
+            final String key = keyOf(entry.getFirst());
+            if (key == null || entry.getSecond().isEmpty()) {
+                missed.add(entry.getFirst());
+                continue;
+            }
+            if (!first) result.append(',');
+            result.append(key).append(':').append(entry.getSecond());
+            first = false;
+        }
+        final String output = result.append('}').toString();
+        return missed.isEmpty() ? DataResult.success(output, Lifecycle.stable()) : DataResult.error("some keys are not strings: " + missed, output);
+    }
+
+    @Override
+    public DataResult<Stream<Pair<String, String>>> getMapValues(final String input) {
+        return parse(input).flatMap(JsonOps.INSTANCE::getMapValues)
+                .map(entries -> entries.map(entry -> Pair.of(textOf(entry.getFirst()), textOf(entry.getSecond()))));
+    }
+
+    @Override
+    public String createMap(final Stream<Pair<String, String>> map) {
+        return map.map(entry -> {
+            final String key = keyOf(entry.getFirst());
+            if (key == null || entry.getSecond().isEmpty()) throw new IllegalStateException("Cannot add entry to a map: " + entry);
+            return key + ':' + entry.getSecond();
+        }).collect(Collectors.joining(",", "{", "}"));
+    }
+
+    @Override
+    public DataResult<Stream<String>> getStream(final String input) {
+        return parse(input).flatMap(JsonOps.INSTANCE::getStream).map(elements -> elements.map(JsonWriterOps::textOf));
+    }
+
+    @Override
+    public String createList(final Stream<String> input) {
+        return input.map(element -> {
+            if (element.isEmpty()) throw new IllegalStateException("Cannot add a value which was already written");
+            return element;
+        }).collect(Collectors.joining(",", "[", "]"));
+    }
+
+    @Override
+    public String remove(final String input, final String key) {
+        return parse(input).map(element -> JsonOps.INSTANCE.remove(element, key).toString()).result().orElse(input);
+    }
+
+    @Override
+    public ListBuilder<String> listBuilder() {
+        return new JsonListBuilder();
+    }
+
+    @Override
+    public RecordBuilder<String> mapBuilder() {
+        return new JsonRecordBuilder();
+    }
+
+    @Override
+    public String toString() {
+        return "JsonWriter";
+    }
+
+    /**
+     * Parses the text of a value.
+     *
+     * @param input the text of the value
+     * @return the parsed value, or an error if the value was already written
+     */
+    private static DataResult<JsonElement> parse(final String input) {
+        if (input.isEmpty()) return DataResult.error("Cannot read a value which was already written");
+        try {
+            return DataResult.success(JsonParser.parseString(input), Lifecycle.stable());
+        } catch (final JsonParseException e) {
+            return DataResult.error("Not valid JSON: " + input);
+        }
+    }
+
+    /**
+     * Returns the text of a parsed value.
+     *
+     * @param element the parsed value, or {@code null}
+     * @return the text of the value, or {@code null}
+     */
+    @Nullable
+    private static String textOf(@Nullable final JsonElement element) {
+        return element == null ? null : element.toString();
+    }
+
+    /**
+     * Returns the text of a value when used as the key of a map.
+     *
+     * @param key the text of the key
+     * @return the text of the key, or {@code null} if the key is not a string,
+     *         the same as {@link JsonOps#INSTANCE}
+     */
+    @Nullable
+    private static String keyOf(final String key) {
+        return !key.isEmpty() && key.charAt(0) == '"' ? key : null;
+    }
+
+    /**
+     * Returns a string as a JSON string, escaped the same as
+     * {@link JsonElement#toString()}.
+     *
+     * @param value the string
+     * @return the JSON string
+     */
+    private static String quote(final String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\t' -> builder.append("\\t");
+                case '\b' -> builder.append("\\b");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\f' -> builder.append("\\f");
+                case '\u2028', '\u2029' -> builder.append(String.format("\\u%04x", (int) c));
+                default -> {
+                    if (c < 0x20) builder.append(String.format("\\u%04x", (int) c));
+                    else builder.append(c);
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Appends text to a writer.
+     *
+     * @param writer the writer to append to
+     * @param text the text to append
+     * @throws UncheckedIOException if the text could not be written
+     */
+    private static void append(final Appendable writer, final CharSequence text) {
+        try {
+            writer.append(text);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The text of a list or map being built. The first chunk created writes to
+     * the writer of the ops; all others are held in memory.
+     */
+    private final class Chunk {
+
+        private final Appendable output;
+        private final boolean written;
+        private final char close;
+        private int size;
+
+        /**
+         * Default constructor.
+         *
+         * @param open the character which opens the collection
+         * @param close the character which closes the collection
+         */
+        private Chunk(final char open, final char close) {
+            this.written = !JsonWriterOps.this.claimed;
+            JsonWriterOps.this.claimed = true;
+            this.output = this.written ? JsonWriterOps.this.writer : new StringBuilder();
+            this.close = close;
+            append(this.output, String.valueOf(open));
+        }
+
+        /**
+         * Adds the text of an element.
+         *
+         * @param text the text of the element
+         * @return this chunk
+         */
+        private Chunk add(final String text) {
+            append(this.output, this.size++ == 0 ? text : "," + text);
+            return this;
+        }
+
+        /**
+         * Closes the collection and merges it into a prefix.
+         *
+         * @param prefix the prefix to merge into
+         * @return the text of the collection, {@link #WRITTEN} if it was written,
+         *         or an error if it cannot be merged into the prefix
+         */
+        private DataResult<String> build(@Nullable final String prefix) {
+            append(this.output, String.valueOf(this.close));
+            final String text = this.written ? WRITTEN : this.output.toString();
+            if (prefix == null || prefix.equals(EMPTY)) return DataResult.success(text, Lifecycle.stable());
+            if (this.written) return DataResult.error("Cannot merge a value which was already written into " + prefix, text);
+            if (prefix.isEmpty() || prefix.charAt(0) != text.charAt(0))
+                return DataResult.error("Cannot merge " + text + " into " + prefix, prefix);
+
+            // Splice the elements of the collection after those of the prefix
+            final String separator = prefix.length() > 2 && this.size > 0 ? "," : "";
+            return DataResult.success(prefix.substring(0, prefix.length() - 1) + separator + text.substring(1), Lifecycle.stable());
+        }
+    }
+
+    /**
+     * A list builder which appends each element to its text as it is added.
+     */
+    private final class JsonListBuilder implements ListBuilder<String> {
+
+        private DataResult<Chunk> builder = this.init();
+
+        @Override
+        public DynamicOps<String> ops() {
+            return JsonWriterOps.this;
+        }
+
+        @Override
+        public DataResult<String> build(final String prefix) {
+            final DataResult<String> result = this.builder.flatMap(chunk -> chunk.build(prefix));
+            this.builder = this.init();
+            return result;
+        }
+
+        @Override
+        public ListBuilder<String> add(final String value) {
+            return this.add(DataResult.success(value, Lifecycle.stable()));
+        }
+
+        @Override
+        public ListBuilder<String> add(final DataResult<String> value) {
+            final DataResult<Chunk> current = this.builder;
+            this.builder = current.flatMap(chunk -> value).flatMap(element -> element.isEmpty()
+                    ? DataResult.error("Cannot add a value which was already written")
+                    : current.map(chunk -> chunk.add(element)));
+            return this;
+        }
+
+        @Override
+        public ListBuilder<String> withErrorsFrom(final DataResult<?> result) {
+            this.builder = this.builder.flatMap(chunk -> result.map(r -> chunk));
+            return this;
+        }
+
+        @Override
+        public ListBuilder<String> mapError(final UnaryOperator<String> onError) {
+            this.builder = this.builder.mapError(onError);
+            return this;
+        }
+
+        /**
+         * Creates the chunk of a new list.
+         *
+         * @return the chunk of the list
+         */
+        private DataResult<Chunk> init() {
+            return DataResult.success(new Chunk('[', ']'), Lifecycle.stable());
+        }
+    }
+
+    /**
+     * A record builder which appends each entry to its text as it is added.
+     */
+    private final class JsonRecordBuilder implements RecordBuilder<String> {
+
+        private DataResult<Chunk> builder = this.init();
+
+        @Override
+        public DynamicOps<String> ops() {
+            return JsonWriterOps.this;
+        }
+
+        @Override
+        public RecordBuilder<String> add(final String key, final String value) {
+            return this.add(DataResult.success(JsonWriterOps.this.createString(key), Lifecycle.stable()), DataResult.success(value, Lifecycle.stable()));
+        }
+
+        @Override
+        public RecordBuilder<String> add(final String key, final DataResult<String> value) {
+            return this.add(DataResult.success(JsonWriterOps.this.createString(key), Lifecycle.stable()), value);
+        }
+
+        @Override
+        public RecordBuilder<String> add(final DataResult<String> key, final DataResult<String> value) {
+            final DataResult<Chunk> current = this.builder;
+            this.builder = current.flatMap(chunk -> key.apply2stable(Pair::of, value)).flatMap(entry -> {
+                final String text = keyOf(entry.getFirst());
+                if (text == null) return DataResult.error("key is not a string: " + entry.getFirst());
+                if (entry.getSecond().isEmpty()) return DataResult.error("Cannot add a value which was already written");
+                return current.map(chunk -> chunk.add(text + ':' + entry.getSecond()));
+            });
+            return this;
+        }
+
+        @Override
+        public RecordBuilder<String> withErrorsFrom(final DataResult<?> result) {
+            this.builder = this.builder.flatMap(chunk -> result.map(r -> chunk));
+            return this;
+        }
+
+        @Override
+        public RecordBuilder<String> setLifecycle(final Lifecycle lifecycle) {
+            this.builder = this.builder.setLifecycle(lifecycle);
+            return this;
+        }
+
+        @Override
+        public RecordBuilder<String> mapError(final UnaryOperator<String> onError) {
+            this.builder = this.builder.mapError(onError);
+            return this;
+        }
+
+        @Override
+        public DataResult<String> build(final String prefix) {
+            final DataResult<String> result = this.builder.flatMap(chunk -> chunk.build(prefix));
+            this.builder = this.init();
+            return result;
+        }
+
+        /**
+         * Creates the chunk of a new map.
+         *
+         * @return the chunk of the map
+         */
+        private DataResult<Chunk> init() {
+            return DataResult.success(new Chunk('{', '}'), Lifecycle.stable());
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.ops;
+
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Decoder;
+import com.mojang.serialization.Lifecycle;
+import net.ashwork.codecable.util.ErrorReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A utility for decoding files by memory mapping them. The mapped bytes are
+ * read directly by {@link BinaryFormat} or streamed through
+ * {@link JsonReaderOps}, such that the file is never copied into a heap array
+ * in full.
+ *
+ * @apiNote
+ * The files of a directory can be loaded concurrently using
+ * {@link #loadDirectory(Path, Format, Decoder, int, Executor)}. A file failing
+ * to load does not stop the others; every failure is collected into the
+ * returned {@link LoadReport}.
+ */
+public final class MappedFileLoader {
+
+    /**
+     * Default constructor.
+     */
+    private MappedFileLoader() {
+        throw new AssertionError("MappedFileLoader should not be initialized");
+    }
+
+    /**
+     * Memory maps a file and decodes it into a value.
+     *
+     * @param file the file to load
+     * @param format the format the file is written in
+     * @param decoder the decoder of the value
+     * @param <A> the type of the value
+     * @return the decoded value, or an error if the file could not be read or
+     *         decoded
+     */
+    public static <A> DataResult<A> load(final Path file, final Format format, final Decoder<A> decoder) {
+        final ByteBuffer buffer;
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                return DataResult.error("File is too large to map: " + file + " (" + size + " bytes)");
+            // The mapping remains valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (final IOException | UncheckedIOException e) {
+            return DataResult.error("Failed to read file " + file + ": " + e.getMessage());
+        }
+        return format.decode(decoder, buffer);
+    }
+
+    /**
+     * Loads every file in a directory ending with the extension of the format
+     * on the common fork join pool.
+     *
+     * @param directory the directory to load the files of, not including
+     *                  subdirectories
+     * @param format the format the files are written in
+     * @param decoder the decoder of each value
+     * @param parallelism the maximum number of files loaded at once
+     * @param <A> the type of the value
+     * @return a report holding the decoded values and the errors of each file
+     *         which failed to load
+     * @see #loadDirectory(Path, Format, Decoder, int, Executor)
+     */
+    public static <A> LoadReport<A> loadDirectory(final Path directory, final Format format, final Decoder<A> decoder, final int parallelism) {
+        return loadDirectory(directory, format, decoder, parallelism, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads every file in a directory ending with the extension of the format.
+     * The files are loaded in the order of their names. A file whose decoder
+     * throws is reported as an error of that file without stopping the rest.
+     *
+     * @implNote
+     * Up to {@code parallelism - 1} workers are submitted to the executor, with
+     * the current thread acting as the last worker. Each worker claims the next
+     * unloaded file until none remain, such that no more than
+     * {@code parallelism} files are mapped at any time.
+     *
+     * @param directory the directory to load the files of, not including
+     *                  subdirectories
+     * @param format the format the files are written in
+     * @param decoder the decoder of each value
+     * @param parallelism the maximum number of files loaded at once
+     * @param executor the executor to load the files on
+     * @param <A> the type of the value
+     * @return a report holding the decoded values and the errors of each file
+     *         which failed to load
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    public static <A> LoadReport<A> loadDirectory(final Path directory, final Format format, final Decoder<A> decoder,
+                                                  final int parallelism, final Executor executor) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+
+        // Step 1: Find the files to load
+        final List<Path> files;
+        try (final Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(file -> Files.isRegularFile(file) && file.getFileName().toString().endsWith(format.extension()))
+                    .sorted().collect(Collectors.toList());
+        } catch (final IOException | UncheckedIOException e) {
+            return new LoadReport<>(0, Map.of(), Map.of(directory, "Failed to list directory: " + e.getMessage()));
+        }
+
+        // Step 2: Load the files on the workers
+        final int size = files.size();
+        @SuppressWarnings("unchecked")
+        final DataResult<A>[] results = (DataResult<A>[]) new DataResult<?>[size];
+        final AtomicInteger next = new AtomicInteger();
+        final Runnable worker = () -> {
+            for (int i; (i = next.getAndIncrement()) < size;) {
+                // A throwing decoder only fails its own file
+                try {
+                    results[i] = load(files.get(i), format, decoder);
+                } catch (final RuntimeException e) {
+                    results[i] = DataResult.error("Failed to decode file " + files.get(i) + ": " + e);
+                }
+            }
+        };
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[Math.max(0, Math.min(parallelism, size) - 1)];
+        for (int w = 0; w < futures.length; w++) futures[w] = CompletableFuture.runAsync(worker, executor);
+        worker.run();
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException r) throw r;
+            if (e.getCause() instanceof Error r) throw r;
+            throw e;
+        }
+
+        // Step 3: Split the results into values and errors
+        final Map<Path, A> values = new LinkedHashMap<>();
+        final Map<Path, String> errors = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            final Path file = files.get(i);
+            results[i].get().ifLeft(value -> values.put(file, value))
+                    .ifRight(error -> errors.put(file, error.message()));
+        }
+        return new LoadReport<>(size, Collections.unmodifiableMap(values), Collections.unmodifiableMap(errors));
+    }
+
+    /**
+     * The format a file is written in.
+     */
+    public enum Format {
+        /**
+         * UTF-8 encoded JSON, streamed through {@link JsonReaderOps}.
+         */
+        JSON(".json") {
+            @Override
+            public <A> DataResult<A> decode(final Decoder<A> decoder, final ByteBuffer buffer) {
+                return JsonReaderOps.decode(decoder, new InputStreamReader(new BufferInputStream(buffer), StandardCharsets.UTF_8.newDecoder()));
+            }
+        },
+        /**
+         * Binary data read by {@link BinaryFormat} using {@link BinaryOps#INSTANCE}.
+         */
+        BINARY(".bin") {
+            @Override
+            public <A> DataResult<A> decode(final Decoder<A> decoder, final ByteBuffer buffer) {
+                return BinaryFormat.decode(BinaryOps.INSTANCE, decoder, buffer);
+            }
+        },
+        /**
+         * Binary data read by {@link BinaryFormat} using {@link BinaryOps#COMPRESSED}.
+         */
+        COMPRESSED_BINARY(".bin") {
+            @Override
+            public <A> DataResult<A> decode(final Decoder<A> decoder, final ByteBuffer buffer) {
+                return BinaryFormat.decode(BinaryOps.COMPRESSED, decoder, buffer);
+            }
+        };
+
+        private final String extension;
+
+        /**
+         * Default constructor.
+         *
+         * @param extension the file extension of the format
+         */
+        Format(final String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Returns the file extension of the format, including the leading dot.
+         *
+         * @return the file extension of the format
+         */
+        public String extension() {
+            return this.extension;
+        }
+
+        /**
+         * Decodes the remaining bytes of a buffer into a value.
+         *
+         * @param decoder the decoder of the value
+         * @param buffer the buffer to read
+         * @param <A> the type of the value
+         * @return the decoded value, or an error if the bytes could not be read or
+         *         decoded
+         */
+        public abstract <A> DataResult<A> decode(final Decoder<A> decoder, final ByteBuffer buffer);
+    }
+
+    /**
+     * The result of loading the files of a directory.
+     *
+     * @param files the number of files found
+     * @param values the decoded values of each file which loaded, in the order of
+     *               their names
+     * @param errors the error messages of each file which failed to load, in the
+     *               order of their names
+     * @param <A> the type of the value
+     */
+    public record LoadReport<A>(int files, Map<Path, A> values, Map<Path, String> errors) {
+
+        /**
+         * Returns whether every file loaded.
+         *
+         * @return {@code true} if every file loaded
+         */
+        public boolean isSuccess() {
+            return this.errors.isEmpty();
+        }
+
+        /**
+         * Returns the decoded values as a result. If any file failed to load, the
+         * result is an error listing the failures, with the loaded values as the
+         * partial result.
+         *
+         * @apiNote
+         * Only the first {@link ErrorReport#DEFAULT_LIMIT} failures are listed in
+         * the error message.
+         *
+         * @return the decoded values, or an error if any file failed to load
+         */
+        public DataResult<Map<Path, A>> result() {
+            if (this.isSuccess()) return DataResult.success(this.values, Lifecycle.stable());
+
+            final StringBuilder builder = new StringBuilder("Failed to load ").append(this.errors.size())
+                    .append(" of ").append(this.files).append(" files");
+            int listed = 0;
+            for (final Map.Entry<Path, String> entry : this.errors.entrySet()) {
+                if (listed++ >= ErrorReport.DEFAULT_LIMIT) {
+                    builder.append("; ...and ").append(this.errors.size() - ErrorReport.DEFAULT_LIMIT).append(" more");
+                    break;
+                }
+                builder.append("; ").append(entry.getKey().getFileName()).append(": ").append(entry.getValue());
+            }
+            return DataResult.error(builder.toString(), this.values);
+        }
+    }
+
+    /**
+     * An input stream reading the remaining bytes of a buffer.
+     */
+    private static final class BufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        /**
+         * Default constructor.
+         *
+         * @param buffer the buffer to read
+         */
+        private BufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if (length == 0) return 0;
+            if (!this.buffer.hasRemaining()) return -1;
+            final int read = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+}
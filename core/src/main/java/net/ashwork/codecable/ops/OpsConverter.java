@@ -0,0 +1,37 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.ops;
+
+import com.mojang.serialization.DynamicOps;
+
+/**
+ * Represents a function that converts a value held by one {@link DynamicOps} to
+ * the equivalent value held by another, without going through the generic
+ * {@link DynamicOps#convertTo(DynamicOps, Object)}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #convert(Object)}.
+ *
+ * @apiNote
+ * A converter may return the input itself, or share nested values with it, when
+ * both formats hold the same representation. The result should be treated as
+ * read only.
+ *
+ * @param <T> the type of the format to convert from
+ * @param <U> the type of the format to convert to
+ *
+ * @see OpsConverters
+ */
+@FunctionalInterface
+public interface OpsConverter<T, U> {
+
+    /**
+     * Converts the input to the other format.
+     *
+     * @param input the value to convert
+     * @return the converted value
+     */
+    U convert(final T input);
+}
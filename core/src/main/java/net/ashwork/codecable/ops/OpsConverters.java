@@ -0,0 +1,269 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.ops;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mojang.serialization.Dynamic;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.JsonOps;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A registry of {@link OpsConverter}s between pairs of {@link DynamicOps}.
+ *
+ * <p>A value is never copied when converting to the same ops. Otherwise, the
+ * converter registered for the pair is used, falling back to
+ * {@link DynamicOps#convertTo(DynamicOps, Object)} if there is none. The
+ * following pairs are registered by default:
+ * <ul>
+ *     <li>{@link JsonOps#INSTANCE} and {@link JsonOps#COMPRESSED}, in both
+ *     directions, without copying</li>
+ *     <li>{@link BinaryOps#INSTANCE} and {@link BinaryOps#COMPRESSED}, in both
+ *     directions, without copying</li>
+ *     <li>{@link JsonOps} to and from {@link BinaryOps}, using an
+ *     {@link IterativeConverter}</li>
+ * </ul>
+ *
+ * @apiNote
+ * Pairs are matched by the identity of the ops, so ops created per use (e.g.
+ * {@link JsonReaderOps}) always fall back to the generic conversion.
+ */
+public final class OpsConverters {
+
+    /**
+     * A converter from {@link JsonOps} to {@link BinaryOps}.
+     */
+    public static final OpsConverter<JsonElement, Object> JSON_TO_BINARY = new JsonToBinary();
+    /**
+     * A converter from {@link BinaryOps} to {@link JsonOps}.
+     */
+    public static final OpsConverter<Object, JsonElement> BINARY_TO_JSON = new BinaryToJson();
+
+    /**
+     * A converter which returns its input.
+     */
+    private static final OpsConverter<Object, Object> IDENTITY = input -> input;
+    /**
+     * The registered converters, keyed by the ops to convert from and then the
+     * ops to convert to.
+     */
+    private static final Map<DynamicOps<?>, Map<DynamicOps<?>, OpsConverter<?, ?>>> CONVERTERS = new ConcurrentHashMap<>();
+
+    static {
+        registerIdentity(JsonOps.INSTANCE, JsonOps.COMPRESSED);
+        registerIdentity(BinaryOps.INSTANCE, BinaryOps.COMPRESSED);
+        for (final DynamicOps<JsonElement> json : List.of(JsonOps.INSTANCE, JsonOps.COMPRESSED)) {
+            for (final DynamicOps<Object> binary : List.of(BinaryOps.INSTANCE, BinaryOps.COMPRESSED)) {
+                register(json, binary, JSON_TO_BINARY);
+                register(binary, json, BINARY_TO_JSON);
+            }
+        }
+    }
+
+    /**
+     * Default constructor.
+     */
+    private OpsConverters() {
+        throw new AssertionError("OpsConverters should not be initialized");
+    }
+
+    /**
+     * Registers a converter between two ops, replacing any existing converter.
+     *
+     * @param from the ops to convert from
+     * @param to the ops to convert to
+     * @param converter the converter between the ops
+     * @param <T> the type of the format to convert from
+     * @param <U> the type of the format to convert to
+     * @throws IllegalArgumentException if both ops are the same
+     */
+    public static <T, U> void register(final DynamicOps<T> from, final DynamicOps<U> to, final OpsConverter<T, U> converter) {
+        if (from == to) throw new IllegalArgumentException("Cannot register a converter from " + from + " to itself");
+        CONVERTERS.computeIfAbsent(from, ops -> new ConcurrentHashMap<>(4)).put(to, converter);
+    }
+
+    /**
+     * Registers two ops as holding the same representation, such that values are
+     * not copied when converting between them in either direction.
+     *
+     * @param first the first ops
+     * @param second the second ops
+     * @param <T> the type of the format
+     */
+    public static <T> void registerIdentity(final DynamicOps<T> first, final DynamicOps<T> second) {
+        register(first, second, identity());
+        register(second, first, identity());
+    }
+
+    /**
+     * Returns the converter between two ops.
+     *
+     * @param from the ops to convert from
+     * @param to the ops to convert to
+     * @param <T> the type of the format to convert from
+     * @param <U> the type of the format to convert to
+     * @return the converter between the ops
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> OpsConverter<T, U> get(final DynamicOps<T> from, final DynamicOps<U> to) {
+        // Same ops implies the same format type
+        if (from == to) return (OpsConverter<T, U>) IDENTITY;
+
+        final Map<DynamicOps<?>, OpsConverter<?, ?>> converters = CONVERTERS.get(from);
+        if (converters != null) {
+            final OpsConverter<?, ?> converter = converters.get(to);
+            if (converter != null) return (OpsConverter<T, U>) converter;
+        }
+        return input -> from.convertTo(to, input);
+    }
+
+    /**
+     * Converts a value between two ops.
+     *
+     * @param from the ops to convert from
+     * @param to the ops to convert to
+     * @param input the value to convert
+     * @param <T> the type of the format to convert from
+     * @param <U> the type of the format to convert to
+     * @return the converted value, which may share values with the input
+     */
+    public static <T, U> U convert(final DynamicOps<T> from, final DynamicOps<U> to, final T input) {
+        return get(from, to).convert(input);
+    }
+
+    /**
+     * Converts the value of a dynamic to another ops.
+     *
+     * @apiNote
+     * Unlike {@link Dynamic#convert(DynamicOps)}, no copy is made if the dynamic
+     * already uses the ops.
+     *
+     * @param dynamic the dynamic holding the value to convert
+     * @param to the ops to convert to
+     * @param <T> the type of the format to convert from
+     * @param <U> the type of the format to convert to
+     * @return the converted value, which may share values with the input
+     */
+    public static <T, U> U convert(final Dynamic<T> dynamic, final DynamicOps<U> to) {
+        return convert(dynamic.getOps(), to, dynamic.getValue());
+    }
+
+    /**
+     * Returns a converter which returns its input.
+     *
+     * @param <T> the type of the format
+     * @return a converter which returns its input
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> OpsConverter<T, T> identity() {
+        return (OpsConverter<T, T>) IDENTITY;
+    }
+
+    /**
+     * A converter from {@link JsonOps} to {@link BinaryOps}.
+     */
+    private static final class JsonToBinary extends IterativeConverter<JsonElement, Object> {
+
+        @Override
+        protected Kind kindOf(final JsonElement input) {
+            return input instanceof JsonObject ? Kind.MAP : input instanceof JsonArray ? Kind.LIST : Kind.VALUE;
+        }
+
+        @Override
+        protected Object convertValue(final JsonElement input) {
+            return JsonOps.INSTANCE.convertTo(BinaryOps.INSTANCE, input);
+        }
+
+        @Override
+        protected void forEachElement(final JsonElement list, final Consumer<JsonElement> action) {
+            list.getAsJsonArray().forEach(action);
+        }
+
+        @Override
+        protected void forEachEntry(final JsonElement map, final BiConsumer<String, JsonElement> action) {
+            map.getAsJsonObject().entrySet().forEach(entry -> action.accept(entry.getKey(), entry.getValue()));
+        }
+
+        @Override
+        protected Object createList() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void add(final Object list, final Object element) {
+            ((List<Object>) list).add(element);
+        }
+
+        @Override
+        protected Object createMap() {
+            return new LinkedHashMap<>();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void put(final Object map, final String key, final Object value) {
+            ((Map<Object, Object>) map).put(key, value);
+        }
+    }
+
+    /**
+     * A converter from {@link BinaryOps} to {@link JsonOps}.
+     */
+    private static final class BinaryToJson extends IterativeConverter<Object, JsonElement> {
+
+        @Override
+        protected Kind kindOf(final Object input) {
+            return input instanceof Map ? Kind.MAP : input instanceof List ? Kind.LIST : Kind.VALUE;
+        }
+
+        @Override
+        protected JsonElement convertValue(final Object input) {
+            return BinaryOps.INSTANCE.convertTo(JsonOps.INSTANCE, input);
+        }
+
+        @Override
+        protected void forEachElement(final Object list, final Consumer<Object> action) {
+            ((List<?>) list).forEach(action);
+        }
+
+        @Override
+        protected void forEachEntry(final Object map, final BiConsumer<String, Object> action) {
+            ((Map<?, ?>) map).forEach((key, value) -> action.accept(
+                    key instanceof String s ? s : this.convertValue(key).getAsString(), value
+            ));
+        }
+
+        @Override
+        protected JsonElement createList() {
+            return new JsonArray();
+        }
+
+        @Override
+        protected void add(final JsonElement list, final JsonElement element) {
+            list.getAsJsonArray().add(element);
+        }
+
+        @Override
+        protected JsonElement createMap() {
+            return new JsonObject();
+        }
+
+        @Override
+        protected void put(final JsonElement map, final String key, final JsonElement value) {
+            map.getAsJsonObject().add(key, value);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.primitive;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A wrapper which memoizes the results of a codec. Up to {@code maxSize} decode
+ * results and {@code maxSize} encode results are kept, with the least recently
+ * used result evicted first.
+ *
+ * <p>Decode results are keyed by the ops and the encoded input. The input is
+ * compared using {@link Object#equals(Object)}, which is structural for JSON
+ * and NBT trees, or by identity if the inputs are canonicalized. Encode results
+ * are keyed by the ops and the identity of the value, and are only cached when
+ * encoding onto {@link DynamicOps#empty()}.
+ *
+ * @apiNote
+ * A cached result is returned to every caller with the same key, so neither the
+ * inputs, the decoded values, nor the encoded data should be modified once
+ * cached. This codec is intended for values which repeat many times within the
+ * same data, such as ingredients or enum sets.
+ *
+ * @param <A> the type of the object
+ */
+public class CachingCodec<A> extends WrapperCodec<A> {
+
+    private final boolean identityInputs;
+    private final Cache<DecodeKey, DataResult<? extends Pair<A, ?>>> decoded;
+    private final Cache<EncodeKey, DataResult<?>> encoded;
+
+    /**
+     * Default constructor.
+     *
+     * @param delegate the wrapped codec to delegate behavior to
+     * @param maxSize the maximum number of decode results and encode results
+     *                cached
+     * @param identityInputs if {@code true}, encoded inputs are compared by
+     *                       identity rather than by equality
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     */
+    public CachingCodec(final Codec<A> delegate, final int maxSize, final boolean identityInputs) {
+        super(delegate);
+        if (maxSize < 1) throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+        this.identityInputs = identityInputs;
+        this.decoded = new Cache<>(maxSize);
+        this.encoded = new Cache<>(maxSize);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> DataResult<Pair<A, T>> decode(final DynamicOps<T> ops, final T input) {
+        final DecodeKey key = new DecodeKey(ops, input, this.identityInputs);
+        final DataResult<? extends Pair<A, ?>> cached = this.decoded.get(key);
+        if (cached != null) return (DataResult<Pair<A, T>>) cached;
+
+        final DataResult<Pair<A, T>> result = super.decode(ops, input);
+        this.decoded.put(key, result);
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> DataResult<T> encode(final A input, final DynamicOps<T> ops, final T prefix) {
+        // Only results without a prefix are independent of the caller
+        if (prefix != ops.empty()) return super.encode(input, ops, prefix);
+
+        final EncodeKey key = new EncodeKey(ops, input);
+        final DataResult<?> cached = this.encoded.get(key);
+        if (cached != null) return (DataResult<T>) cached;
+
+        final DataResult<T> result = super.encode(input, ops, prefix);
+        this.encoded.put(key, result);
+        return result;
+    }
+
+    /**
+     * Returns the number of decodes answered from the cache.
+     *
+     * @return the number of decode hits
+     */
+    public long decodeHits() {
+        return this.decoded.hits.sum();
+    }
+
+    /**
+     * Returns the number of decodes which had to be delegated.
+     *
+     * @return the number of decode misses
+     */
+    public long decodeMisses() {
+        return this.decoded.misses.sum();
+    }
+
+    /**
+     * Returns the number of encodes answered from the cache.
+     *
+     * @return the number of encode hits
+     */
+    public long encodeHits() {
+        return this.encoded.hits.sum();
+    }
+
+    /**
+     * Returns the number of encodes onto an empty prefix which had to be
+     * delegated.
+     *
+     * @return the number of encode misses
+     */
+    public long encodeMisses() {
+        return this.encoded.misses.sum();
+    }
+
+    /**
+     * Removes all cached results. The hit and miss counters are kept.
+     */
+    public void clear() {
+        this.decoded.clear();
+        this.encoded.clear();
+    }
+
+    @Override
+    protected String wrapperName() {
+        return "CachingCodec";
+    }
+
+    /**
+     * A least recently used cache bounded by size.
+     *
+     * @param <K> the type of the key
+     * @param <V> the type of the value
+     */
+    private static final class Cache<K, V> {
+
+        private final Map<K, V> entries;
+        private final LongAdder hits, misses;
+
+        /**
+         * Default constructor.
+         *
+         * @param maxSize the maximum number of entries cached
+         */
+        private Cache(final int maxSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                    return this.size() > maxSize;
+                }
+            };
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+        }
+
+        /**
+         * Returns the cached value of a key, marking it as most recently used.
+         *
+         * @param key the key of the value
+         * @return the cached value, or {@code null} if there is none
+         */
+        private V get(final K key) {
+            final V value;
+            synchronized (this.entries) {
+                value = this.entries.get(key);
+            }
+            (value == null ? this.misses : this.hits).increment();
+            return value;
+        }
+
+        /**
+         * Caches the value of a key, evicting the least recently used entry if
+         * the cache is full.
+         *
+         * @param key the key of the value
+         * @param value the value to cache
+         */
+        private void put(final K key, final V value) {
+            synchronized (this.entries) {
+                this.entries.put(key, value);
+            }
+        }
+
+        /**
+         * Removes all entries from the cache.
+         */
+        private void clear() {
+            synchronized (this.entries) {
+                this.entries.clear();
+            }
+        }
+    }
+
+    /**
+     * The key of a decode result.
+     *
+     * @param ops the ops of the input, compared by identity
+     * @param input the encoded input
+     * @param identity if {@code true}, the input is compared by identity
+     */
+    private record DecodeKey(DynamicOps<?> ops, Object input, boolean identity) {
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DecodeKey that)) return false;
+            return this.ops == that.ops && (this.identity ? this.input == that.input : Objects.equals(this.input, that.input));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.ops)
+                    + (this.identity ? System.identityHashCode(this.input) : Objects.hashCode(this.input));
+        }
+    }
+
+    /**
+     * The key of an encode result.
+     *
+     * @param ops the ops to encode with, compared by identity
+     * @param value the value to encode, compared by identity
+     */
+    private record EncodeKey(DynamicOps<?> ops, Object value) {
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof EncodeKey that)) return false;
+            return this.ops == that.ops && this.value == that.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.ops) + System.identityHashCode(this.value);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.primitive;
+
+import com.google.common.collect.MapMaker;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A wrapper which caches the encoded data of each value by identity. Repeated
+ * encodes of the same instance with the same ops return the cached data rather
+ * than encoding the value again.
+ *
+ * <p>Each ops has its own cache, which only holds its values weakly. A cached
+ * result is therefore dropped once its value is no longer used, and the cache of
+ * an ops is dropped once the ops is no longer used.
+ *
+ * @apiNote
+ * This codec should only wrap codecs of immutable values, as a value modified
+ * after being encoded still returns its old data. The cached data is shared
+ * between callers, so it should not be modified either. Only successful results
+ * encoded onto {@link DynamicOps#empty()} are cached.
+ *
+ * @implNote
+ * The encoded data is held strongly, so a value is never dropped if its encoded
+ * data references it.
+ *
+ * @param <A> the type of the object
+ */
+public class EncodeCachingCodec<A> extends WrapperCodec<A> {
+
+    private final ConcurrentMap<DynamicOps<?>, ConcurrentMap<Object, DataResult<?>>> encoded;
+
+    /**
+     * Default constructor.
+     *
+     * @param delegate the wrapped codec to delegate behavior to
+     */
+    public EncodeCachingCodec(final Codec<A> delegate) {
+        super(delegate);
+        this.encoded = new MapMaker().weakKeys().makeMap();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> DataResult<T> encode(final A input, final DynamicOps<T> ops, final T prefix) {
+        // Only results without a prefix are independent of the caller
+        if (input == null || prefix != ops.empty()) return super.encode(input, ops, prefix);
+
+        final Map<Object, DataResult<?>> cache = this.encoded.computeIfAbsent(ops, o -> new MapMaker().weakKeys().makeMap());
+        final DataResult<?> cached = cache.get(input);
+        if (cached != null) return (DataResult<T>) cached;
+
+        final DataResult<T> result = super.encode(input, ops, prefix);
+        if (result.error().isEmpty()) cache.put(input, result);
+        return result;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        this.encoded.clear();
+    }
+
+    @Override
+    protected String wrapperName() {
+        return "EncodeCachingCodec";
+    }
+}
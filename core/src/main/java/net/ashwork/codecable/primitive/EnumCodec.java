@@ -10,6 +10,8 @@ import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.codecs.PrimitiveCodec;
 import net.ashwork.codecable.Codecable;
 import net.ashwork.codecable.function.DataResultFunction;
+import net.ashwork.codecable.function.PartialFunction;
+import net.ashwork.codecable.function.PartialResultFunction;
 import net.ashwork.codecable.function.ThrowingFunction;
 
 import java.util.function.Function;
@@ -25,8 +27,8 @@ public final class EnumCodec<E extends Enum<E>> implements Codecable<E>, Primiti
 
     private final Function<E, String> toString;
     private final ToIntFunction<E> toInt;
-    private final ThrowingFunction<String, E> fromString;
-    private final ThrowingFunction<Integer, E> fromInt;
+    private final Function<String, DataResult<E>> fromString;
+    private final Function<Integer, DataResult<E>> fromInt;
 
     /**
      * Default constructor.
@@ -41,25 +43,74 @@ public final class EnumCodec<E extends Enum<E>> implements Codecable<E>, Primiti
      *              an exception
      */
     public EnumCodec(final ThrowingFunction<String, E> fromString, final Function<E, String> toString, final ThrowingFunction<Integer, E> fromInt, final ToIntFunction<E> toInt) {
+        this(new DataResultFunction<>(fromString, (s, e) -> "Unknown enum string: " + s), toString,
+                new DataResultFunction<>(fromInt, (i, e) -> "Unknown enum id: " + i), toInt);
+    }
+
+    /**
+     * Creates an enum codec from functions which decode to a {@link DataResult}.
+     *
+     * @param fromString a function that transforms a string into an enum
+     * @param toString a function that transforms an enum into a string
+     * @param fromInt a function that transforms an {@code int} into an enum
+     * @param toInt a function that transforms an enum into an {@code int}
+     */
+    private EnumCodec(final Function<String, DataResult<E>> fromString, final Function<E, String> toString, final Function<Integer, DataResult<E>> fromInt, final ToIntFunction<E> toInt) {
         this.fromString = fromString;
         this.toString = toString;
         this.fromInt = fromInt;
         this.toInt = toInt;
     }
 
+    /**
+     * Creates an enum codec whose decoders return {@code null} for unknown input
+     * instead of throwing an exception.
+     *
+     * @param fromString a function that transforms a string into an enum, or
+     *                   returns {@code null} if the string is unknown
+     * @param toString a function that transforms an enum into a string
+     * @param fromInt a function that transforms an {@code int} into an enum, or
+     *                returns {@code null} if the {@code int} is unknown
+     * @param toInt a function that transforms an enum into an {@code int}
+     * @param <E> the type of the enum
+     * @return an enum codec
+     */
+    public static <E extends Enum<E>> EnumCodec<E> ofPartial(final PartialFunction<String, E> fromString, final Function<E, String> toString, final PartialFunction<Integer, E> fromInt, final ToIntFunction<E> toInt) {
+        return new EnumCodec<>(new PartialResultFunction<>(fromString, s -> "Unknown enum string: " + s), toString,
+                new PartialResultFunction<>(fromInt, i -> "Unknown enum id: " + i), toInt);
+    }
+
+    /**
+     * Creates an enum codec whose string decoder may throw an exception for
+     * unknown input, while its {@code int} decoder returns {@code null} instead.
+     *
+     * @param fromString a function that transforms a string into an enum or throws
+     *                   an exception
+     * @param toString a function that transforms an enum into a string
+     * @param fromInt a function that transforms an {@code int} into an enum, or
+     *                returns {@code null} if the {@code int} is unknown
+     * @param toInt a function that transforms an enum into an {@code int}
+     * @param <E> the type of the enum
+     * @return an enum codec
+     */
+    public static <E extends Enum<E>> EnumCodec<E> ofPartialInt(final ThrowingFunction<String, E> fromString, final Function<E, String> toString, final PartialFunction<Integer, E> fromInt, final ToIntFunction<E> toInt) {
+        return new EnumCodec<>(new DataResultFunction<>(fromString, (s, e) -> "Unknown enum string: " + s), toString,
+                new PartialResultFunction<>(fromInt, i -> "Unknown enum id: " + i), toInt);
+    }
+
     @Override
     public <T> DataResult<E> read(final DynamicOps<T> ops, final T input) {
         return ops.compressMaps() ?
                 ops.getNumberValue(input)
                         .map(Number::intValue)
-                        .flatMap(new DataResultFunction<>(fromInt, (i, e) -> "Unknown enum id: " + i))
-                : ops.getStringValue(input).flatMap(new DataResultFunction<>(fromString, (s, e) -> "Unknown enum string: " + s));
+                        .flatMap(this.fromInt)
+                : ops.getStringValue(input).flatMap(this.fromString);
     }
 
     @Override
     public <T> T write(final DynamicOps<T> ops, final E value) {
-        return ops.compressMaps() ? ops.createInt(toInt.applyAsInt(value))
-                : ops.createString(toString.apply(value));
+        return ops.compressMaps() ? ops.createInt(this.toInt.applyAsInt(value))
+                : ops.createString(this.toString.apply(value));
     }
 
     @Override
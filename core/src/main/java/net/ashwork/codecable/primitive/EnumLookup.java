@@ -0,0 +1,137 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.primitive;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Lookup tables for the constants of an enum. The tables are computed once per
+ * enum class and shared between all users.
+ *
+ * @implNote
+ * Constants are looked up by their lowercase name first, so an input which is
+ * already lowercase does not need to be case-folded.
+ *
+ * @param <E> the type of the enum
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    /**
+     * A cache of the lookup tables for each enum class.
+     */
+    private static final ClassValue<EnumLookup<?>> LOOKUPS = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumLookup<?> computeValue(final Class<?> type) {
+            return new EnumLookup(type);
+        }
+    };
+
+    private final E[] constants;
+    private final String[] names;
+    private final Map<String, E> byName;
+
+    /**
+     * Default constructor. Use {@link #of(Class)}.
+     *
+     * @param enumClass the class of the enum
+     */
+    private EnumLookup(final Class<E> enumClass) {
+        this.constants = enumClass.getEnumConstants();
+        this.names = new String[this.constants.length];
+        this.byName = new HashMap<>(this.constants.length * 4 / 3 + 1);
+        for (final E constant : this.constants) {
+            final String name = constant.name().toLowerCase(Locale.ROOT);
+            this.names[constant.ordinal()] = name;
+            // Keep the first constant when names only differ by case
+            this.byName.putIfAbsent(name, constant);
+        }
+    }
+
+    /**
+     * Returns the lookup tables for an enum class.
+     *
+     * @param enumClass the class of the enum
+     * @param <E> the type of the enum
+     * @return the lookup tables of the enum
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumLookup<E> of(final Class<E> enumClass) {
+        return (EnumLookup<E>) LOOKUPS.get(enumClass);
+    }
+
+    /**
+     * Returns the constant whose name matches the string ignoring case.
+     *
+     * @param name the name of the constant
+     * @return the matching constant
+     * @throws NoSuchElementException if no constant has the given name
+     */
+    public E byName(final String name) {
+        final E constant = this.find(name);
+        if (constant == null) throw new NoSuchElementException(name);
+        return constant;
+    }
+
+    /**
+     * Returns the constant whose name matches the string ignoring case, or
+     * {@code null} if no constant has the given name.
+     *
+     * @param name the name of the constant
+     * @return the matching constant, or {@code null}
+     */
+    @Nullable
+    public E find(final String name) {
+        final E constant = this.byName.get(name);
+        return constant != null ? constant : this.byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the lowercase name of a constant.
+     *
+     * @param constant the enum constant
+     * @return the lowercase name of the constant
+     */
+    public String name(final E constant) {
+        return this.names[constant.ordinal()];
+    }
+
+    /**
+     * Returns the constant with the given ordinal.
+     *
+     * @param ordinal the ordinal of the constant
+     * @return the constant with the ordinal
+     * @throws ArrayIndexOutOfBoundsException if no constant has the given ordinal
+     */
+    public E byOrdinal(final int ordinal) {
+        return this.constants[ordinal];
+    }
+
+    /**
+     * Returns the constant with the given ordinal, or {@code null} if no constant
+     * has the given ordinal.
+     *
+     * @param ordinal the ordinal of the constant
+     * @return the constant with the ordinal, or {@code null}
+     */
+    @Nullable
+    public E findByOrdinal(final int ordinal) {
+        return ordinal >= 0 && ordinal < this.constants.length ? this.constants[ordinal] : null;
+    }
+
+    /**
+     * Returns the number of constants in the enum.
+     *
+     * @return the number of constants
+     */
+    public int size() {
+        return this.constants.length;
+    }
+}
@@ -0,0 +1,631 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.primitive;
+
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Lifecycle;
+
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Hand-written parsers and formatters for the ISO-8601 formats used by the
+ * {@link net.ashwork.codecable.Codecable} time constants. Each method scans or
+ * writes the characters directly instead of going through a
+ * {@link DateTimeFormatter}.
+ *
+ * @implNote
+ * Parsers return {@code null} for inputs outside the common shape of the format
+ * (signed or extended years, zone region ids, unusual offsets, leap seconds),
+ * leaving them to the formatter. Any other malformed input is reported as an
+ * errored {@link DataResult} without throwing. Formatters likewise return
+ * {@code null} for years outside {@code 0000-9999}.
+ *
+ * @see TemporalCodec
+ */
+final class IsoTime {
+
+    /**
+     * A parse result representing malformed input.
+     */
+    private static final long INVALID = -1L;
+    /**
+     * A parse result representing input which should be handled by the formatter.
+     */
+    private static final long UNSUPPORTED = -2L;
+    /**
+     * An offset result representing an offset which should be handled by the
+     * formatter.
+     */
+    private static final int UNSUPPORTED_OFFSET = Integer.MIN_VALUE;
+    /**
+     * The number of bits used to store the length of a parsed time.
+     */
+    private static final int LENGTH_BITS = 5;
+    /**
+     * The number of days from {@code 0000-01-01} to {@code 1970-01-01}.
+     */
+    private static final long DAYS_0000_TO_1970 = 719528L;
+    /**
+     * The epoch second of {@code 0000-01-01T00:00:00Z}.
+     */
+    private static final long MIN_FAST_EPOCH_SECOND = -62167219200L;
+    /**
+     * The epoch second of {@code 9999-12-31T23:59:59Z}.
+     */
+    private static final long MAX_FAST_EPOCH_SECOND = 253402300799L;
+
+    /**
+     * Parses a local date in the form {@code yyyy-MM-dd}.
+     *
+     * @param s the string to parse
+     * @return a {@link DataResult} containing the local date or an error, or
+     *         {@code null} if the formatter should parse the string
+     */
+    @Nullable
+    static DataResult<LocalDate> parseLocalDate(final String s) {
+        final long date = parseDate(s);
+        if (date == UNSUPPORTED) return null;
+        if (date == INVALID || s.length() != 10) return error(s, "a local date");
+        return DataResult.success(LocalDate.of(year(date), month(date), day(date)), Lifecycle.stable());
+    }
+
+    /**
+     * Parses a local time in the form {@code HH:mm[:ss[.SSSSSSSSS]]}.
+     *
+     * @param s the string to parse
+     * @return a {@link DataResult} containing the local time or an error
+     */
+    static DataResult<LocalTime> parseLocalTime(final String s) {
+        final long time = parseTime(s, 0, false);
+        if (time == INVALID || length(time) != s.length()) return error(s, "a local time");
+        return DataResult.success(LocalTime.ofNanoOfDay(nanoOfDay(time)), Lifecycle.stable());
+    }
+
+    /**
+     * Parses a local date time in the form {@code yyyy-MM-dd'T'HH:mm[:ss[.SSSSSSSSS]]}.
+     *
+     * @param s the string to parse
+     * @return a {@link DataResult} containing the local date time or an error, or
+     *         {@code null} if the formatter should parse the string
+     */
+    @Nullable
+    static DataResult<LocalDateTime> parseLocalDateTime(final String s) {
+        final long date = parseDate(s);
+        if (date == UNSUPPORTED) return null;
+        final long time = date == INVALID || !isDateTimeSeparator(s) ? INVALID : parseTime(s, 11, false);
+        if (time == INVALID || 11 + length(time) != s.length()) return error(s, "a local date time");
+        return DataResult.success(localDateTime(date, time), Lifecycle.stable());
+    }
+
+    /**
+     * Parses an offset time in the form {@code HH:mm[:ss[.SSSSSSSSS]]} followed by
+     * an offset id.
+     *
+     * @param s the string to parse
+     * @return a {@link DataResult} containing the offset time or an error, or
+     *         {@code null} if the formatter should parse the string
+     */
+    @Nullable
+    static DataResult<OffsetTime> parseOffsetTime(final String s) {
+        final long time = parseTime(s, 0, false);
+        if (time == INVALID) return error(s, "an offset time");
+        final int offset = parseOffset(s, length(time), false);
+        if (offset == UNSUPPORTED_OFFSET) return null;
+        return DataResult.success(OffsetTime.of(LocalTime.ofNanoOfDay(nanoOfDay(time)), ZoneOffset.ofTotalSeconds(offset)), Lifecycle.stable());
+    }
+
+    /**
+     * Parses an offset date time in the form
+     * {@code yyyy-MM-dd'T'HH:mm[:ss[.SSSSSSSSS]]} followed by an offset id.
+     *
+     * @param s the string to parse
+     * @return a {@link DataResult} containing the offset date time or an error,
+     *         or {@code null} if the formatter should parse the string
+     */
+    @Nullable
+    static DataResult<OffsetDateTime> parseOffsetDateTime(final String s) {
+        final long date = parseDate(s);
+        if (date == UNSUPPORTED) return null;
+        final long time = date == INVALID || !isDateTimeSeparator(s) ? INVALID : parseTime(s, 11, false);
+        if (time == INVALID) return error(s, "an offset date time");
+        final int offset = parseOffset(s, 11 + length(time), true);
+        if (offset == UNSUPPORTED_OFFSET) return null;
+        return DataResult.success(OffsetDateTime.of(localDateTime(date, time), ZoneOffset.ofTotalSeconds(offset)), Lifecycle.stable());
+    }
+
+    /**
+     * Parses a zoned date time in the form
+     * {@code yyyy-MM-dd'T'HH:mm[:ss[.SSSSSSSSS]]} followed by an offset id. Zone
+     * region ids are left to the formatter.
+     *
+     * @param s the string to parse
+     * @return a {@link DataResult} containing the zoned date time or an error, or
+     *         {@code null} if the formatter should parse the string
+     */
+    @Nullable
+    static DataResult<ZonedDateTime> parseZonedDateTime(final String s) {
+        if (s.indexOf('[') >= 0) return null;
+        final long date = parseDate(s);
+        if (date == UNSUPPORTED) return null;
+        final long time = date == INVALID || !isDateTimeSeparator(s) ? INVALID : parseTime(s, 11, false);
+        if (time == INVALID) return error(s, "a zoned date time");
+        final int offset = parseOffset(s, 11 + length(time), true);
+        if (offset == UNSUPPORTED_OFFSET) return null;
+        return DataResult.success(ZonedDateTime.of(localDateTime(date, time), ZoneOffset.ofTotalSeconds(offset)), Lifecycle.stable());
+    }
+
+    /**
+     * Parses an instant in the form {@code yyyy-MM-dd'T'HH:mm:ss[.SSSSSSSSS]}
+     * followed by an offset id.
+     *
+     * @param s the string to parse
+     * @return a {@link DataResult} containing the instant or an error, or
+     *         {@code null} if the formatter should parse the string
+     */
+    @Nullable
+    static DataResult<Instant> parseInstant(final String s) {
+        final long date = parseDate(s);
+        if (date == UNSUPPORTED) return null;
+        final long time = date == INVALID || !isDateTimeSeparator(s) ? INVALID : parseTime(s, 11, true);
+        if (time == UNSUPPORTED) return null;
+        if (time == INVALID) return error(s, "an instant");
+        final int offset = parseOffset(s, 11 + length(time), false);
+        if (offset == UNSUPPORTED_OFFSET) return null;
+
+        final long nanoOfDay = nanoOfDay(time);
+        final long epochSecond = epochDay(year(date), month(date), day(date)) * 86400L + nanoOfDay / 1_000_000_000L - offset;
+        return DataResult.success(Instant.ofEpochSecond(epochSecond, nanoOfDay % 1_000_000_000L), Lifecycle.stable());
+    }
+
+    /**
+     * Formats a local date as {@code yyyy-MM-dd}.
+     *
+     * @param date the local date to format
+     * @return the formatted local date, or {@code null} if the formatter should
+     *         format the local date
+     */
+    @Nullable
+    static String formatLocalDate(final LocalDate date) {
+        if (!isFastYear(date.getYear())) return null;
+        final StringBuilder builder = new StringBuilder(10);
+        appendDate(builder, date);
+        return builder.toString();
+    }
+
+    /**
+     * Formats a local time as {@code HH:mm:ss[.SSSSSSSSS]}, stripping trailing
+     * zeros from the fraction.
+     *
+     * @param time the local time to format
+     * @return the formatted local time
+     */
+    static String formatLocalTime(final LocalTime time) {
+        final StringBuilder builder = new StringBuilder(18);
+        appendTime(builder, time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), true);
+        return builder.toString();
+    }
+
+    /**
+     * Formats a local date time as {@code yyyy-MM-dd'T'HH:mm:ss[.SSSSSSSSS]},
+     * stripping trailing zeros from the fraction.
+     *
+     * @param dateTime the local date time to format
+     * @return the formatted local date time, or {@code null} if the formatter
+     *         should format the local date time
+     */
+    @Nullable
+    static String formatLocalDateTime(final LocalDateTime dateTime) {
+        if (!isFastYear(dateTime.getYear())) return null;
+        final StringBuilder builder = new StringBuilder(29);
+        appendDateTime(builder, dateTime);
+        return builder.toString();
+    }
+
+    /**
+     * Formats an offset time as {@code HH:mm:ss[.SSSSSSSSS]} followed by the
+     * offset id.
+     *
+     * @param time the offset time to format
+     * @return the formatted offset time
+     */
+    static String formatOffsetTime(final OffsetTime time) {
+        final StringBuilder builder = new StringBuilder(27);
+        appendTime(builder, time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), true);
+        return builder.append(time.getOffset().getId()).toString();
+    }
+
+    /**
+     * Formats an offset date time as {@code yyyy-MM-dd'T'HH:mm:ss[.SSSSSSSSS]}
+     * followed by the offset id.
+     *
+     * @param dateTime the offset date time to format
+     * @return the formatted offset date time, or {@code null} if the formatter
+     *         should format the offset date time
+     */
+    @Nullable
+    static String formatOffsetDateTime(final OffsetDateTime dateTime) {
+        if (!isFastYear(dateTime.getYear())) return null;
+        final StringBuilder builder = new StringBuilder(38);
+        appendDateTime(builder, dateTime.toLocalDateTime());
+        return builder.append(dateTime.getOffset().getId()).toString();
+    }
+
+    /**
+     * Formats a zoned date time as {@code yyyy-MM-dd'T'HH:mm:ss[.SSSSSSSSS]}
+     * followed by the offset id and, if the zone is not an offset, the zone id in
+     * square brackets.
+     *
+     * @param dateTime the zoned date time to format
+     * @return the formatted zoned date time, or {@code null} if the formatter
+     *         should format the zoned date time
+     */
+    @Nullable
+    static String formatZonedDateTime(final ZonedDateTime dateTime) {
+        if (!isFastYear(dateTime.getYear())) return null;
+        final StringBuilder builder = new StringBuilder(64);
+        appendDateTime(builder, dateTime.toLocalDateTime());
+        builder.append(dateTime.getOffset().getId());
+        if (!(dateTime.getZone() instanceof ZoneOffset)) builder.append('[').append(dateTime.getZone().getId()).append(']');
+        return builder.toString();
+    }
+
+    /**
+     * Formats an instant as {@code yyyy-MM-dd'T'HH:mm:ss[.SSS[SSS[SSS]]]'Z'}.
+     *
+     * @param instant the instant to format
+     * @return the formatted instant, or {@code null} if the formatter should
+     *         format the instant
+     */
+    @Nullable
+    static String formatInstant(final Instant instant) {
+        final long epochSecond = instant.getEpochSecond();
+        if (epochSecond < MIN_FAST_EPOCH_SECOND || epochSecond > MAX_FAST_EPOCH_SECOND) return null;
+        final StringBuilder builder = new StringBuilder(30);
+        appendDate(builder, LocalDate.ofEpochDay(Math.floorDiv(epochSecond, 86400L)));
+        builder.append('T');
+        final int secondOfDay = (int) Math.floorMod(epochSecond, 86400L);
+        appendTime(builder, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, instant.getNano(), false);
+        return builder.append('Z').toString();
+    }
+
+    /**
+     * Parses a date in the form {@code yyyy-MM-dd} at the start of the string.
+     *
+     * @param s the string to parse
+     * @return the date packed as {@code yyyyMMdd}, {@link #INVALID} if the date is
+     *         malformed, or {@link #UNSUPPORTED} if the year is signed
+     */
+    private static long parseDate(final String s) {
+        if (!s.isEmpty() && (s.charAt(0) == '+' || s.charAt(0) == '-')) return UNSUPPORTED;
+        final int year = digits(s, 0, 4), month = digits(s, 5, 2), day = digits(s, 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || s.charAt(4) != '-' || s.charAt(7) != '-'
+                || day > lengthOfMonth(year, month)) return INVALID;
+        return year * 10000L + month * 100L + day;
+    }
+
+    /**
+     * Parses a time in the form {@code HH:mm[:ss[.SSSSSSSSS]]}.
+     *
+     * @param s the string to parse
+     * @param start the index of the first character of the time
+     * @param instant if {@code true}, the seconds are required, and hour
+     *                {@code 24} or second {@code 60} is left to the formatter
+     * @return the nano of day shifted left by {@link #LENGTH_BITS} and combined
+     *         with the number of characters read, {@link #INVALID} if the time is
+     *         malformed, or {@link #UNSUPPORTED} if the time should be left to the
+     *         formatter
+     */
+    private static long parseTime(final String s, final int start, final boolean instant) {
+        final int hour = digits(s, start, 2), minute = digits(s, start + 3, 2);
+        if (hour < 0 || minute < 0 || s.charAt(start + 2) != ':') return INVALID;
+        int pos = start + 5, second = 0, nano = 0;
+
+        // Read optional seconds and fraction
+        if (pos < s.length() && s.charAt(pos) == ':') {
+            second = digits(s, pos + 1, 2);
+            if (second < 0) return INVALID;
+            pos += 3;
+            if (pos < s.length() && s.charAt(pos) == '.') {
+                int digits = 0;
+                for (pos++; digits < 9 && pos < s.length(); pos++, digits++) {
+                    final char c = s.charAt(pos);
+                    if (c < '0' || c > '9') break;
+                    nano = nano * 10 + (c - '0');
+                }
+                for (; digits < 9; digits++) nano *= 10;
+            }
+        } else if (instant) return INVALID;
+
+        if (instant && (hour == 24 || second == 60)) return UNSUPPORTED;
+        if (hour > 23 || minute > 59 || second > 59) return INVALID;
+        final long nanoOfDay = (hour * 3600L + minute * 60L + second) * 1_000_000_000L + nano;
+        return nanoOfDay << LENGTH_BITS | (pos - start);
+    }
+
+    /**
+     * Parses an offset id which ends the string. Only {@code Z}, {@code +HH:mm},
+     * and {@code +HH:mm:ss} are handled, as well as {@code +HH} if the formatter
+     * parses the offset leniently.
+     *
+     * @param s the string to parse
+     * @param start the index of the first character of the offset id
+     * @param lenient if {@code true}, the formatter parses the offset leniently,
+     *                as with {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}
+     * @return the total offset in seconds, or {@link #UNSUPPORTED_OFFSET} if the
+     *         offset should be left to the formatter
+     */
+    private static int parseOffset(final String s, final int start, final boolean lenient) {
+        final int length = s.length() - start;
+        if (length == 1 && (s.charAt(start) == 'Z' || s.charAt(start) == 'z')) return 0;
+        if ((length != 3 || !lenient) && length != 6 && length != 9) return UNSUPPORTED_OFFSET;
+
+        final char sign = s.charAt(start);
+        if (sign != '+' && sign != '-') return UNSUPPORTED_OFFSET;
+        final int hours = digits(s, start + 1, 2);
+        final int minutes = length < 6 ? 0 : s.charAt(start + 3) == ':' ? digits(s, start + 4, 2) : -1;
+        final int seconds = length < 9 ? 0 : s.charAt(start + 6) == ':' ? digits(s, start + 7, 2) : -1;
+        if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59) return UNSUPPORTED_OFFSET;
+
+        final int total = hours * 3600 + minutes * 60 + seconds;
+        if (total > 18 * 3600) return UNSUPPORTED_OFFSET;
+        return sign == '-' ? -total : total;
+    }
+
+    /**
+     * Reads a fixed number of decimal digits.
+     *
+     * @param s the string to read
+     * @param start the index of the first digit
+     * @param count the number of digits to read
+     * @return the value of the digits, or {@code -1} if the string is too short
+     *         or a character is not a digit
+     */
+    private static int digits(final String s, final int start, final int count) {
+        if (start + count > s.length()) return -1;
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            final char c = s.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns whether the date is followed by a {@code T}, ignoring case.
+     *
+     * @param s the string to check
+     * @return {@code true} if the date is followed by a {@code T}
+     */
+    private static boolean isDateTimeSeparator(final String s) {
+        return s.length() > 10 && (s.charAt(10) == 'T' || s.charAt(10) == 't');
+    }
+
+    /**
+     * Creates a local date time from a packed date and time.
+     *
+     * @param date the date packed as {@code yyyyMMdd}
+     * @param time the packed time
+     * @return the local date time
+     */
+    private static LocalDateTime localDateTime(final long date, final long time) {
+        final long nanoOfDay = nanoOfDay(time);
+        final int secondOfDay = (int) (nanoOfDay / 1_000_000_000L);
+        return LocalDateTime.of(year(date), month(date), day(date),
+                secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, (int) (nanoOfDay % 1_000_000_000L));
+    }
+
+    /**
+     * Returns the year of a packed date.
+     *
+     * @param date the date packed as {@code yyyyMMdd}
+     * @return the year
+     */
+    private static int year(final long date) {
+        return (int) (date / 10000L);
+    }
+
+    /**
+     * Returns the month of a packed date.
+     *
+     * @param date the date packed as {@code yyyyMMdd}
+     * @return the month
+     */
+    private static int month(final long date) {
+        return (int) (date / 100L % 100L);
+    }
+
+    /**
+     * Returns the day of a packed date.
+     *
+     * @param date the date packed as {@code yyyyMMdd}
+     * @return the day
+     */
+    private static int day(final long date) {
+        return (int) (date % 100L);
+    }
+
+    /**
+     * Returns the nano of day of a packed time.
+     *
+     * @param time the packed time
+     * @return the nano of day
+     */
+    private static long nanoOfDay(final long time) {
+        return time >>> LENGTH_BITS;
+    }
+
+    /**
+     * Returns the number of characters read for a packed time.
+     *
+     * @param time the packed time
+     * @return the number of characters read
+     */
+    private static int length(final long time) {
+        return (int) (time & ((1 << LENGTH_BITS) - 1));
+    }
+
+    /**
+     * Returns the number of days in a month.
+     *
+     * @param year a year between {@code 0} and {@code 9999}
+     * @param month a month between {@code 1} and {@code 12}
+     * @return the number of days in the month
+     */
+    private static int lengthOfMonth(final int year, final int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Returns whether a year is a leap year.
+     *
+     * @param year a year between {@code 0} and {@code 9999}
+     * @return {@code true} if the year is a leap year
+     */
+    private static boolean isLeapYear(final int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Returns the number of days since {@code 1970-01-01}.
+     *
+     * @param year a year between {@code 0} and {@code 9999}
+     * @param month a month between {@code 1} and {@code 12}
+     * @param day a valid day of the month
+     * @return the epoch day
+     */
+    private static long epochDay(final int year, final int month, final int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12 + day - 1;
+        if (month > 2) total -= isLeapYear(year) ? 1 : 2;
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Returns whether a year can be written as four digits without a sign.
+     *
+     * @param year the year to check
+     * @return {@code true} if the year is between {@code 0} and {@code 9999}
+     */
+    private static boolean isFastYear(final int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    /**
+     * Appends a date as {@code yyyy-MM-dd}.
+     *
+     * @param builder the builder to append to
+     * @param date a date with a year between {@code 0} and {@code 9999}
+     */
+    private static void appendDate(final StringBuilder builder, final LocalDate date) {
+        final int year = date.getYear();
+        append2(append2(builder, year / 100), year % 100).append('-');
+        append2(builder, date.getMonthValue()).append('-');
+        append2(builder, date.getDayOfMonth());
+    }
+
+    /**
+     * Appends a date time as {@code yyyy-MM-dd'T'HH:mm:ss[.SSSSSSSSS]}, stripping
+     * trailing zeros from the fraction.
+     *
+     * @param builder the builder to append to
+     * @param dateTime a date time with a year between {@code 0} and {@code 9999}
+     */
+    private static void appendDateTime(final StringBuilder builder, final LocalDateTime dateTime) {
+        appendDate(builder, dateTime.toLocalDate());
+        builder.append('T');
+        appendTime(builder, dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), true);
+    }
+
+    /**
+     * Appends a time as {@code HH:mm:ss} followed by the fraction, if any.
+     *
+     * @param builder the builder to append to
+     * @param hour the hour of day
+     * @param minute the minute of hour
+     * @param second the second of minute
+     * @param nano the nano of second
+     * @param stripZeros if {@code true}, trailing zeros are stripped from the
+     *                   fraction; otherwise, the fraction is written in groups of
+     *                   three digits
+     */
+    private static void appendTime(final StringBuilder builder, final int hour, final int minute, final int second, final int nano, final boolean stripZeros) {
+        append2(builder, hour).append(':');
+        append2(builder, minute).append(':');
+        append2(builder, second);
+        if (nano == 0) return;
+
+        // Trim the fraction to the digits written
+        int fraction = nano, digits = 9;
+        if (stripZeros) {
+            for (; fraction % 10 == 0; fraction /= 10) digits--;
+        } else if (fraction % 1_000_000 == 0) {
+            fraction /= 1_000_000;
+            digits = 3;
+        } else if (fraction % 1_000 == 0) {
+            fraction /= 1_000;
+            digits = 6;
+        }
+
+        builder.append('.');
+        for (int divisor = pow10(digits - 1); divisor > 0; divisor /= 10) builder.append((char) ('0' + fraction / divisor % 10));
+    }
+
+    /**
+     * Appends a value as two decimal digits.
+     *
+     * @param builder the builder to append to
+     * @param value a value between {@code 0} and {@code 99}
+     * @return the builder
+     */
+    private static StringBuilder append2(final StringBuilder builder, final int value) {
+        return builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    /**
+     * Returns ten raised to a power.
+     *
+     * @param exponent a power between {@code 0} and {@code 9}
+     * @return ten raised to the power
+     */
+    private static int pow10(final int exponent) {
+        int value = 1;
+        for (int i = 0; i < exponent; i++) value *= 10;
+        return value;
+    }
+
+    /**
+     * Creates an error for a string which could not be parsed.
+     *
+     * @param s the string which could not be parsed
+     * @param type the name of the type being parsed, with its article
+     * @param <R> the type of the result
+     * @return an errored {@link DataResult}
+     */
+    private static <R> DataResult<R> error(final String s, final String type) {
+        return DataResult.error("Text '" + s + "' could not be parsed as " + type);
+    }
+
+    /**
+     * Constructor should not be invoked.
+     */
+    private IsoTime() {
+        throw new AssertionError("IsoTime should not be initialized");
+    }
+}
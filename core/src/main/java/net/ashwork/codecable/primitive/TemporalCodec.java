@@ -0,0 +1,229 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.primitive;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.Lifecycle;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.function.DataResultFunction;
+import net.ashwork.codecable.function.PartialResultFunction;
+
+import javax.annotation.Nullable;
+import java.text.Format;
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.function.Function;
+
+/**
+ * A codec for a temporal accessor. Encodes and decodes the temporal accessor to a
+ * string using a {@link DateTimeFormatter}. When compressed, encodes the temporal
+ * accessor to its {@link TemporalEpoch}, if present, while still decoding the
+ * string.
+ *
+ * @implNote
+ * The ISO-8601 codecs created by the static factories parse and format the
+ * string by hand for the common shape of the format, falling back to the
+ * formatter otherwise. The encoded strings and decoded values are identical to
+ * those of the formatter, though malformed input in the common shape is reported
+ * without throwing an exception.
+ *
+ * @param <A> the type of the temporal accessor
+ *
+ * @see Codecable#temporalAccessor(DateTimeFormatter, TemporalQuery)
+ */
+public final class TemporalCodec<A extends TemporalAccessor> implements Codecable<A> {
+
+    private final DateTimeFormatter formatter;
+    @Nullable
+    private final TemporalEpoch<A> epoch;
+    private final Function<String, DataResult<A>> parser;
+    private final Function<A, String> printer;
+    private final PartialResultFunction<String, A> fallbackParser;
+    private final DataResultFunction<A, String> fallbackPrinter;
+
+    /**
+     * Default constructor.
+     *
+     * @param formatter a formatter to encode and decode the temporal accessor
+     * @param query a function that transforms a temporal accessor to its exact type
+     * @param epoch the numeric representation to use when compressed, or
+     *              {@code null} if the temporal accessor is always a string
+     */
+    public TemporalCodec(final DateTimeFormatter formatter, final TemporalQuery<A> query, @Nullable final TemporalEpoch<A> epoch) {
+        this(formatter, query, epoch, s -> null, a -> null);
+    }
+
+    /**
+     * Creates a codec with a hand-written parser and printer.
+     *
+     * @param formatter the formatter to fall back to
+     * @param query a function that transforms a temporal accessor to its exact type
+     * @param epoch the numeric representation to use when compressed, or
+     *              {@code null} if the temporal accessor is always a string
+     * @param parser a function which parses a string, or returns {@code null} if
+     *               the formatter should parse the string
+     * @param printer a function which formats a temporal accessor, or returns
+     *                {@code null} if the formatter should format the temporal
+     *                accessor
+     */
+    private TemporalCodec(final DateTimeFormatter formatter, final TemporalQuery<A> query, @Nullable final TemporalEpoch<A> epoch,
+                          final Function<String, DataResult<A>> parser, final Function<A, String> printer) {
+        this.formatter = formatter;
+        this.epoch = epoch;
+        this.parser = parser;
+        this.printer = printer;
+        final Format format = formatter.toFormat(query);
+        this.fallbackParser = new PartialResultFunction<>(s -> parse(format, s), s -> "Text '" + s + "' could not be parsed");
+        this.fallbackPrinter = new DataResultFunction<>(formatter::format);
+    }
+
+    /**
+     * Creates a local date codec encoded using {@link DateTimeFormatter#ISO_LOCAL_DATE}.
+     *
+     * @return a local date codec
+     */
+    public static TemporalCodec<LocalDate> isoLocalDate() {
+        return new TemporalCodec<>(DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from, TemporalEpoch.LOCAL_DATE, IsoTime::parseLocalDate, IsoTime::formatLocalDate);
+    }
+
+    /**
+     * Creates a local time codec encoded using {@link DateTimeFormatter#ISO_LOCAL_TIME}.
+     *
+     * @return a local time codec
+     */
+    public static TemporalCodec<LocalTime> isoLocalTime() {
+        return new TemporalCodec<>(DateTimeFormatter.ISO_LOCAL_TIME, LocalTime::from, TemporalEpoch.LOCAL_TIME, IsoTime::parseLocalTime, IsoTime::formatLocalTime);
+    }
+
+    /**
+     * Creates a local date time codec encoded using
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     *
+     * @return a local date time codec
+     */
+    public static TemporalCodec<LocalDateTime> isoLocalDateTime() {
+        return new TemporalCodec<>(DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime::from, TemporalEpoch.LOCAL_DATE_TIME, IsoTime::parseLocalDateTime, IsoTime::formatLocalDateTime);
+    }
+
+    /**
+     * Creates an offset time codec encoded using {@link DateTimeFormatter#ISO_OFFSET_TIME}.
+     *
+     * @return an offset time codec
+     */
+    public static TemporalCodec<OffsetTime> isoOffsetTime() {
+        return new TemporalCodec<>(DateTimeFormatter.ISO_OFFSET_TIME, OffsetTime::from, TemporalEpoch.OFFSET_TIME, IsoTime::parseOffsetTime, IsoTime::formatOffsetTime);
+    }
+
+    /**
+     * Creates an offset date time codec encoded using
+     * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+     *
+     * @return an offset date time codec
+     */
+    public static TemporalCodec<OffsetDateTime> isoOffsetDateTime() {
+        return new TemporalCodec<>(DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from, TemporalEpoch.OFFSET_DATE_TIME, IsoTime::parseOffsetDateTime, IsoTime::formatOffsetDateTime);
+    }
+
+    /**
+     * Creates a zoned date time codec encoded using
+     * {@link DateTimeFormatter#ISO_ZONED_DATE_TIME}.
+     *
+     * @return a zoned date time codec
+     */
+    public static TemporalCodec<ZonedDateTime> isoZonedDateTime() {
+        return new TemporalCodec<>(DateTimeFormatter.ISO_ZONED_DATE_TIME, ZonedDateTime::from, null, IsoTime::parseZonedDateTime, IsoTime::formatZonedDateTime);
+    }
+
+    /**
+     * Creates an instant codec encoded using {@link DateTimeFormatter#ISO_INSTANT}.
+     *
+     * @return an instant codec
+     */
+    public static TemporalCodec<Instant> isoInstant() {
+        return new TemporalCodec<>(DateTimeFormatter.ISO_INSTANT, Instant::from, TemporalEpoch.INSTANT, IsoTime::parseInstant, IsoTime::formatInstant);
+    }
+
+    @Override
+    public <T> DataResult<Pair<A, T>> decode(final DynamicOps<T> ops, final T input) {
+        if (this.epoch != null && ops.compressMaps()) {
+            final DataResult<A> result = this.epoch.decode(ops, input);
+            if (result != null) return result.map(a -> Pair.of(a, ops.empty()));
+        }
+        return ops.getStringValue(input).flatMap(this::parse).map(a -> Pair.of(a, ops.empty()));
+    }
+
+    @Override
+    public <T> DataResult<T> encode(final A input, final DynamicOps<T> ops, final T prefix) {
+        if (this.epoch != null && ops.compressMaps()) return ops.mergeToPrimitive(prefix, this.epoch.encode(ops, input));
+        return this.format(input).flatMap(s -> ops.mergeToPrimitive(prefix, ops.createString(s)));
+    }
+
+    /**
+     * Parses a string into a temporal accessor.
+     *
+     * @param s the string to parse
+     * @return a {@link DataResult} containing the temporal accessor or an error
+     */
+    private DataResult<A> parse(final String s) {
+        final DataResult<A> result = this.parser.apply(s);
+        return result != null ? result : this.fallbackParser.apply(s);
+    }
+
+    /**
+     * Parses a string using the formatter, returning {@code null} instead of
+     * throwing an exception if the string could not be parsed.
+     *
+     * @implNote
+     * The {@link Format} of a formatter reports most failures to read the string
+     * through its {@link ParsePosition}. However, some fields, such as an offset
+     * outside of {@code +-18:00}, throw a {@link java.time.DateTimeException}
+     * while being read, so exceptions are also caught.
+     *
+     * @param format the format of the formatter
+     * @param s the string to parse
+     * @param <A> the type of the temporal accessor
+     * @return the temporal accessor, or {@code null} if the string could not be
+     *         parsed
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <A> A parse(final Format format, final String s) {
+        final ParsePosition position = new ParsePosition(0);
+        try {
+            final Object result = format.parseObject(s, position);
+            return position.getIndex() == s.length() ? (A) result : null;
+        } catch (final RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Formats a temporal accessor into a string.
+     *
+     * @param input the temporal accessor to format
+     * @return a {@link DataResult} containing the string or an error
+     */
+    private DataResult<String> format(final A input) {
+        final String result = this.printer.apply(input);
+        return result != null ? DataResult.success(result, Lifecycle.stable()) : this.fallbackPrinter.apply(input);
+    }
+
+    @Override
+    public String toString() {
+        return "Temporal[" + this.formatter + ']';
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.primitive;
+
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.Lifecycle;
+
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Optional;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+
+/**
+ * A numeric representation of a temporal accessor relative to the epoch. Used by
+ * {@link TemporalCodec} in place of a string when the format operations compress
+ * maps.
+ *
+ * <p>Points on the time-line are encoded as a single {@code long} of epoch
+ * milliseconds when they have no sub-millisecond precision, or as a list of the
+ * epoch seconds and nano of second otherwise. Offsets are appended as a trailing
+ * number of seconds.
+ *
+ * @param <A> the type of the temporal accessor
+ */
+public interface TemporalEpoch<A extends TemporalAccessor> {
+
+    /**
+     * An instant encoded as epoch milliseconds or {@code [epochSecond, nano]}.
+     */
+    TemporalEpoch<Instant> INSTANT = new TemporalEpoch<>() {
+
+        @Override
+        public <T> T encode(final DynamicOps<T> ops, final Instant input) {
+            return encodeLongs(ops, epochParts(input.getEpochSecond(), input.getNano(), null));
+        }
+
+        @Nullable
+        @Override
+        public <T> DataResult<Instant> decode(final DynamicOps<T> ops, final T input) {
+            final long[] parts = decodeLongs(ops, input);
+            if (parts == null) return null;
+            final long second = epochSecond(parts, parts.length), nano = nanoOfSecond(parts, parts.length);
+            if (second < Instant.MIN.getEpochSecond() || second > Instant.MAX.getEpochSecond() || nano < 0)
+                return error("instant", input);
+            return DataResult.success(Instant.ofEpochSecond(second, nano), Lifecycle.stable());
+        }
+    };
+    /**
+     * A local date encoded as its epoch day.
+     */
+    TemporalEpoch<LocalDate> LOCAL_DATE = ofLong(ChronoField.EPOCH_DAY, LocalDate::toEpochDay, LocalDate::ofEpochDay);
+    /**
+     * A local time encoded as its nano of day.
+     */
+    TemporalEpoch<LocalTime> LOCAL_TIME = ofLong(ChronoField.NANO_OF_DAY, LocalTime::toNanoOfDay, LocalTime::ofNanoOfDay);
+    /**
+     * A local date time encoded as epoch milliseconds or
+     * {@code [epochSecond, nano]} in UTC.
+     */
+    TemporalEpoch<LocalDateTime> LOCAL_DATE_TIME = new TemporalEpoch<>() {
+
+        @Override
+        public <T> T encode(final DynamicOps<T> ops, final LocalDateTime input) {
+            return encodeLongs(ops, epochParts(input.toEpochSecond(ZoneOffset.UTC), input.getNano(), null));
+        }
+
+        @Nullable
+        @Override
+        public <T> DataResult<LocalDateTime> decode(final DynamicOps<T> ops, final T input) {
+            final long[] parts = decodeLongs(ops, input);
+            if (parts == null) return null;
+            final LocalDateTime result = localDateTime(parts, parts.length, 0);
+            return result != null ? DataResult.success(result, Lifecycle.stable()) : error("local date time", input);
+        }
+    };
+    /**
+     * An offset time encoded as {@code [nanoOfDay, offsetSeconds]}.
+     */
+    TemporalEpoch<OffsetTime> OFFSET_TIME = new TemporalEpoch<>() {
+
+        @Override
+        public <T> T encode(final DynamicOps<T> ops, final OffsetTime input) {
+            return encodeLongs(ops, new long[] {input.toLocalTime().toNanoOfDay(), input.getOffset().getTotalSeconds()});
+        }
+
+        @Nullable
+        @Override
+        public <T> DataResult<OffsetTime> decode(final DynamicOps<T> ops, final T input) {
+            final long[] parts = decodeLongs(ops, input);
+            if (parts == null) return null;
+            if (parts.length != 2 || !ChronoField.NANO_OF_DAY.range().isValidValue(parts[0]) || !ChronoField.OFFSET_SECONDS.range().isValidValue(parts[1]))
+                return error("offset time", input);
+            return DataResult.success(OffsetTime.of(LocalTime.ofNanoOfDay(parts[0]), ZoneOffset.ofTotalSeconds((int) parts[1])), Lifecycle.stable());
+        }
+    };
+    /**
+     * An offset date time encoded as {@code [epochMilli, offsetSeconds]} or
+     * {@code [epochSecond, nano, offsetSeconds]}.
+     */
+    TemporalEpoch<OffsetDateTime> OFFSET_DATE_TIME = new TemporalEpoch<>() {
+
+        @Override
+        public <T> T encode(final DynamicOps<T> ops, final OffsetDateTime input) {
+            return encodeLongs(ops, epochParts(input.toEpochSecond(), input.getNano(), input.getOffset()));
+        }
+
+        @Nullable
+        @Override
+        public <T> DataResult<OffsetDateTime> decode(final DynamicOps<T> ops, final T input) {
+            final long[] parts = decodeLongs(ops, input);
+            if (parts == null) return null;
+            final long offset = parts.length < 2 ? Long.MIN_VALUE : parts[parts.length - 1];
+            if (!ChronoField.OFFSET_SECONDS.range().isValidValue(offset)) return error("offset date time", input);
+            final LocalDateTime result = localDateTime(parts, parts.length - 1, offset);
+            return result != null ? DataResult.success(OffsetDateTime.of(result, ZoneOffset.ofTotalSeconds((int) offset)), Lifecycle.stable())
+                    : error("offset date time", input);
+        }
+    };
+    /**
+     * A year encoded as its proleptic year.
+     */
+    TemporalEpoch<Year> YEAR = ofLong(ChronoField.YEAR, Year::getValue, year -> Year.of((int) year));
+    /**
+     * A year month encoded as its proleptic month.
+     */
+    TemporalEpoch<YearMonth> YEAR_MONTH = ofLong(ChronoField.PROLEPTIC_MONTH,
+            yearMonth -> yearMonth.getLong(ChronoField.PROLEPTIC_MONTH),
+            month -> YearMonth.of((int) Math.floorDiv(month, 12), Math.floorMod(month, 12) + 1));
+
+    /**
+     * Encodes a temporal accessor as a number or list of numbers.
+     *
+     * @param ops the format operations to encode to
+     * @param input the temporal accessor to encode
+     * @param <T> the type of the encoded format
+     * @return the encoded temporal accessor
+     */
+    <T> T encode(final DynamicOps<T> ops, final A input);
+
+    /**
+     * Decodes a temporal accessor from a number or list of numbers.
+     *
+     * @param ops the format operations to decode from
+     * @param input the encoded temporal accessor
+     * @param <T> the type of the encoded format
+     * @return a {@link DataResult} containing the temporal accessor or an error,
+     *         or {@code null} if the input is not a number or list of numbers
+     */
+    @Nullable
+    <T> DataResult<A> decode(final DynamicOps<T> ops, final T input);
+
+    /**
+     * Creates a representation which encodes the temporal accessor as a single
+     * {@code long}.
+     *
+     * @param field the field whose range the number must be within
+     * @param toEpoch a function which transforms the temporal accessor into a
+     *                number
+     * @param fromEpoch a function which transforms a number within the range of
+     *                  the field into a temporal accessor
+     * @param <A> the type of the temporal accessor
+     * @return a numeric representation of the temporal accessor
+     */
+    static <A extends TemporalAccessor> TemporalEpoch<A> ofLong(final ChronoField field, final ToLongFunction<A> toEpoch, final LongFunction<A> fromEpoch) {
+        return new TemporalEpoch<>() {
+
+            @Override
+            public <T> T encode(final DynamicOps<T> ops, final A input) {
+                return ops.createLong(toEpoch.applyAsLong(input));
+            }
+
+            @Nullable
+            @Override
+            public <T> DataResult<A> decode(final DynamicOps<T> ops, final T input) {
+                final Optional<Number> number = ops.getNumberValue(input).result();
+                if (number.isEmpty()) return null;
+                final long epoch = number.get().longValue();
+                return field.range().isValidValue(epoch) ? DataResult.success(fromEpoch.apply(epoch), Lifecycle.stable())
+                        : DataResult.error("Invalid " + field + ": " + epoch);
+            }
+        };
+    }
+
+    /**
+     * Splits a point on the time-line into epoch milliseconds, or epoch seconds
+     * and nano of second if the point has sub-millisecond precision or the
+     * milliseconds would overflow.
+     *
+     * @param second the epoch second
+     * @param nano the nano of second
+     * @param offset the offset to append, or {@code null} if there is none
+     * @return the parts of the point on the time-line
+     */
+    private static long[] epochParts(final long second, final int nano, @Nullable final ZoneOffset offset) {
+        final int size = offset == null ? 0 : 1;
+        final long[] parts;
+        if (nano % 1_000_000 == 0 && Math.abs(second) < Long.MAX_VALUE / 1000 - 1) {
+            parts = new long[1 + size];
+            parts[0] = second * 1000 + nano / 1_000_000;
+        } else {
+            parts = new long[2 + size];
+            parts[0] = second;
+            parts[1] = nano;
+        }
+        if (offset != null) parts[parts.length - 1] = offset.getTotalSeconds();
+        return parts;
+    }
+
+    /**
+     * Returns the epoch second of a point on the time-line.
+     *
+     * @param parts the parts of the point on the time-line
+     * @param length the number of parts holding the point, either {@code 1} or
+     *               {@code 2}
+     * @return the epoch second, or {@link Long#MIN_VALUE} if the length is invalid
+     */
+    private static long epochSecond(final long[] parts, final int length) {
+        return switch (length) {
+            case 1 -> Math.floorDiv(parts[0], 1000L);
+            case 2 -> parts[0];
+            default -> Long.MIN_VALUE;
+        };
+    }
+
+    /**
+     * Returns the nano of second of a point on the time-line.
+     *
+     * @param parts the parts of the point on the time-line
+     * @param length the number of parts holding the point, either {@code 1} or
+     *               {@code 2}
+     * @return the nano of second, or {@code -1} if the length or nano is invalid
+     */
+    private static long nanoOfSecond(final long[] parts, final int length) {
+        return switch (length) {
+            case 1 -> Math.floorMod(parts[0], 1000L) * 1_000_000L;
+            case 2 -> ChronoField.NANO_OF_SECOND.range().isValidValue(parts[1]) ? parts[1] : -1;
+            default -> -1;
+        };
+    }
+
+    /**
+     * Creates a local date time from a point on the time-line.
+     *
+     * @param parts the parts of the point on the time-line
+     * @param length the number of parts holding the point
+     * @param offset the offset of the local date time in seconds
+     * @return the local date time, or {@code null} if the point is invalid or out
+     *         of range
+     */
+    @Nullable
+    private static LocalDateTime localDateTime(final long[] parts, final int length, final long offset) {
+        final long second = epochSecond(parts, length), nano = nanoOfSecond(parts, length);
+        if (second == Long.MIN_VALUE || nano < 0) return null;
+        final long localSecond = second + offset;
+        if (localSecond < LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC) || localSecond > LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC))
+            return null;
+        return LocalDateTime.ofEpochSecond(localSecond, (int) nano, ZoneOffset.UTC);
+    }
+
+    /**
+     * Encodes a number or list of numbers.
+     *
+     * @param ops the format operations to encode to
+     * @param parts the numbers to encode
+     * @param <T> the type of the encoded format
+     * @return a single number if there is one part, or a list of numbers otherwise
+     */
+    private static <T> T encodeLongs(final DynamicOps<T> ops, final long[] parts) {
+        return parts.length == 1 ? ops.createLong(parts[0]) : ops.createLongList(LongStream.of(parts));
+    }
+
+    /**
+     * Decodes a number or list of numbers.
+     *
+     * @param ops the format operations to decode from
+     * @param input a number or list of numbers
+     * @param <T> the type of the encoded format
+     * @return the decoded numbers, or {@code null} if the input is not a number or
+     *         list of numbers
+     */
+    @Nullable
+    private static <T> long[] decodeLongs(final DynamicOps<T> ops, final T input) {
+        final Optional<Number> number = ops.getNumberValue(input).result();
+        if (number.isPresent()) return new long[] {number.get().longValue()};
+        return ops.getLongStream(input).result().map(LongStream::toArray).orElse(null);
+    }
+
+    /**
+     * Creates an error for a number or list of numbers which could not be decoded.
+     *
+     * @param type the name of the type being decoded
+     * @param input the encoded temporal accessor
+     * @param <A> the type of the temporal accessor
+     * @param <T> the type of the encoded format
+     * @return an errored {@link DataResult}
+     */
+    private static <A, T> DataResult<A> error(final String type, final T input) {
+        return DataResult.error("Not a valid epoch " + type + ": " + input);
+    }
+}
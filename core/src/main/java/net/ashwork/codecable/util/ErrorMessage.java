@@ -0,0 +1,83 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.util;
+
+/**
+ * The error message of a collection codec, joining the messages of each failed
+ * input. Only a limited number of messages are retained; the rest are only
+ * counted.
+ *
+ * <p>The message is rendered as the retained messages separated by semicolons:
+ * <pre>{@code
+ *     String output = "message1; message2; ...and 4 more errors"
+ * }</pre>
+ *
+ * @apiNote
+ * The default limit is shared with {@link ErrorReport#DEFAULT_LIMIT}.
+ */
+public final class ErrorMessage {
+
+    private final int limit;
+    private final StringBuilder builder;
+    private int count;
+
+    /**
+     * Creates a message which retains up to {@link ErrorReport#DEFAULT_LIMIT}
+     * messages.
+     */
+    public ErrorMessage() {
+        this(ErrorReport.DEFAULT_LIMIT);
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @param limit the maximum number of messages retained and rendered
+     */
+    public ErrorMessage(final int limit) {
+        this.limit = limit;
+        this.builder = new StringBuilder();
+    }
+
+    /**
+     * Adds a message if the limit has not been reached.
+     *
+     * @param message the message to add
+     * @return the message instance
+     */
+    public ErrorMessage append(final String message) {
+        if (this.count++ >= this.limit) return this;
+        if (this.count > 1) this.builder.append("; ");
+        this.builder.append(message);
+        return this;
+    }
+
+    /**
+     * Returns the number of messages added, including those which were not
+     * retained.
+     *
+     * @return the number of messages added
+     */
+    public int count() {
+        return this.count;
+    }
+
+    /**
+     * Returns whether no messages have been added.
+     *
+     * @return {@code true} if no messages have been added
+     */
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    @Override
+    public String toString() {
+        if (this.count <= this.limit) return this.builder.toString();
+        return new StringBuilder(this.builder).append(this.limit > 0 ? "; " : "")
+                .append("...and ").append(this.count - this.limit).append(" more errors").toString();
+    }
+}
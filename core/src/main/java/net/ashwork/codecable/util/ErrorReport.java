@@ -0,0 +1,216 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.util;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DynamicOps;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * A report of the inputs which caused a collection codec to fail, grouped into
+ * named sections (e.g. {@code failed inputs}). Only a limited number of inputs
+ * are retained per section; the rest are only counted.
+ *
+ * <p>The report is rendered in a list-like format:
+ * <pre>{@code
+ *     String output = " , section1: [input1, input2], section2: {key1: value1, ...and 4 more}"
+ * }</pre>
+ *
+ * @apiNote
+ * The default limit can be configured using the {@value #LIMIT_PROPERTY} system
+ * property.
+ *
+ * @param <T> the type of the encoded format
+ */
+public final class ErrorReport<T> {
+
+    /**
+     * The system property used to configure the default limit of inputs retained
+     * per section.
+     */
+    public static final String LIMIT_PROPERTY = "codecable.errorReportLimit";
+    /**
+     * The default limit of inputs retained per section.
+     */
+    public static final int DEFAULT_LIMIT = Math.max(0, Integer.getInteger(LIMIT_PROPERTY, 16));
+
+    private final DynamicOps<T> ops;
+    private final int limit;
+    private final Map<String, Section<T>> sections;
+
+    /**
+     * Creates a report which retains up to {@link #DEFAULT_LIMIT} inputs per
+     * section.
+     *
+     * @param ops the format operations of the inputs
+     */
+    public ErrorReport(final DynamicOps<T> ops) {
+        this(ops, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @param ops the format operations of the inputs
+     * @param limit the maximum number of inputs retained and rendered per section
+     */
+    public ErrorReport(final DynamicOps<T> ops, final int limit) {
+        this.ops = ops;
+        this.limit = limit;
+        this.sections = new LinkedHashMap<>(4);
+    }
+
+    /**
+     * Adds an input to a section rendered as a list.
+     *
+     * @param section the name of the section
+     * @param input the input to add
+     * @return the report instance
+     */
+    public ErrorReport<T> add(final String section, final T input) {
+        this.sections.computeIfAbsent(section, s -> new Section<>(false)).add(this.limit, null, input);
+        return this;
+    }
+
+    /**
+     * Adds an entry to a section rendered as a map.
+     *
+     * @param section the name of the section
+     * @param key the key of the entry to add
+     * @param value the value of the entry to add
+     * @return the report instance
+     */
+    public ErrorReport<T> add(final String section, final T key, final T value) {
+        this.sections.computeIfAbsent(section, s -> new Section<>(true)).add(this.limit, key, value);
+        return this;
+    }
+
+    /**
+     * Adds a key/value pair to a section rendered as a map.
+     *
+     * @param section the name of the section
+     * @param entry the entry to add
+     * @return the report instance
+     */
+    public ErrorReport<T> add(final String section, final Pair<T, T> entry) {
+        return this.add(section, entry.getFirst(), entry.getSecond());
+    }
+
+    /**
+     * Returns the number of inputs added to a section, including those which
+     * were not retained.
+     *
+     * @param section the name of the section
+     * @return the number of inputs added to the section
+     */
+    public int count(final String section) {
+        final Section<T> s = this.sections.get(section);
+        return s == null ? 0 : s.count;
+    }
+
+    /**
+     * Returns whether no inputs have been added to the report.
+     *
+     * @return {@code true} if no inputs have been added to the report
+     */
+    public boolean isEmpty() {
+        return this.sections.isEmpty();
+    }
+
+    /**
+     * Encodes the retained inputs of a section.
+     *
+     * @param section the name of the section
+     * @return the encoded inputs, or an empty list if no inputs were added
+     */
+    public T retained(final String section) {
+        final Section<T> s = this.sections.get(section);
+        return s == null ? this.ops.emptyList() : s.encode(this.ops);
+    }
+
+    /**
+     * Appends the rendered report to an error message.
+     *
+     * @param message the error message
+     * @return the error message with the rendered report
+     */
+    public String appendTo(final String message) {
+        final StringBuilder builder = new StringBuilder(message);
+        this.render(builder);
+        return builder.toString();
+    }
+
+    /**
+     * Renders the report into a builder.
+     *
+     * @param builder the builder to render to
+     */
+    private void render(final StringBuilder builder) {
+        builder.append(' ');
+        this.sections.forEach((name, section) -> {
+            builder.append(", ").append(name).append(": ").append(section.encode(this.ops));
+            if (section.count > section.values.size())
+                builder.append(" ...and ").append(section.count - section.values.size()).append(" more");
+        });
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("ErrorReport[");
+        this.render(builder);
+        return builder.append(']').toString();
+    }
+
+    /**
+     * A section of the report.
+     *
+     * @param <T> the type of the encoded format
+     */
+    private static final class Section<T> {
+
+        private final List<T> keys, values;
+        private int count;
+
+        /**
+         * Default constructor.
+         *
+         * @param map if {@code true}, the section holds entries rather than inputs
+         */
+        private Section(final boolean map) {
+            this.keys = map ? new ArrayList<>() : null;
+            this.values = new ArrayList<>();
+        }
+
+        /**
+         * Adds an input or entry to the section if the limit has not been reached.
+         *
+         * @param limit the maximum number of inputs retained
+         * @param key the key of the entry, or {@code null} for an input
+         * @param value the input or the value of the entry
+         */
+        private void add(final int limit, final T key, final T value) {
+            if (this.count++ >= limit) return;
+            if (this.keys != null) this.keys.add(key);
+            this.values.add(value);
+        }
+
+        /**
+         * Encodes the retained inputs of the section.
+         *
+         * @param ops the format operations of the inputs
+         * @return the encoded inputs
+         */
+        private T encode(final DynamicOps<T> ops) {
+            return this.keys == null ? ops.createList(this.values.stream())
+                    : ops.createMap(IntStream.range(0, this.values.size()).mapToObj(i -> Pair.of(this.keys.get(i), this.values.get(i))));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.util;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A configuration for decoding the elements of a collection concurrently. Once
+ * a collection has at least {@code threshold} elements, the elements are split
+ * into chunks which are decoded on the executor.
+ *
+ * @apiNote
+ * Only the decoding of each element happens concurrently. The decoded results
+ * are returned in the order of their inputs, such that a collection codec can
+ * merge them exactly as if they were decoded sequentially.
+ *
+ * @param threshold the minimum number of elements before the collection is
+ *                  decoded concurrently
+ * @param executor the executor to decode the chunks on
+ */
+public record ParallelDecode(int threshold, Executor executor) {
+
+    /**
+     * A configuration which always decodes sequentially.
+     */
+    public static final ParallelDecode SEQUENTIAL = new ParallelDecode(Integer.MAX_VALUE, Runnable::run);
+    /**
+     * The minimum number of elements within a chunk.
+     */
+    private static final int MIN_CHUNK_SIZE = 64;
+
+    /**
+     * Creates a configuration which decodes on the common fork join pool.
+     *
+     * @param threshold the minimum number of elements before the collection is
+     *                  decoded concurrently
+     * @return a parallel decode configuration
+     */
+    public static ParallelDecode of(final int threshold) {
+        return new ParallelDecode(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns whether collections are always decoded sequentially.
+     *
+     * @return {@code true} if collections are always decoded sequentially
+     */
+    public boolean isSequential() {
+        return this.threshold == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns whether a collection of the given size should be decoded
+     * concurrently.
+     *
+     * @param size the number of elements in the collection
+     * @return {@code true} if the collection should be decoded concurrently
+     */
+    public boolean shouldSplit(final int size) {
+        return size >= this.threshold && size >= MIN_CHUNK_SIZE * 2;
+    }
+
+    /**
+     * Decodes the inputs concurrently.
+     *
+     * @apiNote
+     * If {@code stopAt} is present, chunks will skip decoding any input after the
+     * first failure found, leaving its result as {@code null}.
+     *
+     * @param inputs the inputs to decode
+     * @param decoder a function which decodes an input
+     * @param stopAt a predicate which returns {@code true} if a result is a failure
+     *               after which no more inputs need to be decoded, or {@code null}
+     *               if every input should be decoded
+     * @param <I> the type of the input
+     * @param <R> the type of the result
+     * @return the results in the order of their inputs
+     */
+    public <I, R> List<R> decode(final List<I> inputs, final Function<I, R> decoder, @Nullable final Predicate<R> stopAt) {
+        final int size = inputs.size();
+        @SuppressWarnings("unchecked")
+        final R[] results = (R[]) new Object[size];
+        final AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+        final int chunks = Math.max(1, Math.min(size / MIN_CHUNK_SIZE, Runtime.getRuntime().availableProcessors() * 4));
+
+        // Submit all but the first chunk to the executor
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks - 1];
+        for (int c = 1; c < chunks; c++) {
+            final int start = (int) ((long) size * c / chunks), end = (int) ((long) size * (c + 1) / chunks);
+            futures[c - 1] = CompletableFuture.runAsync(() -> decodeChunk(inputs, decoder, stopAt, results, firstFailure, start, end), this.executor);
+        }
+
+        // Decode the first chunk on the current thread
+        decodeChunk(inputs, decoder, stopAt, results, firstFailure, 0, size / chunks);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException r) throw r;
+            if (e.getCause() instanceof Error r) throw r;
+            throw e;
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Decodes a chunk of the inputs.
+     *
+     * @param inputs the inputs to decode
+     * @param decoder a function which decodes an input
+     * @param stopAt a predicate which returns {@code true} if a result is a failure
+     *               after which no more inputs need to be decoded, or {@code null}
+     * @param results the array to store the results in
+     * @param firstFailure the index of the first failure found
+     * @param start the index of the first input in the chunk, inclusive
+     * @param end the index of the last input in the chunk, exclusive
+     * @param <I> the type of the input
+     * @param <R> the type of the result
+     */
+    private static <I, R> void decodeChunk(final List<I> inputs, final Function<I, R> decoder, @Nullable final Predicate<R> stopAt,
+                                           final R[] results, final AtomicInteger firstFailure, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (i > firstFailure.get()) return;
+            final R result = decoder.apply(inputs.get(i));
+            results[i] = result;
+            if (stopAt != null && stopAt.test(result)) firstFailure.accumulateAndGet(i, Math::min);
+        }
+    }
+}
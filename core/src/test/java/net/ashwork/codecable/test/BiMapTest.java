@@ -8,10 +8,14 @@ package net.ashwork.codecable.test;
 import com.google.common.collect.BiMap;
 import com.google.gson.JsonObject;
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
 import com.mojang.serialization.Keyable;
+import com.mojang.serialization.Lifecycle;
 import net.ashwork.codecable.Codecable;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -113,6 +117,34 @@ public final class BiMapTest {
         this.runStopOnErrorBiMapTest(codec);
     }
 
+    /**
+     * Tests that the duplicate values reported by a bimap codec hold every
+     * colliding key.
+     */
+    @Test
+    public void duplicateValuesReported() {
+        final Codec<BiMap<String, String>> codec = Codecable.unboundedBiMap(Codec.STRING, Codec.STRING, true);
+        final JsonObject instance = this.duplicate.deepCopy();
+        instance.addProperty("test5", "test1");
+
+        final String message = codec.parse(JsonOps.INSTANCE, instance).error().orElseThrow().message();
+        Assertions.assertTrue(message.contains("[\"test1\",\"test2\",\"test5\"]"), message);
+    }
+
+    /**
+     * Verifies that a decoded bimap has the lifecycle of its keys and values.
+     */
+    @Test
+    public void lifecycleOfEntries() {
+        final Codec<String> stable = SetTest.lifecycleCodec(Lifecycle.stable());
+        for (final Lifecycle lifecycle : List.of(Lifecycle.stable(), Lifecycle.experimental(), Lifecycle.deprecated(1))) {
+            Assertions.assertEquals(lifecycle, Codecable.unboundedBiMap(SetTest.lifecycleCodec(lifecycle), stable)
+                    .parse(JsonOps.INSTANCE, this.clean).lifecycle());
+            Assertions.assertEquals(lifecycle, Codecable.unboundedBiMap(stable, SetTest.lifecycleCodec(lifecycle), true)
+                    .parse(JsonOps.INSTANCE, this.duplicate).lifecycle());
+        }
+    }
+
     /**
      * Runs a normal bimap codec test.
      *
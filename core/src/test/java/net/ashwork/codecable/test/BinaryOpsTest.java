@@ -0,0 +1,119 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.test;
+
+import com.google.gson.JsonElement;
+import com.mojang.datafixers.util.Unit;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.JsonOps;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.ops.BinaryFormat;
+import net.ashwork.codecable.ops.BinaryOps;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A test utility for {@link BinaryOps} and {@link BinaryFormat}.
+ */
+public final class BinaryOpsTest {
+
+    /**
+     * Tests that primitives are read back as the same value and type.
+     */
+    @Test
+    public void primitives() {
+        runBinaryTest(Codec.BYTE, (byte) -3);
+        runBinaryTest(Codec.SHORT, (short) -300);
+        runBinaryTest(Codec.INT, Integer.MIN_VALUE);
+        runBinaryTest(Codec.LONG, Long.MAX_VALUE);
+        runBinaryTest(Codec.FLOAT, 1.25F);
+        runBinaryTest(Codec.DOUBLE, -2.5D);
+        runBinaryTest(Codec.BOOL, true);
+        runBinaryTest(Codec.STRING, "t\u00ebst");
+        runBinaryTest(Codec.BYTE_BUFFER, ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    }
+
+    /**
+     * Tests that collection codecs work unchanged.
+     */
+    @Test
+    public void collections() {
+        runBinaryTest(Codecable.set(Codec.STRING), new LinkedHashSet<>(List.of("a", "b", "c")));
+        runBinaryTest(Codecable.improvedUnboundedMap(Codec.STRING, Codec.list(Codec.INT)), Map.of("a", List.of(1, 2), "b", List.of()));
+        runBinaryTest(Codecable.enumSet(TimeUnit.class), EnumSet.of(TimeUnit.DAYS, TimeUnit.SECONDS));
+        runBinaryTest(Codec.list(Codecable.localDateTime(DateTimeFormatter.ISO_LOCAL_DATE_TIME)), List.of(LocalDateTime.of(2020, 1, 2, 3, 4, 5)));
+    }
+
+    /**
+     * Tests that the format is smaller than the equivalent JSON text.
+     */
+    @Test
+    public void compact() {
+        final Codec<Map<String, Set<Integer>>> codec = Codecable.improvedUnboundedMap(Codec.STRING, Codecable.set(Codec.INT));
+        final Map<String, Set<Integer>> value = Map.of("first", Set.of(1, 200, 30000), "second", Set.of(-1, -2));
+        final byte[] bytes = BinaryFormat.encode(BinaryOps.INSTANCE, codec, value).getOrThrow(false, Assertions::fail);
+        final JsonElement json = codec.encodeStart(JsonOps.INSTANCE, value).getOrThrow(false, Assertions::fail);
+
+        Assertions.assertTrue(bytes.length < json.toString().getBytes(StandardCharsets.UTF_8).length);
+        Assertions.assertEquals(json, BinaryOps.INSTANCE.convertTo(JsonOps.INSTANCE, BinaryFormat.fromBytes(bytes).getOrThrow(false, Assertions::fail)));
+    }
+
+    /**
+     * Tests that malformed bytes report an error.
+     */
+    @Test
+    public void malformed() {
+        final byte[] bytes = BinaryFormat.encode(BinaryOps.INSTANCE, Codec.list(Codec.STRING), List.of("a", "b")).getOrThrow(false, Assertions::fail);
+        for (int length = 0; length < bytes.length; length++)
+            Assertions.assertTrue(BinaryFormat.fromBytes(Arrays.copyOf(bytes, length)).error().isPresent());
+        Assertions.assertTrue(BinaryFormat.fromBytes(Arrays.copyOf(bytes, bytes.length + 1)).error().isPresent());
+        Assertions.assertTrue(BinaryFormat.fromBytes(new byte[] {99}).error().isPresent());
+
+        // Sizes of elements without a payload cannot exceed the remaining bytes
+        Assertions.assertTrue(BinaryFormat.fromBytes(new byte[] {9, -1, -1, -1, 127, 0}).error().isPresent());
+        Assertions.assertTrue(BinaryFormat.fromBytes(new byte[] {10, -1, -1, -1, 127, 0, 0}).error().isPresent());
+        Assertions.assertTrue(BinaryFormat.fromBytes(new byte[] {9, 2, 0}).error().isPresent());
+    }
+
+    /**
+     * Tests that lists and maps of empty values keep the tag of each element.
+     */
+    @Test
+    public void emptyElements() {
+        final List<Object> list = List.of(Unit.INSTANCE, Unit.INSTANCE);
+        Assertions.assertEquals(list, BinaryFormat.fromBytes(BinaryFormat.toBytes(list)).getOrThrow(false, Assertions::fail));
+        final Map<Object, Object> map = Map.of("a", Unit.INSTANCE);
+        Assertions.assertEquals(map, BinaryFormat.fromBytes(BinaryFormat.toBytes(map)).getOrThrow(false, Assertions::fail));
+    }
+
+    /**
+     * Verifies that a value is the same after being written to bytes and read
+     * back, with and without compressed maps.
+     *
+     * @param codec the codec of the value
+     * @param value the value to encode
+     * @param <A> the type of the value
+     */
+    private static <A> void runBinaryTest(final Codec<A> codec, final A value) {
+        for (final BinaryOps ops : new BinaryOps[] {BinaryOps.INSTANCE, BinaryOps.COMPRESSED}) {
+            final DataResult<A> result = BinaryFormat.encode(ops, codec, value).flatMap(bytes -> BinaryFormat.decode(ops, codec, bytes));
+            Assertions.assertEquals(value, result.getOrThrow(false, Assertions::fail));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.ops.BinaryOps;
+import net.ashwork.codecable.primitive.CachingCodec;
+import net.ashwork.codecable.primitive.EncodeCachingCodec;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A test utility for {@link CachingCodec} and {@link EncodeCachingCodec}.
+ */
+public final class CachingCodecTest {
+
+    /**
+     * Tests that structurally equal inputs are decoded once.
+     */
+    @Test
+    public void decode() {
+        final AtomicInteger decodes = new AtomicInteger();
+        final CachingCodec<Set<String>> codec = Codecable.cached(Codecable.set(Codec.STRING).xmap(s -> {
+            decodes.incrementAndGet();
+            return s;
+        }, Function.identity()), 8);
+
+        final List<Set<String>> values = Codec.list(codec).parse(JsonOps.INSTANCE,
+                JsonParser.parseString("[[\"a\", \"b\"], [\"a\", \"b\"], [\"c\"], [\"a\", \"b\"]]")).getOrThrow(false, Assertions::fail);
+        Assertions.assertEquals(List.of(Set.of("a", "b"), Set.of("a", "b"), Set.of("c"), Set.of("a", "b")), values);
+        Assertions.assertSame(values.get(0), values.get(1));
+        Assertions.assertEquals(2, decodes.get());
+        Assertions.assertEquals(2, codec.decodeHits());
+        Assertions.assertEquals(2, codec.decodeMisses());
+
+        // Identity inputs only match the same instance
+        final CachingCodec<Integer> identity = Codecable.cached(Codec.INT, 8, true);
+        identity.parse(JsonOps.INSTANCE, JsonParser.parseString("1"));
+        identity.parse(JsonOps.INSTANCE, JsonParser.parseString("1"));
+        Assertions.assertEquals(0, identity.decodeHits());
+    }
+
+    /**
+     * Tests that the same value is encoded once onto an empty prefix.
+     */
+    @Test
+    public void encode() {
+        final CachingCodec<Set<String>> codec = Codecable.cached(Codecable.set(Codec.STRING), 8);
+        final Set<String> value = Set.of("a");
+        final JsonElement first = codec.encodeStart(JsonOps.INSTANCE, value).getOrThrow(false, Assertions::fail);
+        Assertions.assertSame(first, codec.encodeStart(JsonOps.INSTANCE, value).getOrThrow(false, Assertions::fail));
+        Assertions.assertEquals(1, codec.encodeHits());
+
+        // Equal values are different keys
+        codec.encodeStart(JsonOps.INSTANCE, Set.of("a"));
+        Assertions.assertEquals(2, codec.encodeMisses());
+    }
+
+    /**
+     * Tests that the least recently used result is evicted.
+     */
+    @Test
+    public void eviction() {
+        final CachingCodec<Integer> codec = Codecable.cached(Codec.INT, 2);
+        for (final String input : List.of("1", "2", "1", "3", "1", "2"))
+            codec.parse(JsonOps.INSTANCE, JsonParser.parseString(input));
+        Assertions.assertEquals(2, codec.decodeHits());
+        Assertions.assertEquals(4, codec.decodeMisses());
+    }
+
+    /**
+     * Tests that the same instance is encoded once per ops.
+     */
+    @Test
+    public void encodeByIdentity() {
+        final AtomicInteger encodes = new AtomicInteger();
+        final EncodeCachingCodec<Set<String>> codec = Codecable.encodeCached(Codecable.set(Codec.STRING).xmap(Function.identity(), s -> {
+            encodes.incrementAndGet();
+            return s;
+        }));
+        final Set<String> value = Set.of("a", "b");
+
+        final JsonElement first = codec.encodeStart(JsonOps.INSTANCE, value).getOrThrow(false, Assertions::fail);
+        Assertions.assertSame(first, codec.encodeStart(JsonOps.INSTANCE, value).getOrThrow(false, Assertions::fail));
+        Assertions.assertEquals(1, encodes.get());
+
+        // Other ops and equal instances are encoded separately
+        codec.encodeStart(BinaryOps.INSTANCE, value);
+        codec.encodeStart(JsonOps.INSTANCE, Set.of("a", "b"));
+        Assertions.assertEquals(3, encodes.get());
+    }
+}
@@ -5,9 +5,12 @@
 
 package net.ashwork.codecable.test;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
 import com.mojang.serialization.JsonOps;
 import net.ashwork.codecable.Codecable;
 import net.ashwork.codecable.function.ThrowingFunction;
@@ -16,8 +19,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
 
@@ -55,6 +62,33 @@ public final class EnumTest {
         this.runEnumTest(codec);
     }
 
+    /**
+     * Tests that {@link Codecable#enumOf(Class)} decodes names ignoring case.
+     */
+    @Test
+    public void regularEnumIgnoresCase() {
+        final Codec<TestEnum> codec = Codecable.enumOf(TestEnum.class);
+
+        Assertions.assertDoesNotThrow(() -> {
+            Assertions.assertEquals(this.test, codec.parse(JsonOps.INSTANCE, new JsonPrimitive(this.test.name())).getOrThrow(false, System.out::println));
+            Assertions.assertEquals(TestEnum.TEST2, codec.parse(JsonOps.INSTANCE, new JsonPrimitive("TeSt2")).getOrThrow(false, System.out::println));
+        });
+    }
+
+    /**
+     * Tests that {@link Codecable#enumOf(Class)} reports unknown names and ids
+     * as errors.
+     */
+    @Test
+    public void regularEnumUnknown() {
+        final Codec<TestEnum> codec = Codecable.enumOf(TestEnum.class);
+
+        Assertions.assertEquals("Unknown enum string: test0", codec.parse(JsonOps.INSTANCE, new JsonPrimitive("test0")).error().orElseThrow().message());
+        Assertions.assertEquals("Unknown enum id: -1", codec.parse(JsonOps.COMPRESSED, new JsonPrimitive(-1)).error().orElseThrow().message());
+        Assertions.assertEquals("Unknown enum id: " + TestEnum.values().length,
+                codec.parse(JsonOps.COMPRESSED, new JsonPrimitive(TestEnum.values().length)).error().orElseThrow().message());
+    }
+
     /**
      * Tests {@link Codecable#enumOf(Class, ThrowingFunction, Function)}.
      */
@@ -63,6 +97,8 @@ public final class EnumTest {
         final Codec<TestEnum> codec = Codecable.enumOf(TestEnum.class, TestEnum::byNickname, TestEnum::nickname);
 
         this.runEnumTest(codec);
+        for (final int ordinal : new int[] {-1, TestEnum.values().length})
+            Assertions.assertEquals("Unknown enum id: " + ordinal, codec.parse(JsonOps.COMPRESSED, new JsonPrimitive(ordinal)).error().orElseThrow().message());
     }
 
     /**
@@ -75,6 +111,66 @@ public final class EnumTest {
         this.runEnumTest(codec);
     }
 
+    /**
+     * Tests {@link Codecable#enumSet(Class)}.
+     */
+    @Test
+    public void enumSet() {
+        final Codec<EnumSet<TestEnum>> codec = Codecable.enumSet(TestEnum.class);
+        final EnumSet<TestEnum> instance = EnumSet.of(TestEnum.TEST1, this.test);
+
+        Assertions.assertDoesNotThrow(() -> {
+            final JsonElement encoded = codec.encodeStart(JsonOps.INSTANCE, instance).getOrThrow(false, System.out::println);
+            Assertions.assertEquals(instance, codec.parse(JsonOps.INSTANCE, encoded).getOrThrow(false, System.out::println));
+        });
+
+        Assertions.assertDoesNotThrow(() -> {
+            final JsonElement encoded = codec.encodeStart(JsonOps.COMPRESSED, instance).getOrThrow(false, System.out::println);
+            Assertions.assertTrue(encoded.isJsonPrimitive());
+            Assertions.assertEquals(instance, codec.parse(JsonOps.COMPRESSED, encoded).getOrThrow(false, System.out::println));
+        });
+
+        final JsonArray error = new JsonArray();
+        error.add("test1");
+        error.add(this.s);
+        Assertions.assertThrows(RuntimeException.class, () -> codec.parse(JsonOps.INSTANCE, error).getOrThrow(false, System.out::println));
+        Assertions.assertEquals(EnumSet.of(TestEnum.TEST1), codec.parse(JsonOps.INSTANCE, error).resultOrPartial(System.out::println).orElseThrow());
+        Assertions.assertThrows(RuntimeException.class, () -> codec.parse(JsonOps.COMPRESSED, new JsonPrimitive(1L << TestEnum.values().length)).getOrThrow(false, System.out::println));
+    }
+
+    /**
+     * Tests {@link Codecable#enumMap(Class, Codec)}.
+     */
+    @Test
+    public void enumMap() {
+        final Codec<EnumMap<TestEnum, String>> codec = Codecable.enumMap(TestEnum.class, Codec.STRING);
+        final EnumMap<TestEnum, String> instance = new EnumMap<>(TestEnum.class);
+        instance.put(TestEnum.TEST1, "test1");
+        instance.put(this.test, "test");
+
+        Assertions.assertDoesNotThrow(() -> {
+            final JsonElement encoded = codec.encodeStart(JsonOps.INSTANCE, instance).getOrThrow(false, System.out::println);
+            Assertions.assertEquals(instance, codec.parse(JsonOps.INSTANCE, encoded).getOrThrow(false, System.out::println));
+        });
+
+        Assertions.assertDoesNotThrow(() -> {
+            final JsonElement encoded = codec.encodeStart(JsonOps.COMPRESSED, instance).getOrThrow(false, System.out::println);
+            Assertions.assertEquals(instance, codec.parse(JsonOps.COMPRESSED, encoded).getOrThrow(false, System.out::println));
+        });
+    }
+
+    /**
+     * Tests that keys of an enum map which decode to the same constant are
+     * reported as duplicates.
+     */
+    @Test
+    public void enumMapDuplicateKeys() {
+        final Codec<EnumMap<TimeUnit, Integer>> codec = Codecable.enumMap(TimeUnit.class, Codec.INT);
+        final DataResult<EnumMap<TimeUnit, Integer>> result = Assertions.assertDoesNotThrow(() -> codec.parse(JsonOps.INSTANCE, JsonParser.parseString("{\"days\":1,\"DAYS\":2,\"hours\":3}")));
+        Assertions.assertTrue(result.error().orElseThrow().message().contains("Duplicate key"));
+        Assertions.assertEquals(new EnumMap<>(Map.of(TimeUnit.DAYS, 1, TimeUnit.HOURS, 3)), result.resultOrPartial(s -> {}).orElseThrow());
+    }
+
     /**
      * Runs an enum test on the randomly selected enum and error instances.
      *
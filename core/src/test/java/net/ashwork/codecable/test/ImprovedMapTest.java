@@ -7,11 +7,18 @@ package net.ashwork.codecable.test;
 
 import com.google.gson.JsonObject;
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.JsonOps;
 import com.mojang.serialization.Keyable;
 import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.map.UnboundedImprovedMapCodec;
+import net.ashwork.codecable.util.ErrorReport;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 /**
@@ -83,6 +90,36 @@ public final class ImprovedMapTest {
         this.runStopOnErrorMapTest(codec);
     }
 
+    /**
+     * Tests {@link UnboundedImprovedMapCodec#decodeEach(DynamicOps, Object, BiConsumer)}.
+     */
+    @Test
+    public void unboundedDecodeEach() {
+        final UnboundedImprovedMapCodec<String, String> codec = new UnboundedImprovedMapCodec<>(Codec.STRING, Codec.STRING, false);
+
+        final Map<String, String> clean = new LinkedHashMap<>();
+        Assertions.assertTrue(codec.decodeEach(JsonOps.INSTANCE, this.clean, clean::put).result().isPresent());
+        Assertions.assertEquals(4, clean.size());
+
+        final Map<String, String> error = new LinkedHashMap<>();
+        Assertions.assertTrue(codec.decodeEach(JsonOps.INSTANCE, this.error, error::put).error().isPresent());
+        Assertions.assertEquals(3, error.size());
+    }
+
+    /**
+     * Tests that the error message of a map codec stays bounded no matter how
+     * many entries fail.
+     */
+    @Test
+    public void mapErrorMessageLimit() {
+        final JsonObject instance = new JsonObject();
+        for (int i = 0; i < 200_000; i++) instance.addProperty(String.valueOf(i), i);
+
+        final String message = Codecable.improvedUnboundedMap(Codec.STRING, Codec.STRING).parse(JsonOps.INSTANCE, instance).error().orElseThrow().message();
+        Assertions.assertTrue(message.length() < 4096, () -> "Message length: " + message.length());
+        Assertions.assertTrue(message.contains("...and " + (200_000 - ErrorReport.DEFAULT_LIMIT) + " more errors"), message);
+    }
+
     /**
      * Runs a normal map codec test.
      *
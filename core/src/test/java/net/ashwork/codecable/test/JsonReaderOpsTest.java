@@ -0,0 +1,125 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.test;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Decoder;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.JsonOps;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.ops.JsonReaderOps;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A test utility for {@link JsonReaderOps}.
+ */
+public final class JsonReaderOpsTest {
+
+    /**
+     * Tests that the decoded values match {@link JsonOps}.
+     */
+    @Test
+    public void matchesJsonOps() {
+        runReaderTest(Codec.STRING, "\"test\"");
+        runReaderTest(Codec.list(Codec.INT), "[1, 2, 3]");
+        runReaderTest(Codecable.set(Codec.STRING), "[\"a\", \"b\", \"a\"]");
+        runReaderTest(Codecable.set(Codec.STRING, true), "[\"a\", \"b\", \"a\"]");
+        runReaderTest(Codecable.set(Codec.STRING), "[\"a\", 4, \"c\"]");
+        runReaderTest(Codecable.intSet(), "[1, 2, 3]");
+        runReaderTest(Codecable.improvedUnboundedMap(Codec.STRING, Codecable.set(Codec.INT)), "{\"a\": [1, 2], \"b\": []}");
+        runReaderTest(Codecable.improvedUnboundedMap(Codec.STRING, Codec.INT), "{\"a\": 1, \"b\": \"c\"}");
+        runReaderTest(Codecable.unboundedBiMap(Codec.STRING, Codec.INT, true), "{\"a\": 1, \"b\": 1}");
+        runReaderTest(Codecable.enumMap(TimeUnit.class, Codec.INT), "{\"days\": 1}");
+    }
+
+    /**
+     * Tests that the elements of the outermost list are read as they are
+     * decoded.
+     */
+    @Test
+    public void streamsOutermost() {
+        final JsonReader reader = new JsonReader(new StringReader("[\"a\", \"b\", \"c\"]"));
+        final List<String> paths = new ArrayList<>();
+        final Codec<String> element = Codec.STRING.xmap(s -> {
+            paths.add(reader.getPath());
+            return s;
+        }, Function.identity());
+
+        Assertions.assertTrue(JsonReaderOps.decode(Codecable.set(element), reader).result().isPresent());
+        Assertions.assertEquals(List.of("$[1]", "$[2]", "$[3]"), paths);
+    }
+
+    /**
+     * Tests that malformed or mismatched JSON reports an error.
+     */
+    @Test
+    public void malformed() {
+        Assertions.assertTrue(JsonReaderOps.decode(Codecable.set(Codec.STRING), new StringReader("[\"a\", ")).error().isPresent());
+        Assertions.assertTrue(JsonReaderOps.decode(Codec.INT, new StringReader("[1]")).error().isPresent());
+
+        // Values must end the document
+        Assertions.assertTrue(JsonReaderOps.decode(Codec.INT.listOf(), new StringReader("[1,2] garbage")).error().isPresent());
+        Assertions.assertTrue(JsonReaderOps.decode(Codec.INT, new StringReader("1 2")).error().isPresent());
+        Assertions.assertEquals(List.of(1, 2), JsonReaderOps.decode(Codec.INT.listOf(), new StringReader("[1,2]\n")).getOrThrow(false, Assertions::fail));
+
+        // Reading a streamed map again reports an error
+        final Decoder<Boolean> twice = new Decoder<>() {
+            @Override
+            public <T> DataResult<Pair<Boolean, T>> decode(final DynamicOps<T> ops, final T input) {
+                return ops.getMap(input).map(map -> {
+                    map.entries().forEach(entry -> {});
+                    return Pair.of(map.get("a") != null, input);
+                });
+            }
+        };
+        Assertions.assertTrue(Assertions.assertDoesNotThrow(() -> JsonReaderOps.decode(twice, new StringReader("{\"a\": 1}"))).error().isPresent());
+
+        // Duplicate keys of a streamed map report an error
+        final Codec<Map<String, Integer>> map = Codecable.improvedUnboundedMap(Codec.STRING, Codec.INT);
+        Assertions.assertEquals("Duplicate key: a", Assertions.assertDoesNotThrow(() -> JsonReaderOps.decode(map, new StringReader("{\"a\":1,\"a\":2}"))).error().orElseThrow().message());
+        Assertions.assertEquals(Map.of("b", Map.of("a", 2)), JsonReaderOps.decode(Codec.unboundedMap(Codec.STRING, map), new StringReader("{\"b\":{\"a\":1,\"a\":2}}")).getOrThrow(false, Assertions::fail));
+    }
+
+    /**
+     * Tests that exceptions thrown by a codec are not reported as malformed JSON.
+     */
+    @Test
+    public void codecExceptions() {
+        final Codec<Integer> throwing = Codec.INT.xmap(i -> {
+            throw new IllegalArgumentException("Codec bug");
+        }, Function.identity());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JsonReaderOps.decode(throwing, new StringReader("1")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> JsonReaderOps.decode(Codec.list(throwing), new StringReader("[1]")));
+    }
+
+    /**
+     * Verifies that a value decoded from a reader matches the value decoded by
+     * {@link JsonOps}.
+     *
+     * @param codec the codec of the value
+     * @param json the JSON text to decode
+     * @param <A> the type of the value
+     */
+    private static <A> void runReaderTest(final Codec<A> codec, final String json) {
+        final DataResult<A> expected = codec.parse(JsonOps.INSTANCE, JsonParser.parseString(json)),
+                actual = JsonReaderOps.decode(codec, new StringReader(json));
+        Assertions.assertEquals(expected.error().map(DataResult.PartialResult::message), actual.error().map(DataResult.PartialResult::message));
+        Assertions.assertEquals(expected.resultOrPartial(s -> {}), actual.resultOrPartial(s -> {}));
+    }
+}
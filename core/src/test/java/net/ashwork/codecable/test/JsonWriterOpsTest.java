@@ -0,0 +1,147 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.test;
+
+import com.google.common.collect.HashBiMap;
+import com.google.gson.JsonParser;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.MapLike;
+import com.mojang.serialization.RecordBuilder;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.ops.JsonWriterOps;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A test utility for {@link JsonWriterOps}.
+ */
+public final class JsonWriterOpsTest {
+
+    /**
+     * Tests that the written JSON matches {@link JsonOps}.
+     */
+    @Test
+    public void matchesJsonOps() {
+        runWriterTest(Codec.STRING, "quote \" slash \\ tab \t line \u2028 control \u0001");
+        runWriterTest(Codec.list(Codec.DOUBLE), List.of(1D, -2.5D));
+        runWriterTest(Codecable.set(Codec.INT), new LinkedHashSet<>(List.of(1, 2, 3)));
+        runWriterTest(Codecable.set(Codec.INT), Set.of());
+        runWriterTest(Codecable.improvedUnboundedMap(Codec.STRING, Codecable.set(Codec.STRING)), Map.of("a", Set.of("b"), "c", Set.of()));
+        runWriterTest(Codecable.unboundedBiMap(Codec.STRING, Codec.LONG), HashBiMap.create(Map.of("a", 1L, "b", 2L)));
+        runWriterTest(Codecable.enumMap(TimeUnit.class, Codec.BOOL), new EnumMap<>(Map.of(TimeUnit.DAYS, true)));
+    }
+
+    /**
+     * Tests that fields and records, whose keys are added as raw names, match
+     * {@link JsonOps}.
+     */
+    @Test
+    public void recordsMatchJsonOps() {
+        final Codec<Pair<Integer, String>> record = new MapCodec<Pair<Integer, String>>() {
+
+            @Override
+            public <T> Stream<T> keys(final DynamicOps<T> ops) {
+                return Stream.of("x", "name \"quoted\"").map(ops::createString);
+            }
+
+            @Override
+            public <T> DataResult<Pair<Integer, String>> decode(final DynamicOps<T> ops, final MapLike<T> input) {
+                return DataResult.error("Not decoded");
+            }
+
+            @Override
+            public <T> RecordBuilder<T> encode(final Pair<Integer, String> input, final DynamicOps<T> ops, final RecordBuilder<T> prefix) {
+                return prefix.add("x", Codec.INT.encodeStart(ops, input.getFirst()))
+                        .add("name \"quoted\"", ops.createString(input.getSecond()));
+            }
+        }.codec();
+
+        runWriterTest(Codec.INT.fieldOf("x").codec(), 1);
+        runWriterTest(record, Pair.of(2, "b"));
+        runWriterTest(Codec.unboundedMap(Codec.STRING, record), Map.of("a", Pair.of(3, "c")));
+        runWriterTest(Codec.list(record), List.of(Pair.of(4, "d"), Pair.of(5, "e")));
+    }
+
+    /**
+     * Tests that keys which are not strings are rejected, the same as
+     * {@link JsonOps}.
+     */
+    @Test
+    public void nonStringKeys() {
+        runKeyRejectedTest(Codec.unboundedMap(Codec.INT, Codec.STRING), Map.of(1, "a"));
+        runKeyRejectedTest(Codec.unboundedMap(Codec.BOOL, Codec.STRING), Map.of(true, "a"));
+    }
+
+    /**
+     * Tests that the outermost map is written as each entry is added.
+     */
+    @Test
+    public void streamsOutermost() {
+        final StringWriter writer = new StringWriter();
+        final List<Integer> written = new ArrayList<>();
+        final Codec<String> value = Codec.STRING.xmap(Function.identity(), s -> {
+            written.add(writer.getBuffer().length());
+            return s;
+        });
+        final Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) map.put("key" + i, "value" + i);
+
+        Assertions.assertTrue(JsonWriterOps.encode(Codecable.improvedUnboundedMap(Codec.STRING, value), map, writer).result().isPresent());
+        Assertions.assertEquals(List.of(1, 16, 32), written);
+        Assertions.assertEquals(JsonParser.parseString("{\"key0\":\"value0\",\"key1\":\"value1\",\"key2\":\"value2\"}"), JsonParser.parseString(writer.toString()));
+    }
+
+    /**
+     * Verifies that a map is rejected by both {@link JsonOps} and a writer.
+     *
+     * @param codec the codec of the map
+     * @param value the map to encode
+     * @param <A> the type of the map
+     */
+    private static <A> void runKeyRejectedTest(final Codec<A> codec, final A value) {
+        Assertions.assertTrue(codec.encodeStart(JsonOps.INSTANCE, value).error().isPresent());
+        Assertions.assertTrue(JsonWriterOps.encode(codec, value, new StringWriter()).error().isPresent());
+    }
+
+    /**
+     * Verifies that a value written to a writer and a stream matches the value
+     * encoded by {@link JsonOps}.
+     *
+     * @param codec the codec of the value
+     * @param value the value to encode
+     * @param <A> the type of the value
+     */
+    private static <A> void runWriterTest(final Codec<A> codec, final A value) {
+        final String expected = codec.encodeStart(JsonOps.INSTANCE, value).getOrThrow(false, Assertions::fail).toString();
+
+        final StringWriter writer = new StringWriter();
+        JsonWriterOps.encode(codec, value, writer).getOrThrow(false, Assertions::fail);
+        Assertions.assertEquals(expected, writer.toString());
+
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        JsonWriterOps.encode(codec, value, stream).getOrThrow(false, Assertions::fail);
+        Assertions.assertEquals(expected, stream.toString(StandardCharsets.UTF_8));
+    }
+}
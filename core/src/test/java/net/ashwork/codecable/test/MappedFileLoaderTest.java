@@ -0,0 +1,94 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.test;
+
+import com.mojang.serialization.Codec;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.ops.BinaryFormat;
+import net.ashwork.codecable.ops.BinaryOps;
+import net.ashwork.codecable.ops.MappedFileLoader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A test utility for {@link MappedFileLoader}.
+ */
+public final class MappedFileLoaderTest {
+
+    /**
+     * Tests that single files are decoded in each format.
+     *
+     * @param directory a temporary directory to write the files to
+     * @throws IOException if the files could not be written
+     */
+    @Test
+    public void load(@TempDir final Path directory) throws IOException {
+        final Codec<Set<String>> codec = Codecable.set(Codec.STRING);
+        final Path json = Files.writeString(directory.resolve("a.json"), "[\"t\u00ebst\", \"b\"]", StandardCharsets.UTF_8);
+        Assertions.assertEquals(Set.of("t\u00ebst", "b"), MappedFileLoader.load(json, MappedFileLoader.Format.JSON, codec).getOrThrow(false, Assertions::fail));
+
+        final Path binary = Files.write(directory.resolve("a.bin"), BinaryFormat.encode(BinaryOps.INSTANCE, codec, Set.of("c")).getOrThrow(false, Assertions::fail));
+        Assertions.assertEquals(Set.of("c"), MappedFileLoader.load(binary, MappedFileLoader.Format.BINARY, codec).getOrThrow(false, Assertions::fail));
+
+        Assertions.assertTrue(MappedFileLoader.load(directory.resolve("missing.json"), MappedFileLoader.Format.JSON, codec).error().isPresent());
+    }
+
+    /**
+     * Tests that a directory is loaded with the failures of each file reported.
+     *
+     * @param directory a temporary directory to write the files to
+     * @throws IOException if the files could not be written
+     */
+    @Test
+    public void loadDirectory(@TempDir final Path directory) throws IOException {
+        for (int i = 0; i < 10; i++) Files.writeString(directory.resolve("value" + i + ".json"), Integer.toString(i));
+        Files.writeString(directory.resolve("bad0.json"), "\"a\"");
+        Files.writeString(directory.resolve("bad1.json"), "[");
+        Files.writeString(directory.resolve("ignored.txt"), "0");
+        Files.createDirectory(directory.resolve("nested.json"));
+
+        final MappedFileLoader.LoadReport<Integer> report = MappedFileLoader.loadDirectory(directory, MappedFileLoader.Format.JSON, Codec.INT, 3);
+        Assertions.assertEquals(12, report.files());
+        Assertions.assertEquals(List.of(directory.resolve("bad0.json"), directory.resolve("bad1.json")), List.copyOf(report.errors().keySet()));
+        Assertions.assertEquals(10, report.values().size());
+        Assertions.assertEquals(7, report.values().get(directory.resolve("value7.json")));
+
+        final String message = report.result().error().orElseThrow().message();
+        Assertions.assertTrue(message.startsWith("Failed to load 2 of 12 files; bad0.json: "));
+        Assertions.assertEquals(Map.copyOf(report.values()), Map.copyOf(report.result().resultOrPartial(s -> {}).orElseThrow()));
+
+        Assertions.assertTrue(MappedFileLoader.loadDirectory(directory.resolve("missing"), MappedFileLoader.Format.JSON, Codec.INT, 3).result().error().isPresent());
+    }
+
+    /**
+     * Tests that a decoder which throws only fails the file it was decoding.
+     */
+    @Test
+    public void loadDirectoryThrowing(@TempDir final Path directory) throws IOException {
+        for (int i = 0; i < 10; i++) Files.writeString(directory.resolve("value" + i + ".json"), Integer.toString(i));
+        final Codec<Integer> codec = Codec.INT.xmap(i -> {
+            if (i % 3 == 0) throw new IllegalArgumentException("Thrown for " + i);
+            return i;
+        }, i -> i);
+
+        for (final int parallelism : new int[] {1, 3}) {
+            final MappedFileLoader.LoadReport<Integer> report = Assertions.assertDoesNotThrow(() -> MappedFileLoader.loadDirectory(directory, MappedFileLoader.Format.JSON, codec, parallelism));
+            Assertions.assertEquals(10, report.files());
+            Assertions.assertEquals(6, report.values().size());
+            Assertions.assertEquals(4, report.errors().size());
+            Assertions.assertTrue(report.errors().get(directory.resolve("value3.json")).contains("Thrown for 3"));
+        }
+    }
+}
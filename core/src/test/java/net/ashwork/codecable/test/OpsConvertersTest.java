@@ -0,0 +1,76 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.Dynamic;
+import com.mojang.serialization.JsonOps;
+import net.ashwork.codecable.experimental.ops.TypedJsonOps;
+import net.ashwork.codecable.ops.BinaryOps;
+import net.ashwork.codecable.ops.OpsConverters;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * A test utility for {@link OpsConverters}.
+ */
+public final class OpsConvertersTest {
+
+    /**
+     * Tests that converting to the same or an equivalent ops does not copy.
+     */
+    @Test
+    public void identity() {
+        final JsonElement json = JsonParser.parseString("{\"a\": [1, 2]}");
+        Assertions.assertSame(json, OpsConverters.convert(new Dynamic<>(JsonOps.INSTANCE, json), JsonOps.INSTANCE));
+        Assertions.assertSame(json, OpsConverters.convert(JsonOps.COMPRESSED, JsonOps.INSTANCE, json));
+    }
+
+    /**
+     * Tests that the registered converters match the generic conversion.
+     */
+    @Test
+    public void matchesConvertTo() {
+        for (final String text : List.of("1", "2.5", "3000000000", "\"a\"", "true", "null", "[]", "{}",
+                "[1, [2, [3, {\"a\": \"x\"}]], \"b\"]", "{\"a\": {\"b\": [1.5, false]}, \"c\": []}")) {
+            final JsonElement json = JsonParser.parseString(text);
+            final Object binary = OpsConverters.convert(JsonOps.INSTANCE, BinaryOps.INSTANCE, json);
+            Assertions.assertEquals(JsonOps.INSTANCE.convertTo(BinaryOps.INSTANCE, json), binary);
+            Assertions.assertEquals(BinaryOps.INSTANCE.convertTo(JsonOps.INSTANCE, binary), OpsConverters.convert(BinaryOps.INSTANCE, JsonOps.INSTANCE, binary));
+        }
+
+        // Unregistered pairs fall back to the generic conversion
+        final JsonElement json = JsonParser.parseString("[1, 2]");
+        Assertions.assertEquals(JsonOps.INSTANCE.convertTo(TypedJsonOps.INSTANCE, json), OpsConverters.convert(JsonOps.INSTANCE, TypedJsonOps.INSTANCE, json));
+    }
+
+    /**
+     * Tests that deeply nested values do not overflow the stack.
+     */
+    @Test
+    public void deeplyNested() {
+        final int depth = 100_000;
+        final JsonArray root = new JsonArray();
+        JsonArray current = root;
+        for (int i = 0; i < depth; i++) {
+            final JsonArray next = new JsonArray();
+            current.add(next);
+            current = next;
+        }
+
+        Object binary = OpsConverters.convert(JsonOps.INSTANCE, BinaryOps.INSTANCE, root);
+        for (int i = 0; i < depth; i++) binary = ((List<?>) binary).get(0);
+        Assertions.assertEquals(List.of(), binary);
+
+        JsonElement json = OpsConverters.convert(BinaryOps.INSTANCE, JsonOps.INSTANCE, OpsConverters.convert(JsonOps.INSTANCE, BinaryOps.INSTANCE, root));
+        for (int i = 0; i < depth; i++) json = json.getAsJsonArray().get(0);
+        Assertions.assertEquals(new JsonArray(), json);
+    }
+}
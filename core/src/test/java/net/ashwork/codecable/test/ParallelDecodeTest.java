@@ -0,0 +1,89 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.JsonOps;
+import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.util.ParallelDecode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A test utility for decoding collections concurrently.
+ */
+public final class ParallelDecodeTest {
+
+    private static final int SIZE = 10000;
+    private final JsonArray list;
+    private final JsonObject map;
+    private final ParallelDecode parallel;
+
+    /**
+     * Default constructor.
+     */
+    public ParallelDecodeTest() {
+        this.list = new JsonArray();
+        this.map = new JsonObject();
+        for (int i = 0; i < SIZE; i++) {
+            // Every 1000th element fails, every 100th is a duplicate
+            if (i % 1000 == 999) {
+                this.list.add(i);
+                this.map.addProperty("test" + i, i);
+            } else {
+                this.list.add("test" + (i % 100 == 99 ? 0 : i));
+                this.map.addProperty("test" + i, "test" + (i % 100 == 99 ? 0 : i));
+            }
+        }
+        this.parallel = ParallelDecode.of(1);
+    }
+
+    /**
+     * Tests {@link Codecable#set(Codec, boolean, boolean, ParallelDecode)}.
+     */
+    @Test
+    public void set() {
+        runParallelTest(this.list, Codecable.set(Codec.STRING, false, false), Codecable.set(Codec.STRING, false, false, this.parallel));
+        runParallelTest(this.list, Codecable.set(Codec.STRING, true, true), Codecable.set(Codec.STRING, true, true, this.parallel));
+    }
+
+    /**
+     * Tests {@link Codecable#improvedUnboundedMap(Codec, Codec, boolean, ParallelDecode)}.
+     */
+    @Test
+    public void improvedMap() {
+        runParallelTest(this.map, Codecable.improvedUnboundedMap(Codec.STRING, Codec.STRING, false), Codecable.improvedUnboundedMap(Codec.STRING, Codec.STRING, false, this.parallel));
+        runParallelTest(this.map, Codecable.improvedUnboundedMap(Codec.STRING, Codec.STRING, true), Codecable.improvedUnboundedMap(Codec.STRING, Codec.STRING, true, this.parallel));
+    }
+
+    /**
+     * Tests {@link Codecable#unboundedBiMap(Codec, Codec, boolean, boolean, ParallelDecode)}.
+     */
+    @Test
+    public void biMap() {
+        runParallelTest(this.map, Codecable.unboundedBiMap(Codec.STRING, Codec.STRING, false, false), Codecable.unboundedBiMap(Codec.STRING, Codec.STRING, false, false, this.parallel));
+        runParallelTest(this.map, Codecable.unboundedBiMap(Codec.STRING, Codec.STRING, true, true), Codecable.unboundedBiMap(Codec.STRING, Codec.STRING, true, true, this.parallel));
+    }
+
+    /**
+     * Verifies that a codec decoding concurrently has the same result as one
+     * decoding sequentially.
+     *
+     * @param instance an encoded instance
+     * @param sequential a codec which decodes sequentially
+     * @param parallel a codec which decodes concurrently
+     * @param <A> the type of the collection
+     */
+    private static <A> void runParallelTest(final JsonElement instance, final Codec<A> sequential, final Codec<A> parallel) {
+        final DataResult<A> expected = sequential.parse(JsonOps.INSTANCE, instance), actual = parallel.parse(JsonOps.INSTANCE, instance);
+        Assertions.assertEquals(expected.error().map(DataResult.PartialResult::message), actual.error().map(DataResult.PartialResult::message));
+        Assertions.assertEquals(expected.resultOrPartial(s -> {}), actual.resultOrPartial(s -> {}));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.JsonOps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.ashwork.codecable.Codecable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+/**
+ * A test utility for primitive collection codecs.
+ */
+public final class PrimitiveCollectionTest {
+
+    private final JsonArray clean, error, duplicate;
+    private final JsonObject cleanMap, errorMap;
+
+    /**
+     * Default constructor.
+     */
+    public PrimitiveCollectionTest() {
+        this.clean = new JsonArray();
+        this.clean.add(1);
+        this.clean.add(2);
+        this.clean.add(3);
+        this.clean.add(4);
+
+        this.error = new JsonArray();
+        this.error.add(1);
+        this.error.add("test2");
+        this.error.add(3);
+        this.error.add(4);
+
+        this.duplicate = new JsonArray();
+        this.duplicate.add(1);
+        this.duplicate.add(1);
+        this.duplicate.add(3);
+        this.duplicate.add(4);
+
+        this.cleanMap = new JsonObject();
+        this.cleanMap.addProperty("1", "test1");
+        this.cleanMap.addProperty("2", "test2");
+        this.cleanMap.addProperty("3", "test3");
+        this.cleanMap.addProperty("4", "test1");
+
+        this.errorMap = new JsonObject();
+        this.errorMap.addProperty("1", "test1");
+        this.errorMap.addProperty("test2", "test2");
+        this.errorMap.addProperty("3", "test3");
+        this.errorMap.addProperty("4", "test4");
+    }
+
+    /**
+     * Tests {@link Codecable#intSet()}.
+     */
+    @Test
+    public void intSetNormal() {
+        final Codec<IntSet> codec = Codecable.intSet();
+
+        SetTest.runNormalMapBasedTest(this.clean, this.error, this.duplicate, codec, IntSet::size);
+    }
+
+    /**
+     * Tests {@link Codecable#intSet(boolean, boolean)} when duplicates should
+     * fail and sets should not be decoded passed the first failed element.
+     */
+    @Test
+    public void intSetStopOnFirst() {
+        final Codec<IntSet> codec = Codecable.intSet(true, true);
+
+        SetTest.runStopOnErrorMapBasedTest(this.clean, this.error, this.duplicate, codec, IntSet::size);
+    }
+
+    /**
+     * Tests {@link Codecable#longSet(boolean)} when duplicates should fail.
+     */
+    @Test
+    public void longSetDuplicateFail() {
+        final Codec<LongSet> codec = Codecable.longSet(true);
+
+        SetTest.runFailDuplicateMapBasedTest(this.clean, this.error, this.duplicate, codec, LongSet::size);
+    }
+
+    /**
+     * Tests {@link Codecable#improvedUnboundedIntMap(Codec)}.
+     */
+    @Test
+    public void intMapNormal() {
+        final Codec<Int2ObjectMap<String>> codec = Codecable.improvedUnboundedIntMap(Codec.STRING);
+
+        SetTest.runNormalMapBasedTest(this.cleanMap, this.errorMap, null, codec, Int2ObjectMap::size);
+    }
+
+    /**
+     * Tests {@link Codecable#improvedUnboundedIntMap(Codec, boolean)} when maps
+     * should not be decoded passed the first failed entry.
+     */
+    @Test
+    public void intMapStopOnFirst() {
+        final Codec<Int2ObjectMap<String>> codec = Codecable.improvedUnboundedIntMap(Codec.STRING, true);
+
+        SetTest.runStopOnErrorMapBasedTest(this.cleanMap, this.errorMap, null, codec, Int2ObjectMap::size);
+    }
+
+    /**
+     * Tests that the keys of an {@code int} map are parsed the same as
+     * {@link Integer#parseInt(String)}, with keys parsing to the same {@code int}
+     * reported as duplicates.
+     */
+    @Test
+    public void intMapKeys() {
+        final Codec<Int2ObjectMap<String>> codec = Codecable.improvedUnboundedIntMap(Codec.STRING);
+        for (final String key : new String[] {"0", "-0", "+7", "0012", "2147483647", "-2147483648", "2147483648", "-2147483649",
+                "99999999999", "", "-", "+", "1.5", "1e3", " 1", "0x10", "--1"}) {
+            final JsonObject instance = new JsonObject();
+            instance.addProperty(key, "v");
+            final DataResult<Int2ObjectMap<String>> result = codec.parse(JsonOps.INSTANCE, instance);
+
+            Integer expected;
+            try {
+                expected = Integer.parseInt(key);
+            } catch (final NumberFormatException e) {
+                expected = null;
+            }
+            if (expected == null) Assertions.assertTrue(result.error().isPresent(), key);
+            else Assertions.assertEquals(Set.of(expected), Set.copyOf(result.getOrThrow(false, Assertions::fail).keySet()), key);
+        }
+
+        final JsonObject duplicates = new JsonObject();
+        duplicates.addProperty("1", "a");
+        duplicates.addProperty("01", "b");
+        final DataResult<Int2ObjectMap<String>> result = codec.parse(JsonOps.INSTANCE, duplicates);
+        Assertions.assertTrue(result.error().orElseThrow().message().contains("Duplicate key"));
+        Assertions.assertEquals("a", result.resultOrPartial(s -> {}).orElseThrow().get(1));
+    }
+}
@@ -7,14 +7,25 @@ package net.ashwork.codecable.test;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Decoder;
+import com.mojang.serialization.DynamicOps;
 import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.Lifecycle;
 import net.ashwork.codecable.Codecable;
+import net.ashwork.codecable.collection.SetCodec;
+import net.ashwork.codecable.util.ErrorReport;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.ToIntFunction;
 
 /**
@@ -57,6 +68,23 @@ public final class SetTest {
         this.runNormalSetTest(codec);
     }
 
+    /**
+     * Verifies that decoded sets are unmodifiable, keep the order of the elements,
+     * and have the lifecycle of their elements.
+     */
+    @Test
+    public void setUnmodifiable() {
+        final Set<String> set = Codecable.wrap(Codec.STRING).setOf().parse(JsonOps.INSTANCE, this.clean).result().orElseThrow();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> set.add("test5"));
+        Assertions.assertEquals(List.of("test1", "test2", "test3", "test4"), List.copyOf(set));
+
+        for (final Lifecycle lifecycle : List.of(Lifecycle.stable(), Lifecycle.experimental(), Lifecycle.deprecated(1))) {
+            final Codec<Set<String>> codec = Codecable.set(lifecycleCodec(lifecycle));
+            Assertions.assertEquals(lifecycle, codec.parse(JsonOps.INSTANCE, this.clean).lifecycle());
+            Assertions.assertEquals(lifecycle, codec.parse(JsonOps.INSTANCE, this.duplicate).lifecycle());
+        }
+    }
+
     /**
      * Tests {@link Codecable#set(Codec, boolean)} when duplicates should fail.
      */
@@ -78,6 +106,82 @@ public final class SetTest {
         this.runStopOnErrorSetTest(codec);
     }
 
+    /**
+     * Tests that the error message of a set codec stays bounded no matter how
+     * many inputs fail.
+     */
+    @Test
+    public void setErrorMessageLimit() {
+        final JsonArray instance = new JsonArray();
+        for (int i = 0; i < 200_000; i++) instance.add(i);
+
+        final List<Codec<?>> codecs = List.of(Codecable.set(Codec.STRING), Codecable.enumSet(TimeUnit.class));
+        for (final Codec<?> codec : codecs) {
+            final String message = codec.parse(JsonOps.INSTANCE, instance).error().orElseThrow().message();
+            Assertions.assertTrue(message.length() < 4096, () -> "Message length: " + message.length());
+            Assertions.assertTrue(message.contains("...and " + (200_000 - ErrorReport.DEFAULT_LIMIT) + " more errors"), message);
+        }
+    }
+
+    /**
+     * Tests that the {@link ErrorReport} of a set codec only retains a limited
+     * number of failed inputs.
+     */
+    @Test
+    public void setErrorReportLimit() {
+        final Codec<Set<String>> codec = Codecable.wrap(Codec.STRING).setOf();
+        final int failed = ErrorReport.DEFAULT_LIMIT + 10;
+        final JsonArray instance = new JsonArray();
+        instance.add("test1");
+        for (int i = 0; i < failed; i++) instance.add(i);
+
+        final DataResult<Pair<Set<String>, JsonElement>> result = codec.decode(JsonOps.INSTANCE, instance);
+        final String message = result.error().orElseThrow().message();
+        Assertions.assertTrue(message.startsWith("Not a string"), message);
+        Assertions.assertTrue(message.contains("; ...and 10 more errors"), message);
+        Assertions.assertTrue(message.endsWith(" ...and 10 more"), message);
+
+        final Pair<Set<String>, JsonElement> partial = result.resultOrPartial(s -> {}).orElseThrow();
+        Assertions.assertEquals(1, partial.getFirst().size());
+        Assertions.assertEquals(ErrorReport.DEFAULT_LIMIT, partial.getSecond().getAsJsonArray().size());
+    }
+
+    /**
+     * Tests {@link SetCodec#decodeEach(DynamicOps, Object, Consumer)}.
+     */
+    @Test
+    public void setDecodeEach() {
+        final SetCodec<String> codec = new SetCodec<>(Codec.STRING, true, false);
+
+        final List<String> clean = new ArrayList<>();
+        Assertions.assertTrue(codec.decodeEach(JsonOps.INSTANCE, this.clean, clean::add).result().isPresent());
+        Assertions.assertEquals(List.of("test1", "test2", "test3", "test4"), clean);
+
+        final List<String> error = new ArrayList<>();
+        Assertions.assertTrue(codec.decodeEach(JsonOps.INSTANCE, this.error, error::add).error().isPresent());
+        Assertions.assertEquals(List.of("test1", "test3", "test4"), error);
+
+        final List<String> duplicate = new ArrayList<>();
+        Assertions.assertTrue(codec.decodeEach(JsonOps.INSTANCE, this.duplicate, duplicate::add).error().isPresent());
+        Assertions.assertEquals(List.of("test1", "test3", "test4"), duplicate);
+    }
+
+    /**
+     * Creates a string codec which decodes with the given lifecycle.
+     *
+     * @param lifecycle the lifecycle of each decoded string
+     * @return a string codec
+     */
+    public static Codec<String> lifecycleCodec(final Lifecycle lifecycle) {
+        return Codec.of(Codec.STRING, new Decoder<>() {
+
+            @Override
+            public <T> DataResult<Pair<String, T>> decode(final DynamicOps<T> ops, final T input) {
+                return Codec.STRING.decode(ops, input).setLifecycle(lifecycle);
+            }
+        });
+    }
+
     /**
      * Runs a normal set codec test.
      *
@@ -5,8 +5,11 @@
 
 package net.ashwork.codecable.test;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
 import com.mojang.serialization.JsonOps;
 import net.ashwork.codecable.Codecable;
 import org.junit.jupiter.api.Assertions;
@@ -20,13 +23,19 @@ import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.Year;
 import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.chrono.HijrahDate;
 import java.time.chrono.JapaneseDate;
 import java.time.chrono.MinguoDate;
 import java.time.chrono.ThaiBuddhistDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A test utility for time-based codecs.
@@ -137,9 +146,125 @@ public final class TimeTest {
         runTimeTest(YearMonth.now(), Codecable.yearMonth(DateTimeFormatter.ofPattern("MM-yyyy")));
     }
 
+    /**
+     * Tests that the ISO time constants encode and decode the same as their
+     * formatters.
+     */
+    @Test
+    public void isoMatchesFormatter() {
+        final ZoneOffset offset = ZoneOffset.ofHoursMinutes(-5, -30);
+        for (final LocalDateTime dateTime : new LocalDateTime[] {
+                LocalDateTime.of(2020, 2, 29, 0, 0), LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_999),
+                LocalDateTime.of(0, 1, 1, 12, 30, 5, 500_000_000), LocalDateTime.of(9999, 12, 31, 1, 2, 3, 4_000),
+                LocalDateTime.of(10000, 1, 1, 0, 0), LocalDateTime.of(-1, 6, 15, 8, 0, 0, 120_000_000)
+        }) {
+            runIsoTest(dateTime.toLocalDate(), Codecable.LOCAL_DATE, DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from);
+            runIsoTest(dateTime.toLocalTime(), Codecable.LOCAL_TIME, DateTimeFormatter.ISO_LOCAL_TIME, LocalTime::from);
+            runIsoTest(dateTime, Codecable.LOCAL_DATE_TIME, DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime::from);
+            runIsoTest(dateTime.toLocalTime().atOffset(offset), Codecable.OFFSET_TIME, DateTimeFormatter.ISO_OFFSET_TIME, OffsetTime::from);
+            runIsoTest(dateTime.atOffset(offset), Codecable.OFFSET_DATE_TIME, DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from);
+            runIsoTest(dateTime.atZone(ZoneOffset.UTC), Codecable.ZONED_DATE_TIME, DateTimeFormatter.ISO_ZONED_DATE_TIME, ZonedDateTime::from);
+            runIsoTest(dateTime.atZone(ZoneId.of("Europe/Paris")), Codecable.ZONED_DATE_TIME, DateTimeFormatter.ISO_ZONED_DATE_TIME, ZonedDateTime::from);
+            runIsoTest(dateTime.toInstant(offset), Codecable.INSTANT, DateTimeFormatter.ISO_INSTANT, Instant::from);
+        }
+
+        // Lenient forms accepted by the formatters
+        runIsoParseTest("2020-02-29t10:15", Codecable.LOCAL_DATE_TIME, DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime::from);
+        runIsoParseTest("10:15:30.", Codecable.LOCAL_TIME, DateTimeFormatter.ISO_LOCAL_TIME, LocalTime::from);
+        runIsoParseTest("2020-02-29T10:15:30+01", Codecable.OFFSET_DATE_TIME, DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from);
+        runIsoParseTest("2020-02-29T10:15:30.5-01:30:15", Codecable.INSTANT, DateTimeFormatter.ISO_INSTANT, Instant::from);
+        runIsoParseTest("2020-02-29T24:00:00Z", Codecable.INSTANT, DateTimeFormatter.ISO_INSTANT, Instant::from);
+        runIsoParseTest("2020-02-29T10:15z", Codecable.ZONED_DATE_TIME, DateTimeFormatter.ISO_ZONED_DATE_TIME, ZonedDateTime::from);
+
+        // Malformed input
+        for (final String malformed : new String[] {"", "2021-02-29", "2020-13-01", "2020-1-01", "2020-01-01T", "2020-01-01T24:00",
+                "2020-01-01T10:60", "2020-01-01T10:15:30.1234567890", "2020-01-01 10:15"}) {
+            Assertions.assertTrue(Codecable.LOCAL_DATE_TIME.parse(JsonOps.INSTANCE, new JsonPrimitive(malformed)).error().isPresent(), malformed);
+        }
+    }
+
+    /**
+     * Tests that the ISO time constants accept the same offset ids as their
+     * formatters.
+     */
+    @Test
+    public void isoOffsetsMatchFormatter() {
+        final List<String> offsets = new ArrayList<>(List.of("Z", "z", "+", "+1", "+1:00", "+0100", "+010000", "+01:0", "+01:00:0", "Z+01"));
+        for (final String sign : new String[] {"+", "-"}) {
+            for (final String hours : new String[] {"00", "01", "10", "18", "19"}) {
+                offsets.add(sign + hours);
+                for (final String minutes : new String[] {"00", "30", "59", "60"}) {
+                    offsets.add(sign + hours + ':' + minutes);
+                    for (final String seconds : new String[] {"00", "15", "60"})
+                        offsets.add(sign + hours + ':' + minutes + ':' + seconds);
+                }
+            }
+        }
+
+        for (final String offset : offsets) {
+            runIsoDifferentialTest("10:15:30" + offset, Codecable.OFFSET_TIME, DateTimeFormatter.ISO_OFFSET_TIME, OffsetTime::from);
+            runIsoDifferentialTest("2020-02-29T10:15:30" + offset, Codecable.OFFSET_DATE_TIME, DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from);
+            runIsoDifferentialTest("2020-02-29T10:15:30" + offset, Codecable.ZONED_DATE_TIME, DateTimeFormatter.ISO_ZONED_DATE_TIME, ZonedDateTime::from);
+            runIsoDifferentialTest("2020-02-29T10:15:30" + offset, Codecable.INSTANT, DateTimeFormatter.ISO_INSTANT, Instant::from);
+        }
+    }
+
+    /**
+     * Tests that the ISO time constants report out of range offsets, which their
+     * formatters throw on while reading, as errors.
+     */
+    @Test
+    public void isoOffsetsOutOfRange() {
+        for (final String offset : new String[] {"+25:00", "-24:00", "+99:99", "+20:00:00", "+2500"}) {
+            for (final Codec<?> codec : List.of(Codecable.OFFSET_DATE_TIME, Codecable.ZONED_DATE_TIME, Codecable.INSTANT))
+                Assertions.assertTrue(codec.parse(JsonOps.INSTANCE, new JsonPrimitive("2020-01-31T12:34:56" + offset)).error().isPresent(), offset);
+            Assertions.assertTrue(Codecable.OFFSET_TIME.parse(JsonOps.INSTANCE, new JsonPrimitive("12:34:56" + offset)).error().isPresent(), offset);
+        }
+    }
+
+    /**
+     * Tests that a time codec reports strings its formatter cannot parse as
+     * errors.
+     */
+    @Test
+    public void formatterUnparsed() {
+        final Codec<YearMonth> codec = Codecable.yearMonth(DateTimeFormatter.ofPattern("MM-yyyy"));
+
+        for (final String malformed : new String[] {"", "13-2020", "01-2020x", "Jan-2020"})
+            Assertions.assertEquals("Text '" + malformed + "' could not be parsed", codec.parse(JsonOps.INSTANCE, new JsonPrimitive(malformed)).error().orElseThrow().message());
+    }
+
+    /**
+     * Tests that the time codecs encode to their epoch when compressed while still
+     * decoding strings.
+     */
+    @Test
+    public void compressedEpoch() {
+        final Instant instant = Instant.ofEpochMilli(1_600_000_000_123L);
+        Assertions.assertEquals(new JsonPrimitive(1_600_000_000_123L), Codecable.INSTANT.encodeStart(JsonOps.COMPRESSED, instant).getOrThrow(false, System.out::println));
+        Assertions.assertEquals(instant, Codecable.INSTANT.parse(JsonOps.COMPRESSED, new JsonPrimitive(instant.toString())).getOrThrow(false, System.out::println));
+
+        final JsonArray precise = new JsonArray();
+        precise.add(1_600_000_000L);
+        precise.add(123_456_789L);
+        Assertions.assertEquals(precise, Codecable.INSTANT.encodeStart(JsonOps.COMPRESSED, Instant.ofEpochSecond(1_600_000_000L, 123_456_789L)).getOrThrow(false, System.out::println));
+
+        final LocalDate date = LocalDate.of(2020, 2, 29);
+        Assertions.assertEquals(new JsonPrimitive(date.toEpochDay()), Codecable.LOCAL_DATE.encodeStart(JsonOps.COMPRESSED, date).getOrThrow(false, System.out::println));
+        Assertions.assertEquals(date, Codecable.LOCAL_DATE.parse(JsonOps.COMPRESSED, new JsonPrimitive("2020-02-29")).getOrThrow(false, System.out::println));
+
+        final OffsetDateTime dateTime = OffsetDateTime.of(2020, 2, 29, 10, 15, 30, 0, ZoneOffset.ofHours(2));
+        runTimeTest(dateTime, Codecable.OFFSET_DATE_TIME);
+        Assertions.assertEquals(dateTime.getOffset(), Codecable.OFFSET_DATE_TIME.parse(JsonOps.COMPRESSED,
+                Codecable.OFFSET_DATE_TIME.encodeStart(JsonOps.COMPRESSED, dateTime).getOrThrow(false, System.out::println)).getOrThrow(false, System.out::println).getOffset());
+
+        Assertions.assertTrue(Codecable.LOCAL_TIME.parse(JsonOps.COMPRESSED, new JsonPrimitive(-1L)).error().isPresent());
+        Assertions.assertTrue(Codecable.INSTANT.parse(JsonOps.COMPRESSED, new JsonArray()).error().isPresent());
+    }
+
     /**
      * Creates a test for a temporal accessor. Verifies it can encode and decode
-     * the data.
+     * the data, both normally and compressed.
      *
      * @param instance a temporal accessor instance
      * @param codec the temporal accessor codec
@@ -152,5 +277,64 @@ public final class TimeTest {
             Assertions.assertEquals(instance,
                     Assertions.assertDoesNotThrow(() -> codec.parse(JsonOps.INSTANCE, encoded).getOrThrow(false, System.out::println)));
         });
+
+        Assertions.assertDoesNotThrow(() -> {
+            final JsonElement encoded = codec.encodeStart(JsonOps.COMPRESSED, instance).getOrThrow(false, System.out::println);
+
+            Assertions.assertEquals(instance,
+                    Assertions.assertDoesNotThrow(() -> codec.parse(JsonOps.COMPRESSED, encoded).getOrThrow(false, System.out::println)));
+        });
+    }
+
+    /**
+     * Verifies that an ISO time codec encodes and decodes a temporal accessor the
+     * same as its formatter.
+     *
+     * @param instance a temporal accessor instance
+     * @param codec the ISO time codec
+     * @param formatter the formatter of the codec
+     * @param query a function that transforms a temporal accessor to its exact type
+     * @param <T> the type of the temporal accessor
+     */
+    private static <T extends TemporalAccessor> void runIsoTest(final T instance, final Codec<T> codec, final DateTimeFormatter formatter, final TemporalQuery<T> query) {
+        final String expected = formatter.format(instance);
+        Assertions.assertEquals(expected, codec.encodeStart(JsonOps.INSTANCE, instance).getOrThrow(false, System.out::println).getAsString());
+        runIsoParseTest(expected, codec, formatter, query);
+    }
+
+    /**
+     * Verifies that an ISO time codec decodes a string the same as its formatter.
+     *
+     * @param encoded the encoded string
+     * @param codec the ISO time codec
+     * @param formatter the formatter of the codec
+     * @param query a function that transforms a temporal accessor to its exact type
+     * @param <T> the type of the temporal accessor
+     */
+    private static <T extends TemporalAccessor> void runIsoParseTest(final String encoded, final Codec<T> codec, final DateTimeFormatter formatter, final TemporalQuery<T> query) {
+        Assertions.assertEquals(formatter.parse(encoded, query), codec.parse(JsonOps.INSTANCE, new JsonPrimitive(encoded)).getOrThrow(false, System.out::println), encoded);
+    }
+
+    /**
+     * Verifies that a string is parsed the same by an ISO time codec as by its
+     * formatter, including whether it fails to parse.
+     *
+     * @param encoded the string to parse
+     * @param codec the ISO time codec
+     * @param formatter the formatter of the codec
+     * @param query the query of the temporal accessor from the parsed string
+     * @param <T> the type of the temporal accessor
+     */
+    private static <T extends TemporalAccessor> void runIsoDifferentialTest(final String encoded, final Codec<T> codec, final DateTimeFormatter formatter, final TemporalQuery<T> query) {
+        T expected;
+        try {
+            expected = formatter.parse(encoded, query);
+        } catch (final DateTimeParseException e) {
+            expected = null;
+        }
+
+        final DataResult<T> result = codec.parse(JsonOps.INSTANCE, new JsonPrimitive(encoded));
+        if (expected == null) Assertions.assertTrue(result.error().isPresent(), encoded);
+        else Assertions.assertEquals(expected, result.result().orElse(null), encoded);
     }
 }
@@ -0,0 +1,102 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.codecable.test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import net.ashwork.codecable.experimental.ops.TypedJsonOps;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A test utility for {@link TypedJsonOps}.
+ */
+public final class TypedJsonOpsTest {
+
+    /**
+     * Tests that numbers keep their exact type through JSON text.
+     */
+    @Test
+    public void exactNumbers() {
+        runTypedTest(Codec.BYTE, (byte) 12, Byte.class, false);
+        runTypedTest(Codec.SHORT, (short) 1234, Short.class, false);
+        runTypedTest(Codec.INT, 123456, Integer.class, true);
+        runTypedTest(Codec.LONG, 12L, Long.class, false);
+        runTypedTest(Codec.LONG, Long.MAX_VALUE, Long.class, false);
+        runTypedTest(Codec.FLOAT, 1.5F, Float.class, false);
+        runTypedTest(Codec.DOUBLE, 2D, Double.class, true);
+    }
+
+    /**
+     * Tests that unambiguous values are written as plain JSON.
+     */
+    @Test
+    public void plainValues() {
+        runTypedTest(Codec.STRING, "test", String.class, true);
+        Assertions.assertTrue(Codec.list(Codec.INT).encodeStart(TypedJsonOps.INSTANCE, List.of(1, 2, 3)).getOrThrow(false, Assertions::fail).isJsonArray());
+        Assertions.assertEquals(List.of(1, 2, 3), Codec.list(Codec.INT).parse(TypedJsonOps.INSTANCE, JsonParser.parseString("[1, 2, 3]")).getOrThrow(false, Assertions::fail));
+        Assertions.assertEquals(List.of(5L, 3000000000L), Codec.list(Codec.LONG).parse(TypedJsonOps.INSTANCE, JsonParser.parseString("[5, 3000000000]")).getOrThrow(false, Assertions::fail));
+    }
+
+    /**
+     * Tests that maps which look like a typed value are escaped.
+     */
+    @Test
+    public void escapedMaps() {
+        final Codec<Map<String, Integer>> codec = Codec.unboundedMap(Codec.STRING, Codec.INT);
+        final Map<String, Integer> map = Map.of("ops:data_type", 1, "value", 2);
+        final JsonElement encoded = JsonParser.parseString(codec.encodeStart(TypedJsonOps.INSTANCE, map).getOrThrow(false, Assertions::fail).toString());
+        Assertions.assertEquals(map, codec.parse(TypedJsonOps.INSTANCE, encoded).getOrThrow(false, Assertions::fail));
+        Assertions.assertEquals(encoded, TypedJsonOps.INSTANCE.convertTo(TypedJsonOps.INSTANCE, encoded));
+    }
+
+    /**
+     * Tests that wrapped values are converted to their exact type.
+     */
+    @Test
+    public void convertTo() {
+        final TypedJsonOps ops = TypedJsonOps.INSTANCE;
+        final JsonElement element = ops.createMap(Map.of(
+                ops.createString("byte"), ops.createByte((byte) 1),
+                ops.createString("long"), ops.createLong(2L),
+                ops.createString("int"), ops.createInt(3),
+                ops.createString("bytes"), ops.createByteList(ByteBuffer.wrap(new byte[] {4, 5}))
+        ));
+        final JsonElement parsed = JsonParser.parseString(element.toString());
+
+        Assertions.assertEquals(element, ops.convertTo(ops, parsed));
+        Assertions.assertEquals(JsonParser.parseString("{\"byte\": 1, \"long\": 2, \"int\": 3, \"bytes\": [4, 5]}"), ops.convertTo(JsonOps.INSTANCE, parsed));
+        Assertions.assertEquals(ByteBuffer.wrap(new byte[] {4, 5}), Codec.BYTE_BUFFER.parse(ops, ops.get(parsed, "bytes").getOrThrow(false, Assertions::fail)).getOrThrow(false, Assertions::fail));
+    }
+
+    /**
+     * Verifies that a value is written plainly or wrapped, and that it reads
+     * back as the same value and type after being written as JSON text.
+     *
+     * @param codec the codec of the value
+     * @param value the value to encode
+     * @param type the exact type of the value
+     * @param plain whether the value should be written as plain JSON
+     * @param <A> the type of the value
+     */
+    private static <A> void runTypedTest(final Codec<A> codec, final A value, final Class<?> type, final boolean plain) {
+        final JsonElement encoded = codec.encodeStart(TypedJsonOps.INSTANCE, value).getOrThrow(false, Assertions::fail);
+        Assertions.assertEquals(plain, encoded instanceof JsonPrimitive);
+
+        final JsonElement parsed = JsonParser.parseString(encoded.toString());
+        Assertions.assertEquals(value, codec.parse(TypedJsonOps.INSTANCE, parsed).getOrThrow(false, Assertions::fail));
+        Assertions.assertEquals(encoded, TypedJsonOps.INSTANCE.convertTo(TypedJsonOps.INSTANCE, parsed));
+        if (value instanceof Number)
+            Assertions.assertEquals(type, TypedJsonOps.INSTANCE.getNumberValue(parsed).getOrThrow(false, Assertions::fail).getClass());
+    }
+}
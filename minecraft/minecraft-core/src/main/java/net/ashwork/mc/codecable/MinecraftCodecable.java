@@ -5,19 +5,16 @@
 
 package net.ashwork.mc.codecable;
 
-import com.google.gson.JsonElement;
 import com.mojang.serialization.Codec;
-import com.mojang.serialization.Dynamic;
-import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.DynamicOps;
 import net.ashwork.codecable.Codecable;
-import net.ashwork.codecable.function.DataResultFunction;
+import net.ashwork.mc.codecable.primitive.IngredientCodec;
 import net.ashwork.mc.codecable.primitive.MinecraftWrapperCodec;
+import net.ashwork.mc.codecable.primitive.MutableComponentCodec;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.world.item.crafting.Ingredient;
 
-import java.util.Optional;
-
 /**
  * An extension of {@link Codecable} and its operations.
  *
@@ -37,28 +34,20 @@ public interface MinecraftCodecable<A> extends Codecable<A> {
     }
 
     /**
-     * A mutable component codec which uses JSON serialization to decode and encode
-     * the data.
-     * 
-     * @see Component.Serializer#fromJson(JsonElement)
-     * @see Component.Serializer#toJsonTree(Component)
+     * A mutable component codec which reads and writes the data directly with any
+     * {@link DynamicOps}, using the same format as {@link Component.Serializer}.
+     * Plain literals are encoded as a single string.
+     *
+     * @see MutableComponentCodec
      */
-    MinecraftCodecable<MutableComponent> MUTABLE_COMPONENT = wrap(Codec.PASSTHROUGH.flatXmap(
-            new DataResultFunction<>(d -> Optional.ofNullable(
-                    Component.Serializer.fromJson(d.convert(JsonOps.INSTANCE).getValue())
-            ).orElseThrow(() -> new IllegalStateException("Not a valid mutable component"))),
-            new DataResultFunction<>(c -> new Dynamic<>(JsonOps.INSTANCE, Component.Serializer.toJsonTree(c)))
-    ));
+    MinecraftCodecable<MutableComponent> MUTABLE_COMPONENT = new MutableComponentCodec();
 
     /**
-     * An ingredient codec which uses JSON serialization to decode and encode the
-     * data.
+     * An ingredient codec which reads and writes the item and tag values directly
+     * with any {@link DynamicOps}. When compressed, items are encoded as their raw
+     * registry ids.
      *
-     * @see Ingredient#fromJson(JsonElement)
-     * @see Ingredient#toJson()
+     * @see IngredientCodec
      */
-    MinecraftCodecable<Ingredient> INGREDIENT = wrap(Codec.PASSTHROUGH.flatXmap(
-            new DataResultFunction<>(d -> Ingredient.fromJson(d.convert(JsonOps.INSTANCE).getValue())),
-            new DataResultFunction<>(i -> new Dynamic<>(JsonOps.INSTANCE, i.toJson()))
-    ));
+    MinecraftCodecable<Ingredient> INGREDIENT = new IngredientCodec();
 }
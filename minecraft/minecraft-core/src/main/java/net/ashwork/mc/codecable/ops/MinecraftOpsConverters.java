@@ -0,0 +1,196 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.mc.codecable.ops;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mojang.serialization.Dynamic;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.JsonOps;
+import net.ashwork.codecable.ops.IterativeConverter;
+import net.ashwork.codecable.ops.OpsConverter;
+import net.ashwork.codecable.ops.OpsConverters;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.EndTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * The {@link OpsConverter}s between {@link JsonOps} and {@link NbtOps}. The
+ * converters are registered to {@link OpsConverters} once this class is
+ * initialized, which any of its conversion methods guarantee.
+ */
+public final class MinecraftOpsConverters {
+
+    /**
+     * A converter from {@link JsonOps} to {@link NbtOps}.
+     */
+    public static final OpsConverter<JsonElement, Tag> JSON_TO_NBT = new JsonToNbt();
+    /**
+     * A converter from {@link NbtOps} to {@link JsonOps}.
+     */
+    public static final OpsConverter<Tag, JsonElement> NBT_TO_JSON = new NbtToJson();
+
+    static {
+        for (final DynamicOps<JsonElement> json : List.of(JsonOps.INSTANCE, JsonOps.COMPRESSED)) {
+            OpsConverters.register(json, NbtOps.INSTANCE, JSON_TO_NBT);
+            OpsConverters.register(NbtOps.INSTANCE, json, NBT_TO_JSON);
+        }
+    }
+
+    /**
+     * Default constructor.
+     */
+    private MinecraftOpsConverters() {
+        throw new AssertionError("MinecraftOpsConverters should not be initialized");
+    }
+
+    /**
+     * Converts a value between two ops, with the converters of this class
+     * registered.
+     *
+     * @apiNote
+     * The converters are only registered once this class is initialized, so
+     * conversions between {@link JsonOps} and {@link NbtOps} should be made
+     * through this method rather than {@link OpsConverters} directly.
+     *
+     * @param from the ops to convert from
+     * @param to the ops to convert to
+     * @param input the value to convert
+     * @param <T> the type of the format to convert from
+     * @param <U> the type of the format to convert to
+     * @return the converted value, which may share values with the input
+     * @see OpsConverters#convert(DynamicOps, DynamicOps, Object)
+     */
+    public static <T, U> U convert(final DynamicOps<T> from, final DynamicOps<U> to, final T input) {
+        return OpsConverters.convert(from, to, input);
+    }
+
+    /**
+     * Converts the value of a dynamic to JSON, with the converters of this class
+     * registered.
+     *
+     * @param dynamic the dynamic holding the value to convert
+     * @param <T> the type of the format to convert from
+     * @return the value as JSON, which may be the value itself if it is already
+     *         JSON
+     * @see OpsConverters#convert(Dynamic, DynamicOps)
+     */
+    public static <T> JsonElement toJson(final Dynamic<T> dynamic) {
+        return OpsConverters.convert(dynamic, JsonOps.INSTANCE);
+    }
+
+    /**
+     * A converter from {@link JsonOps} to {@link NbtOps}.
+     *
+     * @implNote
+     * {@link NbtOps} chooses the type of a list from its first element, so only
+     * lists starting with a list or map are filled in iteratively. All other
+     * lists are converted by {@link JsonOps#convertTo(DynamicOps, JsonElement)}.
+     */
+    private static final class JsonToNbt extends IterativeConverter<JsonElement, Tag> {
+
+        @Override
+        protected Kind kindOf(final JsonElement input) {
+            if (input instanceof JsonObject) return Kind.MAP;
+            if (input instanceof JsonArray array) {
+                if (array.size() == 0) return Kind.LIST;
+                final JsonElement first = array.get(0);
+                return first instanceof JsonObject || first instanceof JsonArray ? Kind.LIST : Kind.VALUE;
+            }
+            return Kind.VALUE;
+        }
+
+        @Override
+        protected Tag convertValue(final JsonElement input) {
+            return JsonOps.INSTANCE.convertTo(NbtOps.INSTANCE, input);
+        }
+
+        @Override
+        protected void forEachElement(final JsonElement list, final Consumer<JsonElement> action) {
+            list.getAsJsonArray().forEach(action);
+        }
+
+        @Override
+        protected void forEachEntry(final JsonElement map, final BiConsumer<String, JsonElement> action) {
+            map.getAsJsonObject().entrySet().forEach(entry -> action.accept(entry.getKey(), entry.getValue()));
+        }
+
+        @Override
+        protected Tag createList() {
+            return new ListTag();
+        }
+
+        @Override
+        protected void add(final Tag list, final Tag element) {
+            // Empty values are skipped, the same as NbtOps
+            if (element != EndTag.INSTANCE) ((ListTag) list).add(element);
+        }
+
+        @Override
+        protected Tag createMap() {
+            return new CompoundTag();
+        }
+
+        @Override
+        protected void put(final Tag map, final String key, final Tag value) {
+            ((CompoundTag) map).put(key, value);
+        }
+    }
+
+    /**
+     * A converter from {@link NbtOps} to {@link JsonOps}.
+     */
+    private static final class NbtToJson extends IterativeConverter<Tag, JsonElement> {
+
+        @Override
+        protected Kind kindOf(final Tag input) {
+            return input instanceof CompoundTag ? Kind.MAP : input instanceof ListTag ? Kind.LIST : Kind.VALUE;
+        }
+
+        @Override
+        protected JsonElement convertValue(final Tag input) {
+            return NbtOps.INSTANCE.convertTo(JsonOps.INSTANCE, input);
+        }
+
+        @Override
+        protected void forEachElement(final Tag list, final Consumer<Tag> action) {
+            ((ListTag) list).forEach(action);
+        }
+
+        @Override
+        protected void forEachEntry(final Tag map, final BiConsumer<String, Tag> action) {
+            final CompoundTag compound = (CompoundTag) map;
+            for (final String key : compound.getAllKeys()) action.accept(key, compound.get(key));
+        }
+
+        @Override
+        protected JsonElement createList() {
+            return new JsonArray();
+        }
+
+        @Override
+        protected void add(final JsonElement list, final JsonElement element) {
+            list.getAsJsonArray().add(element);
+        }
+
+        @Override
+        protected JsonElement createMap() {
+            return new JsonObject();
+        }
+
+        @Override
+        protected void put(final JsonElement map, final String key, final JsonElement value) {
+            map.getAsJsonObject().add(key, value);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.mc.codecable.primitive;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.Lifecycle;
+import com.mojang.serialization.codecs.PrimitiveCodec;
+import net.ashwork.mc.codecable.MinecraftCodecable;
+import net.ashwork.mc.codecable.ops.MinecraftOpsConverters;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * A codec for an {@link Ingredient} which reads and writes its values directly
+ * with any {@link DynamicOps}. An ingredient is either a single value or a list
+ * of values, where each value is {@code {"item": id}} or {@code {"tag": id}},
+ * the same as {@link Ingredient#fromJson(JsonElement)}. When compressed, an item
+ * is its raw registry id and a tag is its location prefixed with {@code #}.
+ *
+ * @apiNote
+ * Raw registry ids are only stable within a single session, so the compressed
+ * form should only be used for data which is not persisted, such as network
+ * synchronization.
+ *
+ * @implNote
+ * Vanilla only exposes the values of an ingredient through JSON. Ingredients of
+ * items or a single tag are created directly, while lists holding tags are
+ * created from a JSON array of just their values. Values are encoded from the
+ * objects returned by {@link Ingredient#toJson()}; any object which is neither an
+ * item nor a tag is converted as is.
+ */
+public final class IngredientCodec implements MinecraftCodecable<Ingredient>, PrimitiveCodec<Ingredient> {
+
+    /**
+     * The key of an item value.
+     */
+    private static final String ITEM = "item";
+    /**
+     * The key of a tag value.
+     */
+    private static final String TAG = "tag";
+    /**
+     * The prefix of a compressed tag value.
+     */
+    private static final String TAG_PREFIX = "#";
+
+    @Override
+    public <T> DataResult<Ingredient> read(final DynamicOps<T> ops, final T input) {
+        final DataResult<Stream<T>> list = ops.getStream(input);
+        if (list.result().isEmpty()) return this.readValue(ops, input).flatMap(value -> create(List.of(value)));
+
+        final List<Value> values = new ArrayList<>();
+        for (final Iterator<T> it = list.result().get().iterator(); it.hasNext();) {
+            final DataResult<Value> value = this.readValue(ops, it.next());
+            if (value.error().isPresent()) return DataResult.error(value.error().get().message());
+            values.add(value.result().orElseThrow());
+        }
+        return values.isEmpty()
+                ? DataResult.error("Item array cannot be empty, at least one item must be defined")
+                : create(values);
+    }
+
+    @Override
+    public <T> T write(final DynamicOps<T> ops, final Ingredient value) {
+        final JsonElement json = value.toJson();
+        if (!json.isJsonArray()) return this.writeValue(ops, json);
+
+        final List<T> values = new ArrayList<>();
+        json.getAsJsonArray().forEach(element -> values.add(this.writeValue(ops, element)));
+        return ops.createList(values.stream());
+    }
+
+    /**
+     * Reads a single value of an ingredient.
+     *
+     * @param ops the operations used to read the value
+     * @param input the encoded value
+     * @param <T> the type of the encoded value
+     * @return the value, or an error if the value is not an item or tag
+     */
+    private <T> DataResult<Value> readValue(final DynamicOps<T> ops, final T input) {
+        if (ops.compressMaps()) {
+            final DataResult<String> tag = ops.getStringValue(input);
+            if (tag.result().filter(s -> s.startsWith(TAG_PREFIX)).isPresent())
+                return tag.flatMap(s -> ResourceLocation.read(s.substring(TAG_PREFIX.length()))).map(Value::ofTag);
+            return ops.getNumberValue(input).map(Number::intValue).flatMap(id -> {
+                final Item item = Registry.ITEM.byId(id);
+                return item == Items.AIR ? DataResult.error("Unknown item id: " + id) : DataResult.success(Value.ofItem(item), Lifecycle.stable());
+            });
+        }
+
+        return ops.getMap(input).flatMap(map -> {
+            final T item = map.get(ITEM), tag = map.get(TAG);
+            if (item != null && tag != null) return DataResult.error("An ingredient entry is either a tag or an item, not both");
+            if (item != null) return readLocation(ops, item).flatMap(location -> Registry.ITEM.getOptional(location)
+                    .map(i -> i == Items.AIR ? DataResult.<Value>error("Invalid item: " + location) : DataResult.success(Value.ofItem(i), Lifecycle.stable()))
+                    .orElseGet(() -> DataResult.error("Unknown item '" + location + "'")));
+            if (tag != null) return readLocation(ops, tag).map(Value::ofTag);
+            return DataResult.error("An ingredient entry needs either a tag or an item");
+        });
+    }
+
+    /**
+     * Writes a single value of an ingredient.
+     *
+     * @param ops the operations used to write the value
+     * @param json the value as returned by {@link Ingredient#toJson()}
+     * @param <T> the type of the encoded value
+     * @return the encoded value
+     */
+    private <T> T writeValue(final DynamicOps<T> ops, final JsonElement json) {
+        if (json instanceof JsonObject object && object.size() == 1) {
+            if (object.has(ITEM)) {
+                final String item = object.get(ITEM).getAsString();
+                return ops.compressMaps()
+                        ? ops.createInt(Registry.ITEM.getId(Registry.ITEM.get(new ResourceLocation(item))))
+                        : ops.createMap(Map.of(ops.createString(ITEM), ops.createString(item)));
+            }
+            if (object.has(TAG)) {
+                final String tag = object.get(TAG).getAsString();
+                return ops.compressMaps()
+                        ? ops.createString(TAG_PREFIX + tag)
+                        : ops.createMap(Map.of(ops.createString(TAG), ops.createString(tag)));
+            }
+        }
+        return MinecraftOpsConverters.convert(JsonOps.INSTANCE, ops, json);
+    }
+
+    /**
+     * Reads a resource location.
+     *
+     * @param ops the operations used to read the location
+     * @param input the encoded location
+     * @param <T> the type of the encoded location
+     * @return the location, or an error if the input is not a valid location
+     */
+    private static <T> DataResult<ResourceLocation> readLocation(final DynamicOps<T> ops, final T input) {
+        return ops.getStringValue(input).flatMap(ResourceLocation::read);
+    }
+
+    /**
+     * Creates an ingredient from its values.
+     *
+     * @param values the values of the ingredient, which is not empty
+     * @return the ingredient, or an error if it could not be created
+     */
+    private static DataResult<Ingredient> create(final List<Value> values) {
+        // Step 1: Create ingredients of only items directly
+        if (values.stream().allMatch(value -> value.item() != null))
+            return DataResult.success(Ingredient.of(values.stream().map(Value::item).toArray(Item[]::new)), Lifecycle.stable());
+
+        // Step 2: Create ingredients of a single tag directly
+        if (values.size() == 1) return DataResult.success(Ingredient.of(values.get(0).tag()), Lifecycle.stable());
+
+        // Step 3: Create all other ingredients from their values
+        final JsonArray json = new JsonArray(values.size());
+        values.forEach(value -> json.add(value.toJson()));
+        try {
+            return DataResult.success(Ingredient.fromJson(json), Lifecycle.stable());
+        } catch (final JsonParseException e) {
+            return DataResult.error(e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Ingredient";
+    }
+
+    /**
+     * A single value of an ingredient.
+     *
+     * @param item the item of the value, or {@code null} if the value is a tag
+     * @param tag the tag of the value, or {@code null} if the value is an item
+     */
+    private record Value(@Nullable Item item, @Nullable TagKey<Item> tag) {
+
+        /**
+         * Creates an item value.
+         *
+         * @param item the item
+         * @return an item value
+         */
+        private static Value ofItem(final Item item) {
+            return new Value(item, null);
+        }
+
+        /**
+         * Creates a tag value.
+         *
+         * @param location the location of the tag
+         * @return a tag value
+         */
+        private static Value ofTag(final ResourceLocation location) {
+            return new Value(null, TagKey.create(Registry.ITEM_REGISTRY, location));
+        }
+
+        /**
+         * Returns the value as JSON.
+         *
+         * @return the value as JSON
+         */
+        private JsonObject toJson() {
+            final JsonObject json = new JsonObject();
+            if (this.item != null) json.addProperty(ITEM, Registry.ITEM.getKey(this.item).toString());
+            else json.addProperty(TAG, this.tag.location().toString());
+            return json;
+        }
+    }
+}
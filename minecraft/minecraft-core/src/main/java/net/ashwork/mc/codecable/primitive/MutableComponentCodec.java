@@ -0,0 +1,288 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.mc.codecable.primitive;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.Dynamic;
+import com.mojang.serialization.DynamicOps;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.Lifecycle;
+import com.mojang.serialization.MapLike;
+import com.mojang.serialization.codecs.PrimitiveCodec;
+import net.ashwork.mc.codecable.MinecraftCodecable;
+import net.ashwork.mc.codecable.ops.MinecraftOpsConverters;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.network.chat.Style;
+import net.minecraft.network.chat.TextComponent;
+import net.minecraft.network.chat.TranslatableComponent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * A codec for a {@link MutableComponent} which reads and writes the data
+ * directly with any {@link DynamicOps}, using the same format as
+ * {@link Component.Serializer}.
+ *
+ * <p>Plain literals are read from and written to a single string, and plain
+ * translatable components to {@code {"translate": key}}, without creating any
+ * intermediate objects. Literal and translatable components with a style,
+ * arguments, or siblings share the same reading and writing of those parts, with
+ * only the style itself going through {@link Style.Serializer}.
+ *
+ * @implNote
+ * All other kinds of components (e.g. scores, selectors, keybinds) are converted
+ * to JSON and handled by {@link Component.Serializer}.
+ */
+public final class MutableComponentCodec implements MinecraftCodecable<MutableComponent>, PrimitiveCodec<MutableComponent> {
+
+    /**
+     * The key of the text of a literal component.
+     */
+    private static final String TEXT = "text";
+    /**
+     * The key of the translation key of a translatable component.
+     */
+    private static final String TRANSLATE = "translate";
+    /**
+     * The key of the arguments of a translatable component.
+     */
+    private static final String WITH = "with";
+    /**
+     * The key of the siblings of a component.
+     */
+    private static final String EXTRA = "extra";
+    /**
+     * The keys of the style flags of a component.
+     */
+    private static final Set<String> STYLE_FLAGS = Set.of("bold", "italic", "underlined", "strikethrough", "obfuscated");
+    /**
+     * The serializer used to read and write styles.
+     */
+    private static final Gson STYLE_GSON = new GsonBuilder().registerTypeAdapter(Style.class, new Style.Serializer()).create();
+
+    @Override
+    public <T> DataResult<MutableComponent> read(final DynamicOps<T> ops, final T input) {
+        final DataResult<String> text = ops.getStringValue(input);
+        if (text.result().isPresent()) return DataResult.success(new TextComponent(text.result().get()), Lifecycle.stable());
+
+        final DataResult<MapLike<T>> map = ops.getMap(input);
+        if (map.result().isPresent()) return this.readMap(ops, input, map.result().get());
+
+        final DataResult<Stream<T>> list = ops.getStream(input);
+        if (list.result().isPresent()) return this.readList(ops, list.result().get()).flatMap(components -> {
+            if (components.isEmpty()) return DataResult.error("Unexpected empty array of components");
+            final MutableComponent component = components.get(0);
+            for (int i = 1; i < components.size(); i++) component.append(components.get(i));
+            return DataResult.success(component, Lifecycle.stable());
+        });
+
+        return readFallback(ops, input);
+    }
+
+    @Override
+    public <T> T write(final DynamicOps<T> ops, final MutableComponent value) {
+        final boolean plain = value.getStyle().isEmpty() && value.getSiblings().isEmpty();
+        if (value instanceof TextComponent text) {
+            if (plain) return ops.createString(text.getText());
+            return this.writeMap(ops, value, Pair.of(ops.createString(TEXT), ops.createString(text.getText())));
+        }
+        if (value instanceof TranslatableComponent translatable) {
+            final Pair<T, T> key = Pair.of(ops.createString(TRANSLATE), ops.createString(translatable.getKey()));
+            if (plain && translatable.getArgs().length == 0) return ops.createMap(Stream.of(key));
+
+            final List<T> args = new ArrayList<>(translatable.getArgs().length);
+            for (final Object arg : translatable.getArgs())
+                args.add(arg instanceof MutableComponent mutable ? this.write(ops, mutable)
+                        : arg instanceof Component component ? MinecraftOpsConverters.convert(JsonOps.INSTANCE, ops, Component.Serializer.toJsonTree(component))
+                        : ops.createString(String.valueOf(arg)));
+            return this.writeMap(ops, value, key, Pair.of(ops.createString(WITH), ops.createList(args.stream())));
+        }
+        return MinecraftOpsConverters.convert(JsonOps.INSTANCE, ops, Component.Serializer.toJsonTree(value));
+    }
+
+    /**
+     * Reads a component from a map.
+     *
+     * @param ops the operations used to read the component
+     * @param input the encoded component
+     * @param map the encoded component as a map
+     * @param <T> the type of the encoded component
+     * @return the component, or an error if the component could not be read
+     */
+    private <T> DataResult<MutableComponent> readMap(final DynamicOps<T> ops, final T input, final MapLike<T> map) {
+        // Step 1: Split the content from the style
+        String text = null, translate = null;
+        T with = null, extra = null;
+        JsonObject style = null;
+        for (final Iterator<Pair<T, T>> it = map.entries().iterator(); it.hasNext();) {
+            final Pair<T, T> entry = it.next();
+            final DataResult<String> key = ops.getStringValue(entry.getFirst());
+            if (key.result().isEmpty()) return DataResult.error("Component key is not a string: " + entry.getFirst());
+            switch (key.result().get()) {
+                case TEXT -> {
+                    final DataResult<String> value = ops.getStringValue(entry.getSecond());
+                    if (value.result().isEmpty()) return readFallback(ops, input);
+                    text = value.result().get();
+                }
+                case TRANSLATE -> {
+                    final DataResult<String> value = ops.getStringValue(entry.getSecond());
+                    if (value.result().isEmpty()) return readFallback(ops, input);
+                    translate = value.result().get();
+                }
+                case WITH -> with = entry.getSecond();
+                case EXTRA -> extra = entry.getSecond();
+                default -> {
+                    if (style == null) style = new JsonObject();
+                    style.add(key.result().get(), readStyleValue(ops, key.result().get(), entry.getSecond()));
+                }
+            }
+        }
+
+        // Step 2: Create the content, the same as the serializer
+        final DataResult<MutableComponent> content;
+        if (text != null) content = DataResult.success(new TextComponent(text), Lifecycle.stable());
+        else if (translate == null) return readFallback(ops, input);
+        else if (with == null) content = DataResult.success(new TranslatableComponent(translate), Lifecycle.stable());
+        else {
+            final String key = translate;
+            content = ops.getStream(with).flatMap(args -> this.readList(ops, args)).map(args -> {
+                final Object[] values = new Object[args.size()];
+                for (int i = 0; i < values.length; i++) {
+                    final MutableComponent arg = args.get(i);
+                    values[i] = arg instanceof TextComponent t && arg.getStyle().isEmpty() && arg.getSiblings().isEmpty() ? t.getText() : arg;
+                }
+                return new TranslatableComponent(key, values);
+            });
+        }
+
+        // Step 3: Append the siblings and apply the style
+        final T siblings = extra;
+        final JsonObject styleJson = style;
+        return content.flatMap(component -> siblings == null ? DataResult.success(component, Lifecycle.stable())
+                : ops.getStream(siblings).flatMap(s -> this.readList(ops, s)).flatMap(components -> {
+                    if (components.isEmpty()) return DataResult.error("Unexpected empty array of components");
+                    components.forEach(component::append);
+                    return DataResult.success(component, Lifecycle.stable());
+                })
+        ).flatMap(component -> styleJson == null ? DataResult.success(component, Lifecycle.stable())
+                : readStyle(styleJson).map(component::setStyle));
+    }
+
+    /**
+     * Reads each component within a list.
+     *
+     * @param ops the operations used to read the components
+     * @param input the encoded components
+     * @param <T> the type of the encoded components
+     * @return the components, or the first error found
+     */
+    private <T> DataResult<List<MutableComponent>> readList(final DynamicOps<T> ops, final Stream<T> input) {
+        final List<MutableComponent> components = new ArrayList<>();
+        for (final Iterator<T> it = input.iterator(); it.hasNext();) {
+            final DataResult<MutableComponent> component = this.read(ops, it.next());
+            if (component.error().isPresent()) return DataResult.error(component.error().get().message());
+            components.add(component.result().orElseThrow());
+        }
+        return DataResult.success(components, Lifecycle.stable());
+    }
+
+    /**
+     * Writes a literal or translatable component as a map.
+     *
+     * @param ops the operations used to write the component
+     * @param value the component to write
+     * @param content the entries holding the content of the component
+     * @param <T> the type of the encoded component
+     * @return the encoded component
+     */
+    @SafeVarargs
+    private <T> T writeMap(final DynamicOps<T> ops, final MutableComponent value, final Pair<T, T>... content) {
+        final List<Pair<T, T>> entries = new ArrayList<>(List.of(content));
+        if (!value.getStyle().isEmpty())
+            for (final Map.Entry<String, JsonElement> entry : STYLE_GSON.toJsonTree(value.getStyle()).getAsJsonObject().entrySet())
+                entries.add(Pair.of(ops.createString(entry.getKey()), MinecraftOpsConverters.convert(JsonOps.INSTANCE, ops, entry.getValue())));
+        if (!value.getSiblings().isEmpty()) {
+            final List<T> siblings = new ArrayList<>(value.getSiblings().size());
+            for (final Component sibling : value.getSiblings())
+                siblings.add(sibling instanceof MutableComponent mutable ? this.write(ops, mutable)
+                        : MinecraftOpsConverters.convert(JsonOps.INSTANCE, ops, Component.Serializer.toJsonTree(sibling)));
+            entries.add(Pair.of(ops.createString(EXTRA), ops.createList(siblings.stream())));
+        }
+        return ops.createMap(entries.stream());
+    }
+
+    /**
+     * Reads a single entry of the style of a component as JSON.
+     *
+     * @implNote
+     * Flags are read as booleans, as formats such as NBT store them as numbers,
+     * which {@link Style.Serializer} would otherwise read as {@code false}.
+     *
+     * @param ops the operations used to read the value
+     * @param key the key of the entry
+     * @param value the encoded value of the entry
+     * @param <T> the type of the encoded value
+     * @return the value as JSON
+     */
+    private static <T> JsonElement readStyleValue(final DynamicOps<T> ops, final String key, final T value) {
+        if (STYLE_FLAGS.contains(key)) {
+            final DataResult<Boolean> flag = ops.getBooleanValue(value);
+            if (flag.result().isPresent()) return new JsonPrimitive(flag.result().get());
+        }
+        return MinecraftOpsConverters.convert(ops, JsonOps.INSTANCE, value);
+    }
+
+    /**
+     * Reads the style of a component.
+     *
+     * @param json the style entries of the component
+     * @return the style, or an error if the style is malformed
+     */
+    private static DataResult<Style> readStyle(final JsonObject json) {
+        try {
+            final Style style = STYLE_GSON.fromJson(json, Style.class);
+            return DataResult.success(style == null ? Style.EMPTY : style, Lifecycle.stable());
+        } catch (final JsonParseException e) {
+            return DataResult.error("Malformed component style: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads a component by converting it to JSON.
+     *
+     * @param ops the operations used to read the component
+     * @param input the encoded component
+     * @param <T> the type of the encoded component
+     * @return the component, or an error if the component could not be read
+     */
+    private static <T> DataResult<MutableComponent> readFallback(final DynamicOps<T> ops, final T input) {
+        try {
+            @Nullable final MutableComponent component = Component.Serializer.fromJson(MinecraftOpsConverters.toJson(new Dynamic<>(ops, input)));
+            return component == null ? DataResult.error("Not a valid mutable component: " + input) : DataResult.success(component, Lifecycle.stable());
+        } catch (final JsonParseException e) {
+            return DataResult.error("Not a valid mutable component: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MutableComponent";
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Codecable - ChampionAsh5357
+ * SPDX-License-Identifier: MIT
+ */
+
+package net.ashwork.mc.codecable.transform;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.Decoder;
+import com.mojang.serialization.Encoder;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.crafting.Recipe;
+
+import java.util.function.Function;
+
+/**
+ * A {@link RecipeCodec} whose encoders and decoders are built once, independent
+ * of the recipe identifier. The identifier is injected into the decoded result
+ * instead of being captured when building the codec.
+ *
+ * @implNote
+ * The codec for an identifier only wraps the shared encoder and decoder, such
+ * that no codec graph is rebuilt per recipe.
+ *
+ * @param <T> the type of the recipe
+ */
+public final class IdInjectingRecipeCodec<T extends Recipe<?>> implements RecipeCodec<T> {
+
+    private final Encoder<T> encoder, networkEncoder;
+    private final Decoder<Function<ResourceLocation, T>> decoder, networkDecoder;
+
+    /**
+     * Default constructor.
+     *
+     * @param encoder the encoder of the recipe for reading from file
+     * @param decoder a decoder of a function which creates the recipe from its
+     *                identifier for reading from file
+     * @param networkEncoder the encoder of the recipe for sending across the
+     *                       network
+     * @param networkDecoder a decoder of a function which creates the recipe from
+     *                       its identifier for sending across the network
+     */
+    public IdInjectingRecipeCodec(final Encoder<T> encoder, final Decoder<Function<ResourceLocation, T>> decoder,
+                                  final Encoder<T> networkEncoder, final Decoder<Function<ResourceLocation, T>> networkDecoder) {
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.networkEncoder = networkEncoder;
+        this.networkDecoder = networkDecoder;
+    }
+
+    @Override
+    public Codec<T> codec(final ResourceLocation recipeId) {
+        return inject(this.encoder, this.decoder, recipeId);
+    }
+
+    @Override
+    public Codec<T> networkCodec(final ResourceLocation recipeId) {
+        return inject(this.networkEncoder, this.networkDecoder, recipeId);
+    }
+
+    /**
+     * Creates a codec which injects the recipe identifier into the decoded
+     * result.
+     *
+     * @param encoder the encoder of the recipe
+     * @param decoder a decoder of a function which creates the recipe from its
+     *                identifier
+     * @param recipeId the name of the recipe
+     * @param <T> the type of the recipe
+     * @return a recipe codec
+     */
+    private static <T> Codec<T> inject(final Encoder<T> encoder, final Decoder<Function<ResourceLocation, T>> decoder, final ResourceLocation recipeId) {
+        return Codec.of(encoder, decoder.map(factory -> factory.apply(recipeId)));
+    }
+
+    @Override
+    public String toString() {
+        return "IdInjectingRecipeCodec[" + this.decoder + ']';
+    }
+}
@@ -8,28 +8,87 @@ package net.ashwork.mc.codecable.transform;
 import com.google.gson.JsonObject;
 import com.mojang.logging.LogUtils;
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.Decoder;
+import com.mojang.serialization.Encoder;
 import com.mojang.serialization.JsonOps;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+import net.ashwork.codecable.ops.BinaryFormat;
+import net.ashwork.codecable.ops.BinaryOps;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 
 import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
 
 /**
  * An implementation of {@link RecipeSerializer} which uses a codec to encode and
  * decode the data.
  *
+ * <p>Recipes sent across the network are encoded with
+ * {@link BinaryOps#COMPRESSED} and written directly to the buffer in the format
+ * of {@link BinaryFormat}. Maps are compressed to lists without their keys,
+ * numbers are written as varints, and registry entries as their raw ids.
+ *
  * @param <T> the type of the recipe
  */
 public interface RecipeCodec<T extends Recipe<?>> extends RecipeSerializer<T> {
 
+    /**
+     * Creates a recipe codec whose encoder and decoder are built once and shared
+     * by every recipe. The recipe identifier is injected into the decoded result.
+     *
+     * @apiNote
+     * This should be preferred over implementing {@link #codec(ResourceLocation)}
+     * directly, which is called for every recipe read or sent.
+     *
+     * @param encoder the encoder of the recipe, which does not encode the recipe
+     *                identifier
+     * @param decoder a decoder of a function which creates the recipe from its
+     *                identifier
+     * @param <T> the type of the recipe
+     * @return a recipe codec
+     */
+    static <T extends Recipe<?>> RecipeCodec<T> of(final Encoder<T> encoder, final Decoder<Function<ResourceLocation, T>> decoder) {
+        return of(encoder, decoder, encoder, decoder);
+    }
+
+    /**
+     * Creates a recipe codec whose encoders and decoders are built once and
+     * shared by every recipe. The recipe identifier is injected into the decoded
+     * result.
+     *
+     * @param encoder the encoder of the recipe for reading from file, which does
+     *                not encode the recipe identifier
+     * @param decoder a decoder of a function which creates the recipe from its
+     *                identifier for reading from file
+     * @param networkEncoder the encoder of the recipe for sending across the
+     *                       network, which does not encode the recipe identifier
+     * @param networkDecoder a decoder of a function which creates the recipe from
+     *                       its identifier for sending across the network
+     * @param <T> the type of the recipe
+     * @return a recipe codec
+     */
+    static <T extends Recipe<?>> RecipeCodec<T> of(final Encoder<T> encoder, final Decoder<Function<ResourceLocation, T>> decoder,
+                                                   final Encoder<T> networkEncoder, final Decoder<Function<ResourceLocation, T>> networkDecoder) {
+        return new IdInjectingRecipeCodec<>(encoder, decoder, networkEncoder, networkDecoder);
+    }
+
     /**
      * Returns the recipe codec for reading from file that does not encode or
      * decode the recipe identifier.
      *
+     * @implSpec
+     * This is called for every recipe read, so the codec graph should not be
+     * rebuilt on each call.
+     *
      * @param recipeId the name of the recipe
      * @return a recipe codec
+     *
+     * @see #of(Encoder, Decoder)
      */
     Codec<T> codec(final ResourceLocation recipeId);
 
@@ -57,11 +116,21 @@ public interface RecipeCodec<T extends Recipe<?>> extends RecipeSerializer<T> {
     @Nonnull
     @Override
     default T fromNetwork(final @Nonnull ResourceLocation recipeId, final FriendlyByteBuf buffer) {
-        return buffer.readWithCodec(this.networkCodec(recipeId));
+        // Step 1: Read the data from the readable bytes without copying them
+        final ByteBuffer bytes = buffer.nioBuffer();
+        final int start = bytes.position();
+        final Object data = BinaryFormat.read(bytes)
+                .getOrThrow(false, e -> { throw new DecoderException("Cannot read " + recipeId + ": " + e); });
+        buffer.skipBytes(bytes.position() - start);
+
+        // Step 2: Decode the recipe
+        return this.networkCodec(recipeId).parse(BinaryOps.COMPRESSED, data)
+                .getOrThrow(false, e -> { throw new DecoderException("Cannot decode " + recipeId + ": " + e); });
     }
 
     @Override
     default void toNetwork(final FriendlyByteBuf buffer, final @Nonnull T recipe) {
-        buffer.writeWithCodec(this.networkCodec(recipe.getId()), recipe);
+        buffer.writeBytes(BinaryFormat.encode(BinaryOps.COMPRESSED, this.networkCodec(recipe.getId()), recipe)
+                .getOrThrow(false, e -> { throw new EncoderException("Cannot encode " + recipe.getId() + ": " + e); }));
     }
 }
@@ -7,9 +7,11 @@ package net.ashwork.mc.codecable.test;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.JsonOps;
 import net.ashwork.mc.codecable.MinecraftCodecable;
+import net.minecraft.ChatFormatting;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.nbt.Tag;
@@ -72,4 +74,25 @@ public final class ComponentTest {
         Assertions.assertThrows(RuntimeException.class, () -> codec.parse(JsonOps.INSTANCE, new JsonObject()).getOrThrow(false, System.out::println));
         Assertions.assertThrows(RuntimeException.class, () -> codec.parse(NbtOps.INSTANCE, new CompoundTag()).getOrThrow(false, System.out::println));
     }
+
+    /**
+     * Tests {@link MinecraftCodecable#MUTABLE_COMPONENT} with styles, arguments,
+     * and siblings.
+     */
+    @Test
+    public void mutableComponentParts() {
+        final Codec<MutableComponent> codec = MinecraftCodecable.MUTABLE_COMPONENT;
+        final MutableComponent component = new TranslatableComponent("test.args", "plain", new TextComponent("styled").withStyle(ChatFormatting.RED))
+                .append(new TextComponent("sibling").withStyle(ChatFormatting.BOLD))
+                .withStyle(ChatFormatting.ITALIC);
+
+        final JsonElement json = codec.encodeStart(JsonOps.INSTANCE, component).getOrThrow(false, Assertions::fail);
+        Assertions.assertEquals(component, codec.parse(JsonOps.INSTANCE, json).getOrThrow(false, Assertions::fail));
+        final Tag nbt = codec.encodeStart(NbtOps.INSTANCE, component).getOrThrow(false, Assertions::fail);
+        Assertions.assertEquals(component, codec.parse(NbtOps.INSTANCE, nbt).getOrThrow(false, Assertions::fail));
+
+        // Plain literals are a single string
+        Assertions.assertEquals(new JsonPrimitive("test"), codec.encodeStart(JsonOps.INSTANCE, new TextComponent("test")).getOrThrow(false, Assertions::fail));
+        Assertions.assertEquals(new TextComponent("test"), codec.parse(JsonOps.INSTANCE, new JsonPrimitive("test")).getOrThrow(false, Assertions::fail));
+    }
 }
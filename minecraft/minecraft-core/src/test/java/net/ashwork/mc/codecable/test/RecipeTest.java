@@ -6,20 +6,30 @@
 package net.ashwork.mc.codecable.test;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.JsonOps;
+import io.netty.buffer.Unpooled;
 import net.ashwork.mc.codecable.MinecraftCodecable;
+import net.ashwork.mc.codecable.transform.RecipeCodec;
 import net.minecraft.DetectedVersion;
 import net.minecraft.SharedConstants;
+import net.minecraft.core.NonNullList;
 import net.minecraft.core.Registry;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.Bootstrap;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.ShapelessRecipe;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 
 /**
  * A test utility for recipe codecs.
@@ -54,4 +64,74 @@ public final class RecipeTest {
                 Assertions.assertTrue(ItemStack.isSameItemSameTags(stacks[i], r[i]));
         });
     }
+
+    /**
+     * Tests {@link MinecraftCodecable#INGREDIENT} with tags, compressed data, and
+     * malformed data.
+     */
+    @Test
+    public void ingredientValues() {
+        final Codec<Ingredient> codec = MinecraftCodecable.INGREDIENT;
+        for (final String json : List.of("{\"tag\":\"minecraft:logs\"}", "[{\"item\":\"minecraft:stone\"},{\"tag\":\"minecraft:logs\"}]")) {
+            final JsonElement expected = JsonParser.parseString(json);
+            final Ingredient ingredient = codec.parse(JsonOps.INSTANCE, expected).getOrThrow(false, Assertions::fail);
+            Assertions.assertEquals(expected, codec.encodeStart(JsonOps.INSTANCE, ingredient).getOrThrow(false, Assertions::fail));
+        }
+
+        final JsonElement compressed = codec.encodeStart(JsonOps.COMPRESSED, Ingredient.of(Items.STONE, Items.DIRT)).getOrThrow(false, Assertions::fail);
+        Assertions.assertEquals(JsonParser.parseString("[" + Registry.ITEM.getId(Items.STONE) + "," + Registry.ITEM.getId(Items.DIRT) + "]"), compressed);
+        final ItemStack[] items = codec.parse(JsonOps.COMPRESSED, compressed).getOrThrow(false, Assertions::fail).getItems();
+        Assertions.assertEquals(List.of(Items.STONE, Items.DIRT), List.of(items[0].getItem(), items[1].getItem()));
+
+        for (final String json : List.of("[]", "{}", "{\"item\":\"minecraft:air\"}", "{\"item\":\"minecraft:stone\",\"tag\":\"minecraft:logs\"}"))
+            Assertions.assertTrue(codec.parse(JsonOps.INSTANCE, JsonParser.parseString(json)).error().isPresent());
+    }
+
+    /**
+     * Tests that {@link RecipeCodec#of(com.mojang.serialization.Encoder, com.mojang.serialization.Decoder)}
+     * injects the recipe identifier into a shared codec.
+     */
+    @Test
+    public void injectedId() {
+        final RecipeCodec<ShapelessRecipe> serializer = RecipeCodec.of(
+                ItemStack.CODEC.<ShapelessRecipe>comap(ShapelessRecipe::getResultItem),
+                ItemStack.CODEC.<Function<ResourceLocation, ShapelessRecipe>>map(stack -> id -> new ShapelessRecipe(id, "", stack, NonNullList.of(Ingredient.EMPTY, Ingredient.of(Items.STONE))))
+        );
+
+        for (final String path : List.of("first", "second")) {
+            final ResourceLocation id = new ResourceLocation("test", path);
+            final ShapelessRecipe recipe = serializer.fromJson(id, JsonParser.parseString("{\"id\":\"minecraft:dirt\",\"Count\":2}").getAsJsonObject());
+            Assertions.assertEquals(id, recipe.getId());
+            Assertions.assertTrue(ItemStack.matches(new ItemStack(Items.DIRT, 2), recipe.getResultItem()));
+        }
+    }
+
+    /**
+     * Tests that recipes are sent across the network in binary rather than as
+     * NBT.
+     */
+    @Test
+    public void network() {
+        final RecipeCodec<ShapelessRecipe> serializer = RecipeCodec.of(
+                ItemStack.CODEC.<ShapelessRecipe>comap(ShapelessRecipe::getResultItem),
+                ItemStack.CODEC.<Function<ResourceLocation, ShapelessRecipe>>map(stack -> id -> new ShapelessRecipe(id, "", stack, NonNullList.of(Ingredient.EMPTY, Ingredient.of(Items.STONE))))
+        );
+        final ResourceLocation id = new ResourceLocation("test", "network");
+        final ShapelessRecipe recipe = new ShapelessRecipe(id, "", new ItemStack(Items.DIRT, 2), NonNullList.of(Ingredient.EMPTY, Ingredient.of(Items.STONE)));
+
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        serializer.toNetwork(buffer, recipe);
+        buffer.writeVarInt(42);
+        final int size = buffer.writerIndex();
+
+        final ShapelessRecipe read = serializer.fromNetwork(id, buffer);
+        Assertions.assertEquals(id, read.getId());
+        Assertions.assertTrue(ItemStack.matches(recipe.getResultItem(), read.getResultItem()));
+        Assertions.assertEquals(42, buffer.readVarInt());
+
+        // The binary form is smaller than the NBT form
+        final FriendlyByteBuf nbt = new FriendlyByteBuf(Unpooled.buffer());
+        nbt.writeWithCodec(ItemStack.CODEC, recipe.getResultItem());
+        Assertions.assertTrue(size - 1 < nbt.writerIndex());
+    }
 }
@@ -7,6 +7,7 @@ pluginManagement {
         id("org.cadixdev.licenser") version (extra["licenser.version"] as String)
         id("org.spongepowered.gradle.vanilla") version (extra["vanilla.gradle.version"] as String)
         id("fabric-loom") version (extra["loom.version"] as String)
+        id("me.champeau.jmh") version (extra["jmh.gradle.version"] as String)
     }
 
     resolutionStrategy.eachPlugin {
@@ -45,6 +46,7 @@ internal val projectNames: Map<String, List<String>> = mapOf(
 
 // Add Project Builds
 include(extra["core.id"] as String)
+include(extra["benchmarks.id"] as String)
 projectNames.forEach { (key, values) ->
     values.forEach {
         include("${key}:${key}-${it}")